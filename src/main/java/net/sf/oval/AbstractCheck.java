@@ -18,6 +18,8 @@ import java.util.Map;
 
 import net.sf.oval.context.OValContext;
 import net.sf.oval.expression.ExpressionLanguage;
+import net.sf.oval.internal.PlannedCheck;
+import net.sf.oval.internal.util.ArrayUtils;
 import net.sf.oval.internal.util.StringUtils;
 
 /**
@@ -28,6 +30,8 @@ import net.sf.oval.internal.util.StringUtils;
 public abstract class AbstractCheck implements Check {
    private static final long serialVersionUID = 1L;
 
+   private static final Runnable[] NO_LISTENERS = {};
+
    private OValContext context;
    private String errorCode;
    private String message;
@@ -42,6 +46,62 @@ public abstract class AbstractCheck implements Check {
    private transient String whenFormula;
    private transient String whenLang;
 
+   /**
+    * the pre-resolved <code>appliesTo</code>, <code>profiles</code> and <code>target</code> configuration of this check, reset when any
+    * of them is modified
+    */
+   private transient volatile PlannedCheck plannedCheck;
+
+   /**
+    * notified when the <code>appliesTo</code>, <code>profiles</code> or <code>target</code> configuration is modified, copy-on-write,
+    * <code>null</code> after deserialization
+    */
+   private transient volatile Runnable[] configurationListeners = NO_LISTENERS;
+
+   private void _onPlanRelevantConfigurationChanged() {
+      plannedCheck = null;
+      final Runnable[] listeners = configurationListeners;
+      if (listeners != null) {
+         for (final Runnable listener : listeners) {
+            listener.run();
+         }
+      }
+   }
+
+   /**
+    * Registers a listener that is notified whenever the <code>appliesTo</code>, <code>profiles</code> or <code>target</code>
+    * configuration of this check is modified. Used by the class checks holding this check to outdate pre-compiled validation plans.
+    * Registering the same listener instance more than once has no effect.
+    *
+    * @since 3.1
+    */
+   public synchronized void addConfigurationListener(final Runnable listener) {
+      final Runnable[] listeners = configurationListeners == null ? NO_LISTENERS : configurationListeners;
+      if (!ArrayUtils.containsSame(listeners, listener)) {
+         configurationListeners = ArrayUtils.concat(listeners, new Runnable[] {listener});
+      }
+   }
+
+   /**
+    * Unregisters a listener registered via {@link #addConfigurationListener(Runnable)}.
+    *
+    * @since 3.1
+    */
+   public synchronized void removeConfigurationListener(final Runnable listener) {
+      final Runnable[] listeners = configurationListeners;
+      if (listeners == null || !ArrayUtils.containsSame(listeners, listener))
+         return;
+
+      final Runnable[] remaining = new Runnable[listeners.length - 1];
+      int i = 0;
+      for (final Runnable l : listeners) {
+         if (l != listener) {
+            remaining[i++] = l;
+         }
+      }
+      configurationListeners = remaining.length == 0 ? NO_LISTENERS : remaining;
+   }
+
    protected Map<String, ? extends Serializable> createMessageVariables() {
       return null;
    }
@@ -82,6 +142,21 @@ public abstract class AbstractCheck implements Check {
       return errorCode;
    }
 
+   /**
+    * @return the pre-resolved <code>appliesTo</code>, <code>profiles</code> and <code>target</code> configuration of this check used by
+    *         the validator
+    * @since 3.1
+    */
+   public PlannedCheck getPlannedCheck() {
+      PlannedCheck result = plannedCheck;
+      if (result == null) {
+         // concurrent calls may create more than one instance, which is harmless since they are equal
+         result = new PlannedCheck(this);
+         plannedCheck = result;
+      }
+      return result;
+   }
+
    @Override
    public String getMessage() {
       /*
@@ -172,6 +247,7 @@ public abstract class AbstractCheck implements Check {
    @Override
    public void setAppliesTo(final ConstraintTarget... targets) {
       appliesTo = targets;
+      _onPlanRelevantConfigurationChanged();
    }
 
    @Override
@@ -192,6 +268,7 @@ public abstract class AbstractCheck implements Check {
    @Override
    public void setProfiles(final String... profiles) {
       this.profiles = profiles;
+      _onPlanRelevantConfigurationChanged();
    }
 
    @Override
@@ -202,6 +279,7 @@ public abstract class AbstractCheck implements Check {
    @Override
    public void setTarget(final String target) {
       this.target = target;
+      _onPlanRelevantConfigurationChanged();
    }
 
    @Override
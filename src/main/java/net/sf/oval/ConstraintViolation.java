@@ -15,11 +15,13 @@ import java.util.Arrays;
 import java.util.List;
 import java.util.ListIterator;
 import java.util.Map;
+import java.util.function.Function;
 
 import net.sf.oval.context.IterableElementContext;
 import net.sf.oval.context.MapKeyContext;
 import net.sf.oval.context.MapValueContext;
 import net.sf.oval.context.OValContext;
+import net.sf.oval.internal.ContextPath;
 import net.sf.oval.internal.Log;
 import net.sf.oval.internal.util.Assert;
 import net.sf.oval.internal.util.CollectionUtils;
@@ -48,10 +50,38 @@ public class ConstraintViolation implements Serializable {
    private transient Object invalidValue;
    private final List<OValContext> contextPath;
 
-   private final String message;
+   /**
+    * the rendered message, lazily initialized by {@link #getMessage()} if {@link #messageRenderer} is set
+    */
+   private volatile String message;
+
+   /**
+    * renders the message on first access, is discarded once the message was rendered
+    */
+   private transient volatile Function<ConstraintViolation, String> messageRenderer;
+
    private final String messageTemplate;
    private final Map<String, ? extends Serializable> messageVariables;
 
+   /**
+    * Creates a constraint violation whose message is rendered on first access.
+    *
+    * @param messageRenderer renders the message based on the given violation, is invoked at most once, typically when {@link #getMessage()} is
+    *           called for the first time
+    * @since 3.1
+    */
+   public ConstraintViolation( //
+      final Check check, //
+      final Function<ConstraintViolation, String> messageRenderer, //
+      final Object validatedObject, //
+      final Object invalidValue, //
+      final List<OValContext> invalidValuePath //
+   ) {
+      this(check, (String) null, validatedObject, invalidValue, invalidValuePath, (ConstraintViolation[]) null);
+      Assert.argumentNotNull("messageRenderer", messageRenderer);
+      this.messageRenderer = messageRenderer;
+   }
+
    /**
     * @since 3.1
     */
@@ -84,7 +114,8 @@ public class ConstraintViolation implements Serializable {
       severity = check.getSeverity();
       this.validatedObject = validatedObject;
       this.invalidValue = invalidValue;
-      contextPath = CollectionUtils.clone(invalidValuePath);
+      // persistent context paths are immutable and can be shared
+      contextPath = invalidValuePath instanceof ContextPath ? invalidValuePath : CollectionUtils.clone(invalidValuePath);
       this.causes = causes != null && causes.length == 0 ? null : causes;
    }
 
@@ -214,7 +245,17 @@ public class ConstraintViolation implements Serializable {
     * @return the localized and rendered message
     */
    public String getMessage() {
-      return message;
+      String msg = message;
+      if (msg == null) {
+         final Function<ConstraintViolation, String> renderer = messageRenderer;
+         if (renderer == null)
+            // either no message or rendered concurrently
+            return message;
+         msg = renderer.apply(this);
+         message = msg;
+         messageRenderer = null;
+      }
+      return msg;
    }
 
    /**
@@ -254,13 +295,16 @@ public class ConstraintViolation implements Serializable {
 
    @Override
    public String toString() {
-      return getClass().getName() + ": " + message;
+      return getClass().getName() + ": " + getMessage();
    }
 
    /**
     * @see Serializable
     */
    private void writeObject(final java.io.ObjectOutputStream out) throws IOException {
+      // the message renderer is not serializable, thus the message must be rendered before
+      getMessage();
+
       out.defaultWriteObject();
 
       if (validatedObject instanceof Serializable) {
@@ -0,0 +1,28 @@
+/*********************************************************************
+ * Copyright 2005-2020 by Sebastian Thomschke and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *********************************************************************/
+package net.sf.oval;
+
+import net.sf.oval.context.OValContext;
+
+/**
+ * Marker interface for checks whose {@link #isSatisfied(Object, Object, OValContext, Validator)} method does not evaluate the given
+ * context.
+ *
+ * When such a check is applied to the elements of a collection, map or array the {@link Validator} does not create a context for each
+ * element but only for the elements violating the constraint. The context passed to the check is then the context of the container.
+ *
+ * The marker only applies to the {@link #isSatisfied(Object, Object, OValContext, Validator)} implementation of the class implementing
+ * this interface. Sub classes overriding the method receive the context of each element unless they implement this interface again.
+ *
+ * @author Sebastian Thomschke
+ * @since 3.1
+ */
+public interface ContextIndependentCheck extends Check {
+}
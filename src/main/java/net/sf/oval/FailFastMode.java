@@ -0,0 +1,90 @@
+/*********************************************************************
+ * Copyright 2005-2020 by Sebastian Thomschke and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *********************************************************************/
+package net.sf.oval;
+
+import net.sf.oval.internal.util.Assert;
+
+/**
+ * Specifies when a validation shall be aborted because enough constraint violations have been found.
+ *
+ * Once aborted, the remaining fields, getters, object level constraints and objects referenced via <code>@AssertValid</code> are not
+ * validated anymore.
+ *
+ * @author Sebastian Thomschke
+ * @since 3.1
+ */
+public final class FailFastMode {
+
+   /**
+    * all constraints are validated
+    */
+   public static final FailFastMode DISABLED = new FailFastMode(0, Integer.MAX_VALUE);
+
+   /**
+    * the validation is aborted after the first constraint violation
+    */
+   public static final FailFastMode FIRST_VIOLATION = new FailFastMode(1, Integer.MAX_VALUE);
+
+   /**
+    * @param maxViolations the number of constraint violations after which the validation is aborted
+    * @throws IllegalArgumentException if <code>maxViolations &lt; 1</code>
+    */
+   public static FailFastMode afterViolations(final int maxViolations) throws IllegalArgumentException {
+      Assert.argumentMinValue("maxViolations", maxViolations, 1);
+      return maxViolations == 1 ? FIRST_VIOLATION : new FailFastMode(maxViolations, Integer.MAX_VALUE);
+   }
+
+   /**
+    * @param minSeverity the validation is aborted after the first constraint violation with a severity equal or higher than the given value
+    */
+   public static FailFastMode onSeverity(final int minSeverity) {
+      return new FailFastMode(0, minSeverity);
+   }
+
+   /**
+    * 0 = unlimited
+    */
+   private final int maxViolations;
+   private final int minSeverity;
+
+   private FailFastMode(final int maxViolations, final int minSeverity) {
+      this.maxViolations = maxViolations;
+      this.minSeverity = minSeverity;
+   }
+
+   /**
+    * @return the number of constraint violations after which the validation is aborted, <code>0</code> if not limited
+    */
+   public int getMaxViolations() {
+      return maxViolations;
+   }
+
+   /**
+    * @return the severity of a constraint violation that aborts the validation, {@link Integer#MAX_VALUE} if not limited
+    */
+   public int getMinSeverity() {
+      return minSeverity;
+   }
+
+   /**
+    * @param violationCount the number of constraint violations found so far including the given violation
+    * @param violation the most recently found constraint violation
+    */
+   public boolean isAbortRequired(final int violationCount, final ConstraintViolation violation) {
+      if (maxViolations > 0 && violationCount >= maxViolations)
+         return true;
+      return minSeverity != Integer.MAX_VALUE && violation.getSeverity() >= minSeverity;
+   }
+
+   @Override
+   public String toString() {
+      return getClass().getSimpleName() + "[maxViolations=" + maxViolations + ", minSeverity=" + minSeverity + "]";
+   }
+}
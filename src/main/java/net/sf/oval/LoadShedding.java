@@ -0,0 +1,154 @@
+/*********************************************************************
+ * Copyright 2005-2020 by Sebastian Thomschke and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *********************************************************************/
+package net.sf.oval;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import net.sf.oval.internal.util.Assert;
+
+/**
+ * Specifies when a validator degrades to validating only the critical constraints, i.e. the constraints with a severity equal or higher
+ * than a given minimum severity, e.g. to keep the latency of request threads bounded during traffic spikes.
+ *
+ * Whether constraints are skipped is decided once at the beginning of each validation based on a pressure signal, which is either a
+ * custom callback, the number of concurrently running validations or the moving average of the validation latency of the validator.
+ *
+ * Objects referenced via <code>@AssertValid</code> and the checks applied via <code>@Constraints</code>, <code>@AssertConstraintSet</code>
+ * or <code>@AssertFieldConstraints</code> are still traversed, their checks are subject to the minimum severity.
+ *
+ * An instance tracks the validations of the validator it is configured for and must not be shared between validators.
+ *
+ * @author Sebastian Thomschke
+ * @since 3.1
+ */
+public final class LoadShedding {
+
+   /**
+    * weight of the latest latency in the exponential moving average, 1/2^LATENCY_SMOOTHING_SHIFT
+    */
+   private static final int LATENCY_SMOOTHING_SHIFT = 3;
+
+   /**
+    * @param maxLatency the average latency above which constraints with a lower severity than the given one are skipped
+    * @param minSeverity the minimum severity of constraints validated while the average latency is exceeded
+    * @throws IllegalArgumentException if <code>maxLatency &lt; 1</code> or <code>unit == null</code>
+    */
+   public static LoadShedding onAverageLatency(final long maxLatency, final TimeUnit unit, final int minSeverity) throws IllegalArgumentException {
+      Assert.argumentMinValue("maxLatency", maxLatency, 1);
+      Assert.argumentNotNull("unit", unit);
+      return new LoadShedding(null, 0, unit.toNanos(maxLatency), minSeverity);
+   }
+
+   /**
+    * @param maxConcurrentValidations the number of concurrently running validations above which constraints with a lower severity than
+    *           the given one are skipped
+    * @param minSeverity the minimum severity of constraints validated while the number of concurrent validations is exceeded
+    * @throws IllegalArgumentException if <code>maxConcurrentValidations &lt; 1</code>
+    */
+   public static LoadShedding onConcurrentValidations(final int maxConcurrentValidations, final int minSeverity) throws IllegalArgumentException {
+      Assert.argumentMinValue("maxConcurrentValidations", maxConcurrentValidations, 1);
+      return new LoadShedding(null, maxConcurrentValidations, 0, minSeverity);
+   }
+
+   /**
+    * @param signal returns <code>true</code> if constraints with a lower severity than the given one shall be skipped, must be fast and
+    *           thread-safe
+    * @param minSeverity the minimum severity of constraints validated while the signal is raised
+    * @throws IllegalArgumentException if <code>signal == null</code>
+    */
+   public static LoadShedding onSignal(final BooleanSupplier signal, final int minSeverity) throws IllegalArgumentException {
+      Assert.argumentNotNull("signal", signal);
+      return new LoadShedding(signal, 0, 0, minSeverity);
+   }
+
+   private final BooleanSupplier signal;
+   private final int maxConcurrentValidations;
+   private final long maxLatencyNanos;
+   private final int minSeverity;
+
+   private final AtomicInteger concurrentValidations = new AtomicInteger();
+
+   /**
+    * exponential moving average of the validation latency, updated without synchronization as lost updates are negligible
+    */
+   private volatile long averageLatencyNanos;
+
+   private LoadShedding(final BooleanSupplier signal, final int maxConcurrentValidations, final long maxLatencyNanos, final int minSeverity) {
+      this.signal = signal;
+      this.maxConcurrentValidations = maxConcurrentValidations;
+      this.maxLatencyNanos = maxLatencyNanos;
+      this.minSeverity = minSeverity;
+   }
+
+   /**
+    * @return the moving average of the validation latency in nanoseconds, <code>0</code> if not tracked
+    */
+   public long getAverageLatencyNanos() {
+      return averageLatencyNanos;
+   }
+
+   /**
+    * @return the number of currently running validations, <code>0</code> if not tracked
+    */
+   public int getConcurrentValidations() {
+      return concurrentValidations.get();
+   }
+
+   /**
+    * @return the minimum severity of the constraints validated while shedding load
+    */
+   public int getMinSeverity() {
+      return minSeverity;
+   }
+
+   /**
+    * @return <code>true</code> if the pressure signal is currently raised and constraints with a lower severity than
+    *         {@link #getMinSeverity()} are skipped by validations started now
+    */
+   public boolean isShedding() {
+      if (signal != null)
+         return signal.getAsBoolean();
+      if (maxConcurrentValidations > 0)
+         return concurrentValidations.get() > maxConcurrentValidations;
+      return averageLatencyNanos > maxLatencyNanos;
+   }
+
+   /**
+    * @param startNanos the value returned by {@link #onValidationStarted()}
+    */
+   void onValidationFinished(final long startNanos) {
+      if (maxConcurrentValidations > 0) {
+         concurrentValidations.decrementAndGet();
+      } else if (maxLatencyNanos > 0) {
+         final long latency = System.nanoTime() - startNanos;
+         final long average = averageLatencyNanos;
+         averageLatencyNanos = average + (latency - average >> LATENCY_SMOOTHING_SHIFT);
+      }
+   }
+
+   /**
+    * @return the {@link System#nanoTime()} if the latency is tracked, <code>0</code> otherwise
+    */
+   long onValidationStarted() {
+      if (maxConcurrentValidations > 0) {
+         concurrentValidations.incrementAndGet();
+         return 0;
+      }
+      return maxLatencyNanos > 0 ? System.nanoTime() : 0;
+   }
+
+   @Override
+   public String toString() {
+      return getClass().getSimpleName() + "[maxConcurrentValidations=" + maxConcurrentValidations + ", maxLatencyNanos=" + maxLatencyNanos
+         + ", minSeverity=" + minSeverity + "]";
+   }
+}
@@ -0,0 +1,46 @@
+/*********************************************************************
+ * Copyright 2005-2020 by Sebastian Thomschke and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *********************************************************************/
+package net.sf.oval;
+
+import net.sf.oval.context.OValContext;
+import net.sf.oval.exception.OValException;
+
+/**
+ * Interface for checks that can validate primitive numeric values without boxing them.
+ *
+ * The {@link Validator} uses these methods to validate the elements of <code>byte[]</code>, <code>short[]</code>, <code>int[]</code>,
+ * <code>long[]</code> and <code>double[]</code> arrays. Implementations must return the same result as
+ * {@link #isSatisfied(Object, Object, OValContext, Validator)} would for the corresponding boxed value. Checks with a <code>when</code>
+ * expression, overriding {@link AbstractCheck#isActive(Object, Object, Validator)} or declaring
+ * {@link #isSatisfied(Object, Object, OValContext, Validator)} in another class than the primitive <code>isSatisfied</code> methods, e.g.
+ * sub classes of the built-in checks only overriding the former, are always evaluated for the boxed values.
+ *
+ * @author Sebastian Thomschke
+ * @since 3.1
+ */
+public interface PrimitiveValueCheck extends Check {
+
+   /**
+    * @param validatedObject the object/bean to validate the value against
+    * @param valueToValidate the value to validate, the widened element of a <code>byte[]</code>, <code>short[]</code>, <code>int[]</code>
+    *           or <code>long[]</code> array
+    * @param context the context of the array holding the value
+    * @return true if the value satisfies the checked constraint
+    */
+   boolean isSatisfied(Object validatedObject, long valueToValidate, OValContext context, Validator validator) throws OValException;
+
+   /**
+    * @param validatedObject the object/bean to validate the value against
+    * @param valueToValidate the value to validate, the element of a <code>double[]</code> array
+    * @param context the context of the array holding the value
+    * @return true if the value satisfies the checked constraint
+    */
+   boolean isSatisfied(Object validatedObject, double valueToValidate, OValContext context, Validator validator) throws OValException;
+}
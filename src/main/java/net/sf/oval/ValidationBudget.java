@@ -0,0 +1,106 @@
+/*********************************************************************
+ * Copyright 2005-2020 by Sebastian Thomschke and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *********************************************************************/
+package net.sf.oval;
+
+import java.util.concurrent.TimeUnit;
+
+import net.sf.oval.exception.ValidationBudgetExceededException;
+import net.sf.oval.internal.util.Assert;
+
+/**
+ * Limits the time and the number of constraint checks a single validation may spend, e.g. to bound the latency of request threads.
+ *
+ * Every evaluation of a check counts against the budget, including the evaluations for the elements of collections, maps and arrays.
+ * Once the budget is exhausted the validation is aborted like in fail fast mode and a {@link ValidationBudgetExceededException}
+ * containing the constraint violations found so far is thrown.
+ *
+ * @author Sebastian Thomschke
+ * @since 3.1
+ */
+public final class ValidationBudget {
+
+   /**
+    * the validation is neither limited in time nor in the number of checks
+    */
+   public static final ValidationBudget UNLIMITED = new ValidationBudget(0, 0);
+
+   /**
+    * @param maxChecks the maximum number of check evaluations
+    * @throws IllegalArgumentException if <code>maxChecks &lt; 1</code>
+    */
+   public static ValidationBudget ofChecks(final long maxChecks) throws IllegalArgumentException {
+      return UNLIMITED.withMaxChecks(maxChecks);
+   }
+
+   /**
+    * @param timeout the maximum time the validation may take
+    * @throws IllegalArgumentException if <code>timeout &lt; 1</code> or <code>unit == null</code>
+    */
+   public static ValidationBudget ofTime(final long timeout, final TimeUnit unit) throws IllegalArgumentException {
+      return UNLIMITED.withTimeout(timeout, unit);
+   }
+
+   /**
+    * 0 = unlimited
+    */
+   private final long maxChecks;
+
+   /**
+    * 0 = unlimited
+    */
+   private final long timeoutNanos;
+
+   private ValidationBudget(final long maxChecks, final long timeoutNanos) {
+      this.maxChecks = maxChecks;
+      this.timeoutNanos = timeoutNanos;
+   }
+
+   /**
+    * @return the maximum number of check evaluations, <code>0</code> if not limited
+    */
+   public long getMaxChecks() {
+      return maxChecks;
+   }
+
+   /**
+    * @return the maximum time in nanoseconds the validation may take, <code>0</code> if not limited
+    */
+   public long getTimeoutNanos() {
+      return timeoutNanos;
+   }
+
+   public boolean isUnlimited() {
+      return maxChecks == 0 && timeoutNanos == 0;
+   }
+
+   /**
+    * @return a budget with the time limit of this budget and the given maximum number of check evaluations
+    * @throws IllegalArgumentException if <code>maxChecks &lt; 1</code>
+    */
+   public ValidationBudget withMaxChecks(final long maxChecks) throws IllegalArgumentException {
+      Assert.argumentMinValue("maxChecks", maxChecks, 1);
+      return new ValidationBudget(maxChecks, timeoutNanos);
+   }
+
+   /**
+    * @return a budget with the check limit of this budget and the given time limit
+    * @throws IllegalArgumentException if <code>timeout &lt; 1</code> or <code>unit == null</code>
+    */
+   public ValidationBudget withTimeout(final long timeout, final TimeUnit unit) throws IllegalArgumentException {
+      Assert.argumentMinValue("timeout", timeout, 1);
+      Assert.argumentNotNull("unit", unit);
+      return new ValidationBudget(maxChecks, unit.toNanos(timeout));
+   }
+
+   @Override
+   public String toString() {
+      return getClass().getSimpleName() + "[maxChecks=" + maxChecks + ", timeoutNanos=" + timeoutNanos + "]";
+   }
+}
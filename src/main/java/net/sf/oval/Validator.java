@@ -14,16 +14,30 @@ import static java.lang.Boolean.*;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.ArrayDeque;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentMap;
-
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import net.sf.oval.accessor.ValueAccessorFactory;
+import net.sf.oval.accessor.ValueAccessorFactoryMethodHandleImpl;
 import net.sf.oval.collection.CollectionFactory;
 import net.sf.oval.collection.CollectionFactoryJDKImpl;
 import net.sf.oval.collection.CollectionFactoryJavolutionImpl;
@@ -64,17 +78,21 @@ import net.sf.oval.exception.MethodNotFoundException;
 import net.sf.oval.exception.OValException;
 import net.sf.oval.exception.ReflectionException;
 import net.sf.oval.exception.UndefinedConstraintSetException;
+import net.sf.oval.exception.ValidationBudgetExceededException;
 import net.sf.oval.exception.ValidationFailedException;
 import net.sf.oval.expression.ExpressionLanguageRegistry;
 import net.sf.oval.guard.ParameterNameResolver;
 import net.sf.oval.guard.ParameterNameResolverEnumerationImpl;
 import net.sf.oval.internal.ClassChecks;
+import net.sf.oval.internal.ContextPath;
 import net.sf.oval.internal.ContextCache;
 import net.sf.oval.internal.Log;
 import net.sf.oval.internal.MessageRenderer;
+import net.sf.oval.internal.PlannedCheck;
+import net.sf.oval.internal.ProfileRegistry;
+import net.sf.oval.internal.ValidationPlan;
 import net.sf.oval.internal.util.ArrayUtils;
 import net.sf.oval.internal.util.Assert;
-import net.sf.oval.internal.util.CollectionUtils;
 import net.sf.oval.internal.util.IdentityHashSet;
 import net.sf.oval.internal.util.ReflectionUtils;
 import net.sf.oval.internal.util.StringUtils;
@@ -137,31 +155,445 @@ public class Validator implements IValidator {
     */
    protected static final class ValidationCycle {
       public String[] profiles;
+
+      /**
+       * bitmask of the profiles enabled for this cycle, only used if {@link #profiles} is not <code>null</code>
+       *
+       * @since 3.1
+       */
+      public long profilesMask;
+
+      /**
+       * the objects validated by this cycle, a cycle created via {@link #fork()} only holds the objects validated by itself, use
+       * {@link #addValidatedObject(Object)} and {@link #isValidatedObject(Object)} to take the objects of the forking cycle into account
+       */
       public IdentityHashSet<Object> validatedObjects = new IdentityHashSet<>(4);
+
+      /**
+       * the cycle this cycle was created from via {@link #fork()}, <code>null</code> otherwise
+       */
+      private ValidationCycle forkedFrom;
+
+      /**
+       * the objects of the object graph validated by this cycle together with the violations they caused, only recorded by cycles created
+       * via {@link #fork()} to drop the results of objects that were also validated by a preceding forked cycle when joining
+       */
+      private List<GraphObjectViolations> graphObjectViolations;
+
       public final Object primaryValidatedObject;
       public List<ConstraintViolation> violations = Collections.emptyList();
-      public List<OValContext> contextPath = collectionFactory.createList(4);
+      /**
+       * the path to the currently validated value, replaced (not modified) while traversing the object graph
+       */
+      public ContextPath contextPath = ContextPath.EMPTY;
+
+      /**
+       * number of {@link net.sf.oval.constraint.AssertValid} references followed from the primary validated object to the currently
+       * validated object
+       *
+       * @since 3.1
+       */
+      public int depth;
+
+      /**
+       * receives the objects referenced by the currently validated object while a traversal of the object graph is in progress,
+       * <code>null</code> otherwise
+       */
+      private List<ReferencedObject> referencedObjects;
+
+      /**
+       * @since 3.1
+       */
+      public FailFastMode failFastMode = FailFastMode.DISABLED;
+
+      /**
+       * indicates that the fail fast condition has been met and no further constraints shall be validated
+       *
+       * @since 3.1
+       */
+      public boolean isAborted;
+
+      /**
+       * if <code>true</code> the cycle only determines if the validated object is valid, no constraint violation objects are created and
+       * the cycle is aborted on the first violation
+       *
+       * @since 3.1
+       */
+      public boolean isCheckOnly;
+
+      /**
+       * indicates that a constraint violation was detected while {@link #isCheckOnly} is <code>true</code>
+       *
+       * @since 3.1
+       */
+      public boolean isInvalid;
+
+      /**
+       * indicates that the cycle was aborted because its {@link ValidationBudget} has been exhausted
+       *
+       * @since 3.1
+       */
+      public boolean isBudgetExhausted;
+
+      /**
+       * checks with a lower severity are skipped because the validator is shedding load, see {@link LoadShedding}
+       *
+       * @since 3.1
+       */
+      public int minSeverity = Integer.MIN_VALUE;
+
+      /**
+       * the load shedding configuration tracking this cycle, <code>null</code> if the cycle is not tracked
+       */
+      private LoadShedding trackingLoadShedding;
+      private long startNanos;
+
+      /**
+       * number of check evaluations left, shared with forked cycles, <code>null</code> if not limited
+       */
+      private AtomicLong remainingChecks;
+
+      /**
+       * {@link System#nanoTime()} based deadline, only used if {@link #hasDeadline} is <code>true</code>
+       */
+      private long deadline;
+      private boolean hasDeadline;
 
       public ValidationCycle(final Object primaryValidatedObject, final String[] profiles) {
          this.profiles = profiles;
+         if (profiles != null) {
+            for (final String profile : profiles) {
+               profilesMask |= ProfileRegistry.getBit(profile);
+            }
+         }
          this.primaryValidatedObject = primaryValidatedObject;
       }
 
+      /**
+       * Adds the given object to the validated objects of this cycle.
+       *
+       * @return <code>false</code> if the object has already been validated by this cycle or by the cycle it was forked from
+       * @since 3.1
+       */
+      public boolean addValidatedObject(final Object object) {
+         if (forkedFrom != null && forkedFrom.isValidatedObject(object))
+            return false;
+         return validatedObjects.add(object);
+      }
+
+      /**
+       * @since 3.1
+       */
+      public boolean isValidatedObject(final Object object) {
+         return validatedObjects.contains(object) || forkedFrom != null && forkedFrom.isValidatedObject(object);
+      }
+
+      /**
+       * Creates a cycle to validate a part of the object graph of this cycle in another thread. The new cycle uses the same configuration
+       * and context path as this cycle. It sees the objects validated by this cycle so far but records the objects it validates itself
+       * separately, thus this cycle must not be modified until the forked cycles have been joined.
+       *
+       * An object referenced from several forked cycles is validated by each of them. When the forked cycles are joined via
+       * {@link #join(ValidationCycle)} in the order of the validated elements, only the results of the first cycle validating the object
+       * are kept, so the reported violations and context paths do not depend on the scheduling of the forked cycles.
+       *
+       * @since 3.1
+       */
+      public ValidationCycle fork() {
+         final ValidationCycle fork = new ValidationCycle(primaryValidatedObject, profiles);
+         fork.forkedFrom = this;
+         fork.graphObjectViolations = collectionFactory.createList(4);
+         fork.contextPath = contextPath;
+         fork.depth = depth;
+         fork.failFastMode = failFastMode;
+         fork.isCheckOnly = isCheckOnly;
+         fork.minSeverity = minSeverity;
+         fork.remainingChecks = remainingChecks;
+         fork.deadline = deadline;
+         fork.hasDeadline = hasDeadline;
+         return fork;
+      }
+
+      /**
+       * Adds the results of a cycle created via {@link #fork()} to this cycle. The results of objects that have already been validated by
+       * this cycle, e.g. by a preceding forked cycle joined before, are dropped.
+       *
+       * @since 3.1
+       */
+      public void join(final ValidationCycle fork) {
+         if (fork.isInvalid) {
+            markInvalid();
+            return;
+         }
+
+         final List<ConstraintViolation> forkViolations = fork.violations;
+         // number of kept violations preceding each violation of the fork, null if all violations are kept
+         int[] keptBefore = null;
+         if (fork.graphObjectViolations != null) {
+            boolean[] isDropped = null;
+            for (final GraphObjectViolations graphObject : fork.graphObjectViolations) {
+               if (graphObject.from < graphObject.to && isValidatedObject(graphObject.object)) {
+                  if (isDropped == null) {
+                     isDropped = new boolean[forkViolations.size()];
+                  }
+                  Arrays.fill(isDropped, graphObject.from, graphObject.to, true);
+               }
+            }
+            if (isDropped != null) {
+               keptBefore = new int[forkViolations.size() + 1];
+               final List<ConstraintViolation> keptViolations = collectionFactory.createList(forkViolations.size());
+               for (int i = 0; i < isDropped.length; i++) {
+                  keptBefore[i] = keptViolations.size();
+                  if (!isDropped[i]) {
+                     keptViolations.add(forkViolations.get(i));
+                  }
+               }
+               keptBefore[isDropped.length] = keptViolations.size();
+               fork.violations = keptViolations;
+            }
+
+            if (graphObjectViolations != null) {
+               final int offset = violations.size();
+               for (final GraphObjectViolations graphObject : fork.graphObjectViolations) {
+                  if (!isValidatedObject(graphObject.object)) {
+                     graphObjectViolations.add(keptBefore == null //
+                        ? new GraphObjectViolations(graphObject.object, offset + graphObject.from, offset + graphObject.to)
+                        : new GraphObjectViolations(graphObject.object, offset + keptBefore[graphObject.from], offset + keptBefore[graphObject.to]));
+                  }
+               }
+            }
+         }
+         validatedObjects.addAll(fork.validatedObjects);
+         addViolations(fork.violations);
+         if (fork.isBudgetExhausted) {
+            isBudgetExhausted = true;
+            isAborted = true;
+         }
+      }
+
       public void addViolation(final ConstraintViolation violation) {
+         if (isCheckOnly) {
+            markInvalid();
+            return;
+         }
+         if (isAborted)
+            return;
          if (violations.isEmpty()) {
             violations = collectionFactory.createList();
          }
          violations.add(violation);
+         if (failFastMode.isAbortRequired(violations.size(), violation)) {
+            isAborted = true;
+         }
       }
 
       public void addViolations(final List<ConstraintViolation> violations) {
          if (violations.isEmpty())
             return;
+         if (isCheckOnly) {
+            markInvalid();
+            return;
+         }
+         if (failFastMode != FailFastMode.DISABLED) {
+            for (final ConstraintViolation violation : violations) {
+               addViolation(violation);
+            }
+            return;
+         }
          if (this.violations.isEmpty()) {
             this.violations = collectionFactory.createList();
          }
          this.violations.addAll(violations);
       }
+
+      /**
+       * Counts a check evaluation against the budget of this cycle and aborts the cycle if the budget is exhausted.
+       *
+       * @return <code>false</code> if the budget is exhausted and the check must not be evaluated
+       * @since 3.1
+       */
+      public boolean consumeBudget() {
+         if (remainingChecks == null && !hasDeadline)
+            return true;
+         if (isBudgetExhausted)
+            return false;
+         if (remainingChecks != null && remainingChecks.decrementAndGet() < 0 || hasDeadline && System.nanoTime() - deadline > 0) {
+            isBudgetExhausted = true;
+            isAborted = true;
+            return false;
+         }
+         return true;
+      }
+
+      /**
+       * Starts the given budget for the checks evaluated from now on by this cycle.
+       *
+       * @since 3.1
+       */
+      public void startBudget(final ValidationBudget budget) {
+         remainingChecks = budget.getMaxChecks() == 0 ? null : new AtomicLong(budget.getMaxChecks());
+         hasDeadline = budget.getTimeoutNanos() > 0;
+         deadline = hasDeadline ? System.nanoTime() + budget.getTimeoutNanos() : 0;
+         isBudgetExhausted = false;
+      }
+
+      /**
+       * @throws ValidationBudgetExceededException if the cycle was aborted because its budget has been exhausted
+       * @since 3.1
+       */
+      public void assertBudgetNotExhausted() throws ValidationBudgetExceededException {
+         if (isBudgetExhausted)
+            throw new ValidationBudgetExceededException("Validation budget exhausted. Validated object: " + primaryValidatedObject, violations);
+      }
+
+      /**
+       * Marks the validated object as invalid without recording any violation details and aborts the cycle.
+       *
+       * @since 3.1
+       */
+      public void markInvalid() {
+         isInvalid = true;
+         isAborted = true;
+      }
+   }
+
+   /**
+    * Creates the context of a container element.
+    */
+   @FunctionalInterface
+   private interface ElementContextFactory {
+      OValContext createContext(int index, Object key);
+   }
+
+   /**
+    * An object referenced via {@link net.sf.oval.constraint.AssertValid} that is waiting to be validated, together with the context path
+    * and depth it was reached with.
+    */
+   private static final class ReferencedObject {
+      final Object object;
+      final ContextPath contextPath;
+      final int depth;
+
+      ReferencedObject(final Object object, final ContextPath contextPath, final int depth) {
+         this.object = object;
+         this.contextPath = contextPath;
+         this.depth = depth;
+      }
+   }
+
+   /**
+    * An object of the object graph validated by a forked {@link ValidationCycle} together with the range of the violations of the cycle
+    * that were reported while validating the object.
+    */
+   private static final class GraphObjectViolations {
+      final Object object;
+      final int from;
+      final int to;
+
+      GraphObjectViolations(final Object object, final int from, final int to) {
+         this.object = object;
+         this.from = from;
+         this.to = to;
+      }
+   }
+
+   /**
+    * Validates a range of the elements of a container, splitting it into sub tasks as long as it exceeds the configured chunk size.
+    * Each range is validated in a cycle forked from the cycle validating the container, the results are joined in index order.
+    */
+   private final class ValidateElementsTask extends RecursiveTask<ValidationCycle> {
+      private static final long serialVersionUID = 1L;
+
+      private final PlannedCheck plannedCheck;
+      private final Object validatedObject;
+      private final Object[] elements;
+      private final Object[] keys;
+      private final OValContext containerContext;
+      private final ElementContextFactory contextFactory;
+      private final ValidationCycle containerCycle;
+      private final int from;
+      private final int to;
+      private final int chunkSize;
+
+      ValidateElementsTask(final PlannedCheck plannedCheck, final Object validatedObject, final Object[] elements, final Object[] keys,
+         final OValContext containerContext, final ElementContextFactory contextFactory, final ValidationCycle containerCycle, final int from,
+         final int to, final int chunkSize) {
+         this.plannedCheck = plannedCheck;
+         this.validatedObject = validatedObject;
+         this.elements = elements;
+         this.keys = keys;
+         this.containerContext = containerContext;
+         this.contextFactory = contextFactory;
+         this.containerCycle = containerCycle;
+         this.from = from;
+         this.to = to;
+         this.chunkSize = chunkSize;
+      }
+
+      @Override
+      protected ValidationCycle compute() {
+         if (to - from <= chunkSize) {
+            final ValidationCycle cycle = containerCycle.fork();
+            final LinkedList<ValidationCycle> cycles = currentValidationCycles.get();
+            cycles.add(cycle);
+            try {
+               for (int i = from; i < to && !cycle.isAborted; i++) {
+                  _checkConstraintElement(plannedCheck, validatedObject, elements[i], containerContext, contextFactory, i, keys == null ? null
+                     : keys[i], cycle);
+               }
+            } finally {
+               cycles.removeLast();
+               if (cycles.isEmpty()) {
+                  currentValidationCycles.remove();
+               }
+            }
+            return cycle;
+         }
+
+         final int middle = from + to >>> 1;
+         final ValidateElementsTask head = new ValidateElementsTask(plannedCheck, validatedObject, elements, keys, containerContext,
+            contextFactory, containerCycle, from, middle, chunkSize);
+         head.fork();
+         final ValidationCycle tailResult = new ValidateElementsTask(plannedCheck, validatedObject, elements, keys, containerContext,
+            contextFactory, containerCycle, middle, to, chunkSize).compute();
+         final ValidationCycle result = head.join();
+         result.join(tailResult);
+         return result;
+      }
+   }
+
+   /**
+    * Validates a range of a batch of objects, splitting it into sub tasks as long as it exceeds the configured chunk size.
+    * Each range is validated in its own {@link ValidationCycle} on the executing worker thread.
+    */
+   private final class ValidateAllTask extends RecursiveTask<SortedMap<Integer, List<ConstraintViolation>>> {
+      private static final long serialVersionUID = 1L;
+
+      private final Object[] validatedObjects;
+      private final int from;
+      private final int to;
+      private final int chunkSize;
+
+      ValidateAllTask(final Object[] validatedObjects, final int from, final int to, final int chunkSize) {
+         this.validatedObjects = validatedObjects;
+         this.from = from;
+         this.to = to;
+         this.chunkSize = chunkSize;
+      }
+
+      @Override
+      protected SortedMap<Integer, List<ConstraintViolation>> compute() {
+         if (to - from <= chunkSize)
+            return _validateAll(validatedObjects, from, to);
+
+         final int middle = from + to >>> 1;
+         final ValidateAllTask head = new ValidateAllTask(validatedObjects, from, middle, chunkSize);
+         head.fork();
+         final SortedMap<Integer, List<ConstraintViolation>> tailResult = new ValidateAllTask(validatedObjects, middle, to, chunkSize).compute();
+         final SortedMap<Integer, List<ConstraintViolation>> result = head.join();
+         result.putAll(tailResult);
+         return result;
+      }
    }
 
    private static final Log LOG = Log.getLog(Validator.class);
@@ -172,6 +604,12 @@ public class Validator implements IValidator {
    private static MessageResolver messageResolver;
    private static MessageValueFormatter messageValueFormatter = ToStringMessageValueFormatter.INSTANCE;
 
+   /**
+    * the locale captured when a constraint violation occurred, set while its message is lazily rendered
+    */
+   private static final ThreadLocal<Locale> renderingLocale = new ThreadLocal<>();
+   private static ValueAccessorFactory valueAccessorFactory = ValueAccessorFactoryMethodHandleImpl.INSTANCE;
+
    private static CollectionFactory _createDefaultCollectionFactory() {
       // if Javolution collection classes are found use them by default
       if (ReflectionUtils.isClassPresent("javolution.util.FastMap") && //
@@ -226,6 +664,13 @@ public class Validator implements IValidator {
       return messageValueFormatter;
    }
 
+   /**
+    * @since 3.1
+    */
+   public static ValueAccessorFactory getValueAccessorFactory() {
+      return valueAccessorFactory;
+   }
+
    /**
     * @param factory the new collection factory to be used by all Validator instances
     */
@@ -262,7 +707,17 @@ public class Validator implements IValidator {
       Validator.messageValueFormatter = formatter;
    }
 
+   /**
+    * @param factory the new value accessor factory to be used by all Validator instances to read field values and getter return values
+    * @since 3.1
+    */
+   public static void setValueAccessorFactory(final ValueAccessorFactory factory) throws IllegalArgumentException {
+      Assert.argumentNotNull("factory", factory);
+      Validator.valueAccessorFactory = factory;
+   }
+
    private final ConcurrentMap<Class<?>, ClassChecks> checksByClass = collectionFactory.createConcurrentMap();
+   private final ConcurrentMap<Class<?>, ValidationPlan> validationPlansByClass = collectionFactory.createConcurrentMap();
    private final Set<Configurer> configurers = new LinkedHashSet<>(4);
    private final Map<String, ConstraintSet> constraintSetsById = collectionFactory.createConcurrentMap(4);
 
@@ -276,6 +731,41 @@ public class Validator implements IValidator {
    private final Set<String> enabledProfiles = collectionFactory.createSet();
    private boolean isAllProfilesEnabledByDefault = true;
 
+   /**
+    * bitmask of the globally enabled profiles, see {@link ProfileRegistry}
+    */
+   private volatile long enabledProfilesMask = ProfileRegistry.ALL;
+
+   private FailFastMode failFastMode = FailFastMode.DISABLED;
+
+   private ValidationBudget validationBudget = ValidationBudget.UNLIMITED;
+
+   /**
+    * <code>null</code> if load shedding is disabled
+    */
+   private volatile LoadShedding loadShedding;
+
+   /**
+    * maximum number of {@link net.sf.oval.constraint.AssertValid} references followed from the validated object, <code>0</code> if
+    * unlimited
+    */
+   private int maxAssertValidDepth;
+
+   /**
+    * the pool used by {@link #validateAll(Object[])}, <code>null</code> for the common pool
+    */
+   private ForkJoinPool parallelValidationPool;
+
+   /**
+    * minimum number of elements a container must exceed to validate its elements in parallel, <code>0</code> if disabled
+    */
+   private int parallelElementValidationThreshold;
+
+   /**
+    * maximum number of objects validated sequentially by a single fork/join task
+    */
+   private int parallelValidationChunkSize = 256;
+
    /**
     * Flag that indicates any configuration method related to profiles was called.
     * Used for performance improvements.
@@ -286,6 +776,12 @@ public class Validator implements IValidator {
 
    protected final DelegatingParameterNameResolver parameterNameResolver = new DelegatingParameterNameResolver(new ParameterNameResolverEnumerationImpl());
 
+   /**
+    * <code>true</code> if a subclass overrides {@link #checkConstraint(Check, Object, Object, OValContext, ValidationCycle, boolean)}, in
+    * which case checks of the pre-compiled validation plans are validated through it
+    */
+   private final boolean isCheckConstraintOverridden = _isCheckConstraintOverridden();
+
    /**
     * Constructs a new instance and uses a new instance of AnnotationsConfigurer
     */
@@ -382,7 +878,7 @@ public class Validator implements IValidator {
                }
 
                if (TRUE.equals(ctorCfg.postCheckInvariants)) {
-                  cc.methodsWithCheckInvariantsPost.add(ctor);
+                  cc.addMethodWithCheckInvariantsPost(ctor);
                }
 
                final String[] paramNames = parameterNameResolver.getParameterNames(ctor);
@@ -502,7 +998,7 @@ public class Validator implements IValidator {
                }
 
                if (TRUE.equals(methodCfg.preCheckInvariants)) {
-                  cc.methodsWithCheckInvariantsPre.add(method);
+                  cc.addMethodWithCheckInvariantsPre(method);
                }
 
                /*
@@ -519,7 +1015,7 @@ public class Validator implements IValidator {
                }
 
                if (TRUE.equals(methodCfg.postCheckInvariants)) {
-                  cc.methodsWithCheckInvariantsPost.add(method);
+                  cc.addMethodWithCheckInvariantsPost(method);
                }
 
                /*
@@ -543,6 +1039,69 @@ public class Validator implements IValidator {
       }
    }
 
+   /**
+    * Records a violation of a container element, the element context is only created if a violation object is created.
+    */
+   private void _addElementViolation(final Check check, final Object invalidValue, final ElementContextFactory contextFactory, final int index,
+      final Object key, final ValidationCycle cycle) {
+      if (cycle.isCheckOnly) {
+         cycle.markInvalid();
+         return;
+      }
+      final ContextPath contextPathBefore = cycle.contextPath;
+      cycle.contextPath = contextPathBefore.append(contextFactory.createContext(index, key));
+      try {
+         _addViolation(check, invalidValue, cycle);
+      } finally {
+         cycle.contextPath = contextPathBefore;
+      }
+   }
+
+   private void _addViolation(final Check check, final Object invalidValue, final ValidationCycle cycle) {
+      if (cycle.isCheckOnly) {
+         cycle.markInvalid();
+         return;
+      }
+      // render the message on first access using the locale active at the time of the violation
+      final Locale locale = localeProvider.getLocale();
+      cycle.addViolation(new ConstraintViolation(check, v -> _renderMessage(v, locale), cycle.primaryValidatedObject, invalidValue, cycle.contextPath));
+   }
+
+   private String _renderMessage(final ConstraintViolation violation, final Locale locale) {
+      final Locale localeBefore = renderingLocale.get();
+      renderingLocale.set(locale);
+      try {
+         return renderMessage(violation.getContextPath(), violation.getInvalidValue(), violation.getMessageTemplate(), violation.getMessageVariables());
+      } finally {
+         if (localeBefore == null) {
+            renderingLocale.remove();
+         } else {
+            renderingLocale.set(localeBefore);
+         }
+      }
+   }
+
+   private void _beginValidationCycle(final ValidationCycle cycle, final ValidationBudget budget) {
+      cycle.startBudget(budget);
+
+      final LoadShedding loadShedding = this.loadShedding;
+      if (loadShedding != null) {
+         cycle.minSeverity = loadShedding.isShedding() ? loadShedding.getMinSeverity() : Integer.MIN_VALUE;
+      }
+      _registerValidationCycle(cycle);
+   }
+
+   private void _registerValidationCycle(final ValidationCycle cycle) {
+      final LinkedList<ValidationCycle> cycles = currentValidationCycles.get();
+      final LoadShedding loadShedding = this.loadShedding;
+      // only top-level validations are tracked, nested validations are part of them
+      if (loadShedding != null && cycles.isEmpty()) {
+         cycle.trackingLoadShedding = loadShedding;
+         cycle.startNanos = loadShedding.onValidationStarted();
+      }
+      cycles.add(cycle);
+   }
+
    private void _checkConstraint(final Check check, final Object validatedObject, final Object valueToValidate, final ValidationCycle cycle) {
       /*
        * special handling of the AssertValid constraint
@@ -552,7 +1111,7 @@ public class Validator implements IValidator {
          return;
       }
 
-      final OValContext context = CollectionUtils.getLast(cycle.contextPath);
+      final OValContext context = cycle.contextPath.getLast();
 
       /*
        * special handling of the constraint lists
@@ -584,75 +1143,243 @@ public class Validator implements IValidator {
        * standard constraints handling
        */
       if (!check.isSatisfied(validatedObject, valueToValidate, context, this)) {
-         final String errorMessage = renderMessage(cycle.contextPath, valueToValidate, check.getMessage(), check.getMessageVariables());
-         cycle.addViolation(new ConstraintViolation(check, errorMessage, cycle.primaryValidatedObject, valueToValidate, cycle.contextPath));
+         _addViolation(check, valueToValidate, cycle);
+      }
+   }
+
+   /**
+    * Validates a single element of a collection, map or array.
+    *
+    * Context independent checks are evaluated directly without creating an element context or modifying the context path of the
+    * cycle, the element context is only created if the element violates the constraint.
+    *
+    * @param containerContext the context of the container holding the element
+    */
+   private void _checkConstraintElement(final PlannedCheck plannedCheck, final Object validatedObject, final Object element,
+      final OValContext containerContext, final ElementContextFactory contextFactory, final int index, final Object key, final ValidationCycle cycle) {
+      if (!isCheckConstraintOverridden && plannedCheck.isContextIndependent && !plannedCheck.isAppliedRecursive) {
+         if (!cycle.consumeBudget())
+            return;
+         final Check check = plannedCheck.check;
+         if (check.isActive(validatedObject, element, this) && !check.isSatisfied(validatedObject, element, containerContext, this)) {
+            _addElementViolation(check, element, contextFactory, index, key, cycle);
+         }
+         return;
+      }
+      _checkConstraint(plannedCheck, validatedObject, element, contextFactory.createContext(index, key), cycle, true);
+   }
+
+   /**
+    * Validates the given container elements in parallel using the {@link #getParallelValidationPool() parallel validation pool} and
+    * adds the violations in the order of the elements to the given cycle.
+    *
+    * @param keys the map keys of the elements or <code>null</code>
+    */
+   private void _checkConstraintElementsInParallel(final PlannedCheck plannedCheck, final Object validatedObject, final Object[] elements,
+      final Object[] keys, final OValContext containerContext, final ElementContextFactory contextFactory, final ValidationCycle cycle) {
+      final ValidateElementsTask task = new ValidateElementsTask(plannedCheck, validatedObject, elements, keys, containerContext, contextFactory,
+         cycle, 0, elements.length, parallelValidationChunkSize);
+      cycle.join(ForkJoinTask.inForkJoinPool() ? task.invoke() : getParallelValidationPool().invoke(task));
+   }
+
+   /**
+    * Validates the elements of a primitive array without boxing them, an element context is only created for invalid elements.
+    *
+    * @return <code>false</code> if the array type is not supported
+    */
+   private boolean _checkConstraintPrimitiveArray(final PrimitiveValueCheck check, final Object validatedObject, final Object array,
+      final OValContext context, final ValidationCycle cycle) {
+      if (array instanceof int[]) {
+         final int[] values = (int[]) array;
+         for (int i = 0; i < values.length && !cycle.isAborted && cycle.consumeBudget(); i++) {
+            if (!check.isSatisfied(validatedObject, values[i], context, this)) {
+               _addElementViolation(check, values[i], (index, key) -> new IterableElementContext(int.class, index), i, null, cycle);
+            }
+         }
+         return true;
+      }
+      if (array instanceof long[]) {
+         final long[] values = (long[]) array;
+         for (int i = 0; i < values.length && !cycle.isAborted && cycle.consumeBudget(); i++) {
+            if (!check.isSatisfied(validatedObject, values[i], context, this)) {
+               _addElementViolation(check, values[i], (index, key) -> new IterableElementContext(long.class, index), i, null, cycle);
+            }
+         }
+         return true;
+      }
+      if (array instanceof double[]) {
+         final double[] values = (double[]) array;
+         for (int i = 0; i < values.length && !cycle.isAborted && cycle.consumeBudget(); i++) {
+            if (!check.isSatisfied(validatedObject, values[i], context, this)) {
+               _addElementViolation(check, values[i], (index, key) -> new IterableElementContext(double.class, index), i, null, cycle);
+            }
+         }
+         return true;
+      }
+      if (array instanceof short[]) {
+         final short[] values = (short[]) array;
+         for (int i = 0; i < values.length && !cycle.isAborted && cycle.consumeBudget(); i++) {
+            if (!check.isSatisfied(validatedObject, values[i], context, this)) {
+               _addElementViolation(check, values[i], (index, key) -> new IterableElementContext(short.class, index), i, null, cycle);
+            }
+         }
+         return true;
+      }
+      if (array instanceof byte[]) {
+         final byte[] values = (byte[]) array;
+         for (int i = 0; i < values.length && !cycle.isAborted && cycle.consumeBudget(); i++) {
+            if (!check.isSatisfied(validatedObject, values[i], context, this)) {
+               _addElementViolation(check, values[i], (index, key) -> new IterableElementContext(byte.class, index), i, null, cycle);
+            }
+         }
+         return true;
       }
+      return false;
+   }
+
+   private boolean _isParallelElementValidation(final int elementCount) {
+      final int threshold = parallelElementValidationThreshold;
+      return threshold > 0 && elementCount > threshold;
+   }
+
+   private boolean _isCheckConstraintOverridden() {
+      for (Class<?> clazz = getClass(); clazz != Validator.class; clazz = clazz.getSuperclass()) {
+         try {
+            clazz.getDeclaredMethod("checkConstraint", Check.class, Object.class, Object.class, OValContext.class, ValidationCycle.class,
+               boolean.class);
+            return true;
+         } catch (final NoSuchMethodException ex) {
+            // continue with the super class
+         }
+      }
+      return false;
+   }
+
+   private long _getEnabledProfilesMask(final ValidationCycle cycle) {
+      return cycle.profiles == null ? enabledProfilesMask : cycle.profilesMask;
    }
 
    private Class<?> _getContainerElementType(final OValContext containerContext, final int typeArgumentIndex) {
       if (containerContext instanceof FieldContext) {
-         final FieldContext ctx = (FieldContext) containerContext;
-         return ReflectionUtils.getTypeArgument(ctx.getField(), typeArgumentIndex);
+         return ((FieldContext) containerContext).getTypeArgument(typeArgumentIndex);
       }
       if (containerContext instanceof MethodParameterContext) {
-         final MethodParameterContext ctx = (MethodParameterContext) containerContext;
-         return ReflectionUtils.getTypeArgument(ctx.getMethod(), ctx.getParameterIndex(), typeArgumentIndex);
+         return ((MethodParameterContext) containerContext).getTypeArgument(typeArgumentIndex);
       }
       return null;
    }
 
-   /**
-    * Validate validatedObject based on the constraints of the given class.
-    */
-   private void _validateObjectInvariants(final Object validatedObject, final Class<?> clazz, final ValidationCycle cycle) throws ValidationFailedException {
+   private boolean _isValid(final Object validatedObject, final String[] profiles) throws ValidationBudgetExceededException,
+      ValidationFailedException {
+      final ValidationCycle cycle = new ValidationCycle(validatedObject, profiles);
+      cycle.isCheckOnly = true;
+      beginValidationCycle(cycle);
+      try {
+         validateInvariants(validatedObject, cycle);
+         if (!cycle.isInvalid) {
+            cycle.assertBudgetNotExhausted();
+         }
+         return !cycle.isInvalid;
+      } finally {
+         endValidationCycle(cycle);
+      }
+   }
 
-      // abort if the root class has been reached
-      if (clazz == Object.class)
-         return;
+   private SortedMap<Integer, List<ConstraintViolation>> _validateAll(final Object[] validatedObjects, final int from, final int to)
+      throws ValidationFailedException {
+      final SortedMap<Integer, List<ConstraintViolation>> result = new TreeMap<>();
+      for (int i = from; i < to; i++) {
+         final Object validatedObject = validatedObjects[i];
+         Assert.argumentNotNull("validatedObjects[" + i + "]", validatedObject);
+
+         final List<ConstraintViolation> violations = _validate(validatedObject, null, failFastMode, validationBudget);
+         if (!violations.isEmpty()) {
+            result.put(i, violations);
+         }
+      }
+      return result;
+   }
 
+   private List<ConstraintViolation> _validate(final Object validatedObject, final String[] profiles, final FailFastMode failFastMode,
+      final ValidationBudget budget) throws ValidationFailedException {
+      final ValidationCycle cycle = new ValidationCycle(validatedObject, profiles);
+      cycle.failFastMode = failFastMode;
+      _beginValidationCycle(cycle, budget);
       try {
-         final ClassChecks cc = getClassChecks(clazz);
-
-         // validate field constraints
-         for (final Field field : cc.constrainedFields) {
-            final Collection<Check> checks = cc.checksForFields.get(field);
+         validateInvariants(validatedObject, cycle);
+         cycle.assertBudgetNotExhausted();
+         return cycle.violations;
+      } finally {
+         endValidationCycle(cycle);
+      }
+   }
 
-            if (checks != null && !checks.isEmpty()) {
-               final FieldContext ctx = ContextCache.getFieldContext(field);
-               final Object valueToValidate = resolveValue(ctx, validatedObject);
+   /**
+    * Validates the object graph below the given object using an explicit stack instead of recursion, so deeply nested structures do
+    * not cause a {@link StackOverflowError}.
+    *
+    * The objects referenced by a validated object are collected while its invariants are validated and are then validated depth-first
+    * in the order they were referenced, each with the context path and depth it was reached with.
+    */
+   private void _validateObjectGraph(final Object validatedObject, final int depth, final ValidationCycle cycle) {
+      final ContextPath contextPathBefore = cycle.contextPath;
+      final int depthBefore = cycle.depth;
+
+      final ArrayDeque<ReferencedObject> stack = new ArrayDeque<>();
+      stack.push(new ReferencedObject(validatedObject, contextPathBefore, depth));
+      final List<ReferencedObject> referencedObjects = collectionFactory.createList(4);
+      cycle.referencedObjects = referencedObjects;
+      try {
+         while (!stack.isEmpty() && !cycle.isAborted) {
+            final ReferencedObject next = stack.pop();
+            cycle.contextPath = next.contextPath;
+            cycle.depth = next.depth;
+            final int violationsBefore = cycle.violations.size();
+            validateInvariants(next.object, cycle);
+            if (cycle.graphObjectViolations != null) {
+               cycle.graphObjectViolations.add(new GraphObjectViolations(next.object, violationsBefore, cycle.violations.size()));
+            }
 
-               for (final Check check : checks) {
-                  checkConstraint(check, validatedObject, valueToValidate, ctx, cycle, false);
-               }
+            // push in reverse order so the referenced objects are validated in the order they were referenced
+            for (int i = referencedObjects.size() - 1; i >= 0; i--) {
+               stack.push(referencedObjects.get(i));
             }
+            referencedObjects.clear();
          }
+      } finally {
+         cycle.referencedObjects = null;
+         cycle.contextPath = contextPathBefore;
+         cycle.depth = depthBefore;
+      }
+   }
 
-         // validate constraints on getter methods
-         for (final Method getter : cc.constrainedMethods) {
-            final Collection<Check> checks = cc.checksForMethodReturnValues.get(getter);
-
-            if (checks != null && !checks.isEmpty()) {
-               final MethodReturnValueContext ctx = ContextCache.getMethodReturnValueContext(getter);
-               final Object valueToValidate = resolveValue(ctx, validatedObject);
-
-               for (final Check check : checks) {
-                  checkConstraint(check, validatedObject, valueToValidate, ctx, cycle, false);
-               }
+   /**
+    * Validate validatedObject based on the compiled validation plan of its class.
+    */
+   private void _validateObjectInvariants(final Object validatedObject, final ValidationPlan plan, final ValidationCycle cycle)
+      throws ValidationFailedException {
+      try {
+         for (final ValidationPlan.Entry entry : plan.getEntries(_getEnabledProfilesMask(cycle))) {
+            if (cycle.isAborted)
+               return;
+
+            final OValContext ctx = entry.context;
+            final Object valueToValidate;
+            if (ctx instanceof FieldContext) {
+               valueToValidate = resolveValue((FieldContext) ctx, validatedObject);
+            } else if (ctx instanceof MethodReturnValueContext) {
+               valueToValidate = resolveValue((MethodReturnValueContext) ctx, validatedObject);
+            } else {
+               // class-level constraints
+               valueToValidate = validatedObject;
             }
-         }
 
-         // validate class-level constraints
-         if (!cc.checksForObject.isEmpty()) {
-            final ClassContext ctx = ContextCache.getClassContext(clazz);
-            for (final Check check : cc.checksForObject) {
-               checkConstraint(check, validatedObject, validatedObject, ctx, cycle, false);
+            for (final PlannedCheck check : entry.checks) {
+               _checkConstraint(check, validatedObject, valueToValidate, ctx, cycle, false);
             }
          }
-
-         // validate checks applied to the super class (if any)
-         _validateObjectInvariants(validatedObject, clazz.getSuperclass(), cycle);
       } catch (final OValException ex) {
-         throw new ValidationFailedException("Object validation failed. Class: " + clazz + " Validated object: " + validatedObject, ex);
+         throw new ValidationFailedException("Object validation failed. Class: " + plan.clazz + " Validated object: " + validatedObject, ex);
       }
    }
 
@@ -676,6 +1403,8 @@ public class Validator implements IValidator {
             for (final Check check : checks) {
                checkConstraint(check, validatedClass, valueToValidate, ctx, cycle, false);
             }
+            if (cycle.isAborted)
+               return;
          }
       }
 
@@ -690,6 +1419,8 @@ public class Validator implements IValidator {
             for (final Check check : checks) {
                checkConstraint(check, validatedClass, valueToValidate, ctx, cycle, false);
             }
+            if (cycle.isAborted)
+               return;
          }
       }
    }
@@ -766,6 +1497,23 @@ public class Validator implements IValidator {
          throw translateException(new ConstraintsViolatedException(violations));
    }
 
+   /**
+    * Asynchronously validates the given object using the given executor, see {@link #assertValid(Object)}.
+    *
+    * @return a future that is completed when the validation finished and that is completed exceptionally with a
+    *         {@link ConstraintsViolatedException} if the object is invalid
+    * @since 3.1
+    */
+   public CompletableFuture<Void> assertValidAsync(final Object validatedObject, final Executor executor) throws IllegalArgumentException {
+      Assert.argumentNotNull("validatedObject", validatedObject);
+      Assert.argumentNotNull("executor", executor);
+
+      return supplyAsync(() -> {
+         assertValid(validatedObject);
+         return null;
+      }, executor);
+   }
+
    @Override
    public void assertValidFieldValue(final Object validatedObject, final Field validatedField, final Object fieldValueToValidate)
       throws ValidationFailedException, ConstraintsViolatedException {
@@ -774,123 +1522,200 @@ public class Validator implements IValidator {
          throw translateException(new ConstraintsViolatedException(violations));
    }
 
+   /**
+    * Registers the given cycle as the current validation cycle of the calling thread and applies the {@link ValidationBudget} and
+    * {@link LoadShedding} configuration of this validator. Must be followed by {@link #endValidationCycle(ValidationCycle)} in a
+    * <code>finally</code> block.
+    *
+    * @since 3.1
+    */
+   protected void beginValidationCycle(final ValidationCycle cycle) {
+      _beginValidationCycle(cycle, validationBudget);
+   }
+
+   /**
+    * Registers the given cycle, which has been begun via {@link #beginValidationCycle(ValidationCycle)} and ended since, as the current
+    * validation cycle of the calling thread again. The cycle continues with the remaining {@link ValidationBudget} and the
+    * {@link LoadShedding} severity determined when it was begun. Must be followed by {@link #endValidationCycle(ValidationCycle)} in a
+    * <code>finally</code> block.
+    *
+    * @since 3.1
+    */
+   protected void resumeValidationCycle(final ValidationCycle cycle) {
+      _registerValidationCycle(cycle);
+   }
+
    /**
     * @param isContainerValue specifies if the value currently validated is an entry of a collection, map or array.
     */
-   protected void checkConstraint(final Check check, Object validatedObject, Object valueToValidate, OValContext context, final ValidationCycle cycle,
-      final boolean isContainerValue) throws OValException {
-      if (!(check instanceof ConstraintsCheck) && !isAnyProfileEnabled(check.getProfiles(), cycle.profiles))
+   protected void checkConstraint(final Check check, final Object validatedObject, final Object valueToValidate, final OValContext context,
+      final ValidationCycle cycle, final boolean isContainerValue) throws OValException {
+      _checkPlannedConstraint(PlannedCheck.of(check), validatedObject, valueToValidate, context, cycle, isContainerValue);
+   }
+
+   /**
+    * Validates a check whose metadata has already been resolved, via
+    * {@link #checkConstraint(Check, Object, Object, OValContext, ValidationCycle, boolean)} if a subclass overrides it.
+    */
+   private void _checkConstraint(final PlannedCheck plannedCheck, final Object validatedObject, final Object valueToValidate,
+      final OValContext context, final ValidationCycle cycle, final boolean isContainerValue) throws OValException {
+      if (isCheckConstraintOverridden) {
+         checkConstraint(plannedCheck.check, validatedObject, valueToValidate, context, cycle, isContainerValue);
+      } else {
+         _checkPlannedConstraint(plannedCheck, validatedObject, valueToValidate, context, cycle, isContainerValue);
+      }
+   }
+
+   private void _checkPlannedConstraint(final PlannedCheck plannedCheck, Object validatedObject, Object valueToValidate, OValContext context,
+      final ValidationCycle cycle, final boolean isContainerValue) throws OValException {
+      if (cycle.isAborted || !plannedCheck.isPossiblyEnabled(_getEnabledProfilesMask(cycle)))
+         return;
+
+      final Check check = plannedCheck.check;
+      // profiles without a dedicated bit need to be compared by name
+      if ((plannedCheck.profilesMask & ProfileRegistry.OVERFLOW) != 0 && !(check instanceof ConstraintsCheck) && !isAnyProfileEnabled(check
+         .getProfiles(), cycle.profiles))
+         return;
+
+      // skip non-critical checks while shedding load
+      if (cycle.minSeverity != Integer.MIN_VALUE && plannedCheck.isSheddable && check.getSeverity() < cycle.minSeverity)
+         return;
+
+      if (!cycle.consumeBudget())
          return;
 
       if (!check.isActive(validatedObject, valueToValidate, this))
          return;
 
-      int contextPathElementsAdded = 0;
+      final ContextPath contextPathBefore = cycle.contextPath;
 
-      // TODO if (check instanceof AssertValidCheck || CollectionUtils.getLast(cycle.contextPath) != context) {
-      cycle.contextPath.add(context);
-      contextPathElementsAdded++;
+      // TODO if (check instanceof AssertValidCheck || cycle.contextPath.getLast() != context) {
+      cycle.contextPath = contextPathBefore.append(context);
       //}
 
-      // only process the target expression if we are not already on a value inside the container object (collection, array, map)
-      if (!isContainerValue) {
-         String target = check.getTarget();
-         if (target != null) {
-            target = target.trim();
-            if (target.length() > 0) {
-               if (valueToValidate == null)
-                  return;
-               final List<String> chunks = StringUtils.split(target, ':', 2);
-               final String ognId, path;
-               if (chunks.size() == 1) {
-                  ognId = "";
-                  path = chunks.get(0);
-               } else {
-                  ognId = chunks.get(0);
-                  path = chunks.get(1);
-               }
-               final ObjectGraphNavigationResult ognResult = ognRegistry.getObjectGraphNavigator(ognId) //
-                  .navigateTo(valueToValidate, path);
-               if (ognResult == null)
-                  return;
-
-               if (ognResult.path.indexOf('.') > -1) {
-                  cycle.contextPath.add(new ObjectGraphNavigationContext(StringUtils.substringBeforeLast(path, '.')));
-                  contextPathElementsAdded++;
-               }
+      try {
+         // only process the target expression if we are not already on a value inside the container object (collection, array, map)
+         if (!isContainerValue && plannedCheck.hasTarget()) {
+            if (valueToValidate == null)
+               return;
+            final ObjectGraphNavigationResult ognResult = ognRegistry.getObjectGraphNavigator(plannedCheck.targetOGN) //
+               .navigateTo(valueToValidate, plannedCheck.targetPath);
+            if (ognResult == null)
+               return;
+
+            if (ognResult.path.indexOf('.') > -1) {
+               cycle.contextPath = cycle.contextPath.append(new ObjectGraphNavigationContext(StringUtils.substringBeforeLast(plannedCheck.targetPath,
+                  '.')));
+            }
 
-               validatedObject = ognResult.targetParent;
-               valueToValidate = ognResult.target;
-               context = ognResult.targetAccessor instanceof Field //
-                  ? ContextCache.getFieldContext((Field) ognResult.targetAccessor) //
-                  : ContextCache.getMethodReturnValueContext((Method) ognResult.targetAccessor);
+            validatedObject = ognResult.targetParent;
+            valueToValidate = ognResult.target;
+            context = ognResult.targetAccessor instanceof Field //
+               ? ContextCache.getFieldContext((Field) ognResult.targetAccessor) //
+               : ContextCache.getMethodReturnValueContext((Method) ognResult.targetAccessor);
 
-               cycle.contextPath.add(context);
-               contextPathElementsAdded++;
-            }
+            cycle.contextPath = cycle.contextPath.append(context);
          }
-      }
 
-      final Class<?> compileTimeType = context.getCompileTimeType();
-
-      final boolean isIterable = valueToValidate != null ? valueToValidate instanceof Iterable<?>
-         : compileTimeType != null && Iterable.class.isAssignableFrom(compileTimeType);
-      final boolean isMap = !isIterable && //
-         (valueToValidate != null ? valueToValidate instanceof Map<?, ?> : compileTimeType != null && Map.class.isAssignableFrom(compileTimeType));
-      final boolean isArray = !isIterable && !isMap && //
-         (valueToValidate != null ? valueToValidate.getClass().isArray() : compileTimeType != null && compileTimeType.isArray());
-      final boolean isContainer = isIterable || isMap || isArray;
-
-      final ConstraintTarget[] targets = check.getAppliesTo();
-
-      if (isContainer && valueToValidate != null) {
-         if (isIterable) {
-            if (ArrayUtils.containsSame(targets, ConstraintTarget.VALUES) //
-               && (!isContainerValue || ArrayUtils.containsSame(targets, ConstraintTarget.RECURSIVE))) {
-               int i = 0;
-               final Class<?> elementType = _getContainerElementType(context, 0);
-               for (final Object item : (Iterable<?>) valueToValidate) {
-                  final OValContext ctx = new IterableElementContext(elementType, i);
-                  checkConstraint(check, validatedObject, item, ctx, cycle, true);
-                  i++;
+         final Class<?> compileTimeType = context.getCompileTimeType();
+
+         final boolean isIterable = valueToValidate != null ? valueToValidate instanceof Iterable<?>
+            : compileTimeType != null && Iterable.class.isAssignableFrom(compileTimeType);
+         final boolean isMap = !isIterable && //
+            (valueToValidate != null ? valueToValidate instanceof Map<?, ?> : compileTimeType != null && Map.class.isAssignableFrom(compileTimeType));
+         final boolean isArray = !isIterable && !isMap && //
+            (valueToValidate != null ? valueToValidate.getClass().isArray() : compileTimeType != null && compileTimeType.isArray());
+         final boolean isContainer = isIterable || isMap || isArray;
+
+         if (isContainer && valueToValidate != null && (!isContainerValue || plannedCheck.isAppliedRecursive)) {
+            if (isIterable) {
+               if (plannedCheck.isAppliedToValues) {
+                  int i = 0;
+                  final Class<?> elementType = _getContainerElementType(context, 0);
+                  final ElementContextFactory contextFactory = (index, key) -> new IterableElementContext(elementType, index);
+                  if (valueToValidate instanceof Collection && _isParallelElementValidation(((Collection<?>) valueToValidate).size())) {
+                     _checkConstraintElementsInParallel(plannedCheck, validatedObject, ((Collection<?>) valueToValidate).toArray(), null, context,
+                        contextFactory, cycle);
+                  } else {
+                     for (final Object item : (Iterable<?>) valueToValidate) {
+                        if (cycle.isAborted)
+                           return;
+                        _checkConstraintElement(plannedCheck, validatedObject, item, context, contextFactory, i, null, cycle);
+                        i++;
+                     }
+                  }
                }
-            }
-         } else if (isMap) {
-            if (ArrayUtils.containsSame(targets, ConstraintTarget.KEYS) //
-               && (!isContainerValue || ArrayUtils.containsSame(targets, ConstraintTarget.RECURSIVE))) {
-               final Class<?> elementType = _getContainerElementType(context, 0);
-               for (final Object key : ((Map<?, ?>) valueToValidate).keySet()) {
-                  final OValContext ctx = new MapKeyContext(elementType, key);
-                  checkConstraint(check, validatedObject, key, ctx, cycle, true);
+            } else if (isMap) {
+               if (plannedCheck.isAppliedToKeys) {
+                  final Class<?> elementType = _getContainerElementType(context, 0);
+                  final ElementContextFactory contextFactory = (index, key) -> new MapKeyContext(elementType, key);
+                  if (_isParallelElementValidation(((Map<?, ?>) valueToValidate).size())) {
+                     final Object[] keys = ((Map<?, ?>) valueToValidate).keySet().toArray();
+                     _checkConstraintElementsInParallel(plannedCheck, validatedObject, keys, keys, context, contextFactory, cycle);
+                  } else {
+                     for (final Object key : ((Map<?, ?>) valueToValidate).keySet()) {
+                        if (cycle.isAborted)
+                           return;
+                        _checkConstraintElement(plannedCheck, validatedObject, key, context, contextFactory, -1, key, cycle);
+                     }
+                  }
                }
-            }
-            if (ArrayUtils.containsSame(targets, ConstraintTarget.VALUES) //
-               && (!isContainerValue || ArrayUtils.containsSame(targets, ConstraintTarget.RECURSIVE))) {
-               final Class<?> elementType = _getContainerElementType(context, 1);
-               for (final Entry<?, ?> entry : ((Map<?, ?>) valueToValidate).entrySet()) {
-                  final OValContext ctx = new MapValueContext(elementType, entry.getKey());
-                  checkConstraint(check, validatedObject, entry.getValue(), ctx, cycle, true);
+               if (plannedCheck.isAppliedToValues) {
+                  final Class<?> elementType = _getContainerElementType(context, 1);
+                  final ElementContextFactory contextFactory = (index, key) -> new MapValueContext(elementType, key);
+                  final Map<?, ?> map = (Map<?, ?>) valueToValidate;
+                  if (_isParallelElementValidation(map.size())) {
+                     final Object[] keys = new Object[map.size()];
+                     final Object[] values = new Object[keys.length];
+                     int i = 0;
+                     for (final Entry<?, ?> entry : map.entrySet()) {
+                        keys[i] = entry.getKey();
+                        values[i] = entry.getValue();
+                        i++;
+                     }
+                     _checkConstraintElementsInParallel(plannedCheck, validatedObject, values, keys, context, contextFactory, cycle);
+                  } else {
+                     for (final Entry<?, ?> entry : map.entrySet()) {
+                        if (cycle.isAborted)
+                           return;
+                        _checkConstraintElement(plannedCheck, validatedObject, entry.getValue(), context, contextFactory, -1, entry.getKey(), cycle);
+                     }
+                  }
+               }
+            } else { // array
+               if (plannedCheck.isAppliedToValues) {
+                  // conditional checks need the boxed element values to evaluate their activation
+                  final boolean isValidatedUnboxed = plannedCheck.isPrimitiveValueCheck && check.getWhen() == null //
+                     && _checkConstraintPrimitiveArray((PrimitiveValueCheck) check, validatedObject, valueToValidate, context, cycle);
+                  if (!isValidatedUnboxed) {
+                     final Class<?> elementType = valueToValidate.getClass().getComponentType();
+                     final ElementContextFactory contextFactory = (index, key) -> new IterableElementContext(elementType, index);
+                     if (valueToValidate instanceof Object[] && _isParallelElementValidation(((Object[]) valueToValidate).length)) {
+                        _checkConstraintElementsInParallel(plannedCheck, validatedObject, (Object[]) valueToValidate, null, context, contextFactory,
+                           cycle);
+                     } else if (valueToValidate instanceof Object[]) {
+                        final Object[] items = (Object[]) valueToValidate;
+                        for (int i = 0; i < items.length; i++) {
+                           if (cycle.isAborted)
+                              return;
+                           _checkConstraintElement(plannedCheck, validatedObject, items[i], context, contextFactory, i, null, cycle);
+                        }
+                     } else {
+                        final Object fValidatedObject = validatedObject;
+                        final OValContext fContext = context;
+                        ArrayUtils.iterate(valueToValidate, (i, item) -> _checkConstraintElement(plannedCheck, fValidatedObject, item, fContext,
+                           contextFactory, i, null, cycle));
+                     }
+                  }
                }
-            }
-         } else { // array
-            if (ArrayUtils.containsSame(targets, ConstraintTarget.VALUES) //
-               && (!isContainerValue || ArrayUtils.containsSame(targets, ConstraintTarget.RECURSIVE))) {
-               final Object fValidatedObject = validatedObject;
-               final Class<?> elementType = valueToValidate.getClass().getComponentType();
-               ArrayUtils.iterate(valueToValidate, (i, item) -> {
-                  final OValContext ctx = new IterableElementContext(elementType, i);
-                  checkConstraint(check, fValidatedObject, item, ctx, cycle, true);
-               });
             }
          }
-      }
 
-      if (isContainerValue || !isContainer || isContainer && ArrayUtils.containsSame(targets, ConstraintTarget.CONTAINER)) {
-         _checkConstraint(check, validatedObject, valueToValidate, cycle);
-      }
-
-      for (int i = 0; i < contextPathElementsAdded; i++) {
-         CollectionUtils.removeLast(cycle.contextPath);
+         if (!cycle.isAborted && (isContainerValue || !isContainer || plannedCheck.isAppliedToContainer)) {
+            _checkConstraint(check, validatedObject, valueToValidate, cycle);
+         }
+      } finally {
+         cycle.contextPath = contextPathBefore;
       }
    }
 
@@ -903,11 +1728,16 @@ public class Validator implements IValidator {
 
       final Collection<Check> referencedChecks = cs.getChecks();
       if (referencedChecks != null && !referencedChecks.isEmpty()) {
-         final OValContext context = CollectionUtils.removeLast(cycle.contextPath);
-         for (final Check referencedCheck : referencedChecks) {
-            checkConstraint(referencedCheck, validatedObject, valueToValidate, context, cycle, false);
+         final ContextPath contextPath = cycle.contextPath;
+         final OValContext context = contextPath.getLast();
+         cycle.contextPath = contextPath.getParent();
+         try {
+            for (final Check referencedCheck : referencedChecks) {
+               checkConstraint(referencedCheck, validatedObject, valueToValidate, context, cycle, false);
+            }
+         } finally {
+            cycle.contextPath = contextPath;
          }
-         cycle.contextPath.add(context);
       }
    }
 
@@ -915,7 +1745,8 @@ public class Validator implements IValidator {
       final ValidationCycle cycle) throws OValException {
       final Class<?> targetClass;
 
-      final OValContext context = CollectionUtils.removeLast(cycle.contextPath);
+      final ContextPath contextPath = cycle.contextPath;
+      final OValContext context = contextPath.getLast();
 
       /*
        * set the targetClass based on the validation context
@@ -964,23 +1795,43 @@ public class Validator implements IValidator {
       final ClassChecks cc = getClassChecks(field.getDeclaringClass());
       final Collection<Check> referencedChecks = cc.checksForFields.get(field);
       if (referencedChecks != null && !referencedChecks.isEmpty()) {
-         for (final Check referencedCheck : referencedChecks) {
-            checkConstraint(referencedCheck, validatedObject, valueToValidate, context, cycle, false);
+         cycle.contextPath = contextPath.getParent();
+         try {
+            for (final Check referencedCheck : referencedChecks) {
+               checkConstraint(referencedCheck, validatedObject, valueToValidate, context, cycle, false);
+            }
+         } finally {
+            cycle.contextPath = contextPath;
          }
       }
-
-      cycle.contextPath.add(context);
    }
 
    protected void checkConstraintAssertValid(final Object valueToValidate, final ValidationCycle cycle) throws OValException {
-      if (valueToValidate == null)
+      if (valueToValidate == null || cycle.isAborted)
+         return;
+
+      // skip objects without any constraints in their class hierarchy, e.g. plain value objects and enums
+      if (!(valueToValidate instanceof Class<?>) && isUnconstrained(valueToValidate.getClass()))
          return;
 
       // ignore circular dependencies
       if (isCurrentlyValidated(valueToValidate))
          return;
 
-      validateInvariants(valueToValidate, cycle);
+      final int depth = cycle.depth + 1;
+      if (maxAssertValidDepth > 0 && depth > maxAssertValidDepth)
+         return;
+
+      if (!cycle.addValidatedObject(valueToValidate))
+         return;
+
+      if (cycle.referencedObjects != null) {
+         // a traversal is in progress, the object is validated after the currently validated object
+         cycle.referencedObjects.add(new ReferencedObject(valueToValidate, cycle.contextPath, depth));
+         return;
+      }
+
+      _validateObjectGraph(valueToValidate, depth, cycle);
    }
 
    /**
@@ -989,6 +1840,7 @@ public class Validator implements IValidator {
    public synchronized void disableAllProfiles() {
       isProfilesFeatureUsed = true;
       isAllProfilesEnabledByDefault = false;
+      enabledProfilesMask = 0;
 
       enabledProfiles.clear();
       disabledProfiles.clear();
@@ -999,8 +1851,12 @@ public class Validator implements IValidator {
     *
     * @param profile the id of the profile
     */
-   public void disableProfile(final String profile) {
+   public synchronized void disableProfile(final String profile) {
       isProfilesFeatureUsed = true;
+      final long bit = ProfileRegistry.getBit(profile);
+      if (bit != ProfileRegistry.OVERFLOW) {
+         enabledProfilesMask &= ~bit;
+      }
 
       if (isAllProfilesEnabledByDefault) {
          disabledProfiles.add(profile);
@@ -1015,6 +1871,7 @@ public class Validator implements IValidator {
    public synchronized void enableAllProfiles() {
       isProfilesFeatureUsed = true;
       isAllProfilesEnabledByDefault = true;
+      enabledProfilesMask = ProfileRegistry.ALL;
 
       enabledProfiles.clear();
       disabledProfiles.clear();
@@ -1025,8 +1882,9 @@ public class Validator implements IValidator {
     *
     * @param profile the id of the profile
     */
-   public void enableProfile(final String profile) {
+   public synchronized void enableProfile(final String profile) {
       isProfilesFeatureUsed = true;
+      enabledProfilesMask |= ProfileRegistry.getBit(profile);
 
       if (isAllProfilesEnabledByDefault) {
          disabledProfiles.remove(profile);
@@ -1035,6 +1893,22 @@ public class Validator implements IValidator {
       }
    }
 
+   /**
+    * Removes the given cycle registered via {@link #beginValidationCycle(ValidationCycle)} from the validation cycles of the calling
+    * thread.
+    *
+    * @since 3.1
+    */
+   protected void endValidationCycle(final ValidationCycle cycle) {
+      currentValidationCycles.get().removeLast();
+
+      final LoadShedding loadShedding = cycle.trackingLoadShedding;
+      if (loadShedding != null) {
+         cycle.trackingLoadShedding = null;
+         loadShedding.onValidationFinished(cycle.startNanos);
+      }
+   }
+
    //CHECKSTYLE:IGNORE NoFinalize FOR NEXT LINE
    @Override
    protected void finalize() throws Throwable {
@@ -1139,14 +2013,87 @@ public class Validator implements IValidator {
       return exceptionTranslator;
    }
 
+   /**
+    * @since 3.1
+    */
+   public FailFastMode getFailFastMode() {
+      return failFastMode;
+   }
+
    public ExpressionLanguageRegistry getExpressionLanguageRegistry() {
       return expressionLanguageRegistry;
    }
 
+   /**
+    * @since 3.1
+    */
+   public LoadShedding getLoadShedding() {
+      return loadShedding;
+   }
+
+   /**
+    * @since 3.1
+    */
+   public int getMaxAssertValidDepth() {
+      return maxAssertValidDepth;
+   }
+
    public ObjectGraphNavigatorRegistry getObjectGraphNavigatorRegistry() {
       return ognRegistry;
    }
 
+   /**
+    * @since 3.1
+    */
+   public int getParallelElementValidationThreshold() {
+      return parallelElementValidationThreshold;
+   }
+
+   /**
+    * @since 3.1
+    */
+   public int getParallelValidationChunkSize() {
+      return parallelValidationChunkSize;
+   }
+
+   /**
+    * @return the fork/join pool used for parallel batch validation
+    * @since 3.1
+    */
+   public ForkJoinPool getParallelValidationPool() {
+      return parallelValidationPool == null ? ForkJoinPool.commonPool() : parallelValidationPool;
+   }
+
+   /**
+    * @since 3.1
+    */
+   public ValidationBudget getValidationBudget() {
+      return validationBudget;
+   }
+
+   /**
+    * Returns the compiled validation plan holding the object invariants of the given class and its super classes.
+    * The plan is recompiled automatically if checks were added or removed since the last call.
+    *
+    * @param clazz cannot be null
+    * @throws IllegalArgumentException if <code>clazz == null</code>
+    * @since 3.1
+    */
+   protected ValidationPlan getValidationPlan(final Class<?> clazz) throws IllegalArgumentException, InvalidConfigurationException, ReflectionException {
+      ValidationPlan plan = validationPlansByClass.get(clazz);
+      if (plan == null || !plan.isUpToDate()) {
+         Assert.argumentNotNull("clazz", clazz);
+
+         final List<ClassChecks> classChecksHierarchy = collectionFactory.createList(4);
+         for (Class<?> c = clazz; c != null && c != Object.class; c = c.getSuperclass()) {
+            classChecksHierarchy.add(getClassChecks(c));
+         }
+         plan = ValidationPlan.compile(clazz, classChecksHierarchy);
+         validationPlansByClass.put(clazz, plan);
+      }
+      return plan;
+   }
+
    /**
     * Determines if at least one of the given profiles is enabled
     *
@@ -1174,6 +2121,19 @@ public class Validator implements IValidator {
       return false;
    }
 
+   /**
+    * Determines if neither the given class nor any of its super classes declare field, getter or object level constraints, i.e. if
+    * validating the invariants of instances of the class and thereby the object graph below them can be skipped entirely.
+    *
+    * The result is derived from the cached {@link ValidationPlan} of the class and therefore computed only once until the checks of
+    * the class hierarchy are modified.
+    *
+    * @since 3.1
+    */
+   protected boolean isUnconstrained(final Class<?> clazz) throws IllegalArgumentException, InvalidConfigurationException, ReflectionException {
+      return getValidationPlan(clazz).isEmpty();
+   }
+
    /**
     * Determines if the given object is currently validated in the current thread
     *
@@ -1183,7 +2143,7 @@ public class Validator implements IValidator {
       Assert.argumentNotNull("object", object);
 
       final LinkedList<ValidationCycle> cycles = currentValidationCycles.get();
-      return !cycles.isEmpty() && cycles.getLast().validatedObjects.contains(object);
+      return !cycles.isEmpty() && cycles.getLast().isValidatedObject(object);
    }
 
    /**
@@ -1203,12 +2163,55 @@ public class Validator implements IValidator {
       return true;
    }
 
+   /**
+    * Determines if the given object satisfies all constraints of the globally enabled profiles.
+    *
+    * In contrast to {@link #validate(Object)} no constraint violation objects are created, no messages are rendered and the validation is
+    * aborted on the first violation.
+    *
+    * If the {@link #getValidationBudget() validation budget} is exhausted before a violation was found, the validity cannot be determined
+    * and a {@link ValidationBudgetExceededException} is thrown. An object found to be invalid within the budget is reported as invalid.
+    *
+    * @param validatedObject the object to validate, may also be a class to validate static fields
+    * @throws ValidationBudgetExceededException if the budget has been exhausted before a violation was found
+    * @throws ValidationFailedException if the validation fails for technical reasons
+    * @since 3.1
+    */
+   public boolean isValid(final Object validatedObject) throws IllegalArgumentException, ValidationBudgetExceededException,
+      ValidationFailedException {
+      Assert.argumentNotNull("validatedObject", validatedObject);
+
+      return _isValid(validatedObject, null);
+   }
+
+   /**
+    * Determines if the given object satisfies all constraints of the given profiles.
+    *
+    * @param validatedObject the object to validate, may also be a class to validate static fields
+    * @param profiles the profiles to validate, if <code>null</code> the globally enabled profiles are used
+    * @throws ValidationBudgetExceededException if the budget has been exhausted before a violation was found
+    * @throws ValidationFailedException if the validation fails for technical reasons
+    * @see #isValid(Object)
+    * @since 3.1
+    */
+   public boolean isValid(final Object validatedObject, final String... profiles) throws IllegalArgumentException,
+      ValidationBudgetExceededException, ValidationFailedException {
+      Assert.argumentNotNull("validatedObject", validatedObject);
+
+      return _isValid(validatedObject, profiles);
+   }
+
    /**
     * clears the checks and constraint sets => a reconfiguration using the
     * currently registered configurers will automatically happen
     */
    public void reconfigureChecks() {
+      // unregister the discarded class checks from checks that may be shared with other validators
+      for (final ClassChecks cc : checksByClass.values()) {
+         cc.clear();
+      }
       checksByClass.clear();
+      validationPlansByClass.clear();
       constraintSetsById.clear();
    }
 
@@ -1262,8 +2265,13 @@ public class Validator implements IValidator {
       return constraintSetsById.remove(id);
    }
 
+   /**
+    * Renders the message of a constraint violation. Lazily rendered messages of constraint violations are rendered via this method too, in
+    * which case the messages are resolved for the locale that was active when the violation occurred.
+    */
    protected String renderMessage(final List<OValContext> contextPath, final Object invalidValue, final String messageKey, final Map<String, ?> messageValues) {
-      String message = MessageRenderer.renderMessage(messageKey, messageValues);
+      final Locale locale = renderingLocale.get();
+      String message = MessageRenderer.renderMessage(messageKey, messageValues, locale == null ? localeProvider.getLocale() : locale);
 
       // if there are no place holders in the message simply return it
       if (message.indexOf('{') == -1)
@@ -1294,20 +2302,120 @@ public class Validator implements IValidator {
     * @param validatedObject may be null for static fields
     */
    protected Object resolveValue(final FieldContext ctx, final Object validatedObject) {
-      return ReflectionUtils.getFieldValue(ctx.getField(), validatedObject);
+      return ctx.getValueAccessor().getValue(validatedObject);
    }
 
    /**
     * @param validatedObject may be null for static methods
     */
    protected Object resolveValue(final MethodReturnValueContext ctx, final Object validatedObject) {
-      return ReflectionUtils.invokeMethod(ctx.getMethod(), validatedObject);
+      return ctx.getValueAccessor().getValue(validatedObject);
    }
 
    public void setExceptionTranslator(final ExceptionTranslator exceptionTranslator) {
       this.exceptionTranslator = exceptionTranslator;
    }
 
+   /**
+    * @param failFastMode specifies after which violations a validation is aborted, defaults to {@link FailFastMode#DISABLED}
+    * @since 3.1
+    */
+   public void setFailFastMode(final FailFastMode failFastMode) throws IllegalArgumentException {
+      Assert.argumentNotNull("failFastMode", failFastMode);
+      this.failFastMode = failFastMode;
+   }
+
+   /**
+    * Configures the conditions under which this validator only validates constraints with a minimum severity to shed load.
+    *
+    * @param loadShedding the load shedding configuration, <code>null</code> to disable load shedding (default)
+    * @since 3.1
+    */
+   public void setLoadShedding(final LoadShedding loadShedding) {
+      this.loadShedding = loadShedding;
+   }
+
+   /**
+    * Limits how deep the object graph is traversed via {@link net.sf.oval.constraint.AssertValid} references, e.g. to bound the
+    * validation of long linked structures. Objects beyond the maximum depth are not validated.
+    *
+    * @param maxDepth the maximum number of references followed from the validated object, <code>0</code> for no limit (default)
+    * @since 3.1
+    */
+   public void setMaxAssertValidDepth(final int maxDepth) throws IllegalArgumentException {
+      Assert.argumentMinValue("maxDepth", maxDepth, 0);
+      maxAssertValidDepth = maxDepth;
+   }
+
+   /**
+    * Enables the parallel validation of the elements of large collections, maps and object arrays, e.g. checks declared with
+    * <code>appliesTo = ConstraintTarget.VALUES</code> or {@link net.sf.oval.constraint.AssertValid} on a collection.
+    *
+    * The elements are split into chunks of {@link #getParallelValidationChunkSize()} elements which are validated using the
+    * {@link #getParallelValidationPool() parallel validation pool}. The constraint violations are reported in the order of the elements.
+    * Objects referenced by elements of different chunks may be validated by each of these chunks, but only the violations found by the
+    * chunk with the lowest element index are reported.
+    *
+    * @param threshold the number of elements a container must exceed to be validated in parallel, <code>0</code> to disable parallel
+    *           element validation (default)
+    * @since 3.1
+    */
+   public void setParallelElementValidationThreshold(final int threshold) throws IllegalArgumentException {
+      Assert.argumentMinValue("threshold", threshold, 0);
+      parallelElementValidationThreshold = threshold;
+   }
+
+   /**
+    * @param chunkSize the maximum number of objects or container elements validated sequentially by a single fork/join task during batch
+    *           validation and parallel element validation, batches not exceeding this size are validated in the calling thread, defaults
+    *           to 256
+    * @since 3.1
+    */
+   public void setParallelValidationChunkSize(final int chunkSize) throws IllegalArgumentException {
+      Assert.argumentMinValue("chunkSize", chunkSize, 1);
+      parallelValidationChunkSize = chunkSize;
+   }
+
+   /**
+    * @param pool the fork/join pool used for parallel batch validation, <code>null</code> to use {@link ForkJoinPool#commonPool()}
+    * @since 3.1
+    */
+   public void setParallelValidationPool(final ForkJoinPool pool) {
+      parallelValidationPool = pool;
+   }
+
+   /**
+    * Limits the time and the number of checks each validation of this validator may spend. If the budget is exhausted the validation
+    * is aborted and a {@link ValidationBudgetExceededException} holding the constraint violations found so far is thrown.
+    *
+    * @param budget the budget of each validation, defaults to {@link ValidationBudget#UNLIMITED}
+    * @since 3.1
+    */
+   public void setValidationBudget(final ValidationBudget budget) throws IllegalArgumentException {
+      Assert.argumentNotNull("budget", budget);
+      validationBudget = budget;
+   }
+
+   /**
+    * Executes the given task using the given executor.
+    * The validation cycles of the executing thread are released once the task completed, so no validation state is retained by
+    * {@link #currentValidationCycles} of the executor's threads.
+    *
+    * @since 3.1
+    */
+   protected <T> CompletableFuture<T> supplyAsync(final Supplier<T> task, final Executor executor) {
+      return CompletableFuture.supplyAsync(() -> {
+         try {
+            return task.get();
+         } finally {
+            // the task may have been executed synchronously in a thread currently performing a validation
+            if (currentValidationCycles.get().isEmpty()) {
+               currentValidationCycles.remove();
+            }
+         }
+      }, executor);
+   }
+
    protected RuntimeException translateException(final OValException ex) {
       if (exceptionTranslator != null) {
          final RuntimeException rex = exceptionTranslator.translateException(ex);
@@ -1321,28 +2429,127 @@ public class Validator implements IValidator {
    public List<ConstraintViolation> validate(final Object validatedObject) throws ValidationFailedException {
       Assert.argumentNotNull("validatedObject", validatedObject);
 
-      final ValidationCycle cycle = new ValidationCycle(validatedObject, null);
-      currentValidationCycles.get().add(cycle);
-      try {
-         validateInvariants(validatedObject, cycle);
-         return cycle.violations;
-      } finally {
-         currentValidationCycles.get().removeLast();
-      }
+      return _validate(validatedObject, null, failFastMode, validationBudget);
    }
 
    @Override
    public List<ConstraintViolation> validate(final Object validatedObject, final String... profiles) throws ValidationFailedException {
       Assert.argumentNotNull("validatedObject", validatedObject);
 
-      final ValidationCycle cycle = new ValidationCycle(validatedObject, profiles);
-      currentValidationCycles.get().add(cycle);
-      try {
-         validateInvariants(validatedObject, cycle);
-         return cycle.violations;
-      } finally {
-         currentValidationCycles.get().removeLast();
+      return _validate(validatedObject, profiles, failFastMode, validationBudget);
+   }
+
+   /**
+    * Validates the given object using the given fail fast mode instead of the one configured for this validator.
+    *
+    * @param failFastMode specifies after which violations the validation is aborted
+    * @param profiles optional list of profiles to validate, if none are specified the globally enabled profiles are used
+    * @since 3.1
+    */
+   public List<ConstraintViolation> validate(final Object validatedObject, final FailFastMode failFastMode, final String... profiles)
+      throws ValidationFailedException {
+      Assert.argumentNotNull("validatedObject", validatedObject);
+      Assert.argumentNotNull("failFastMode", failFastMode);
+
+      return _validate(validatedObject, profiles == null || profiles.length == 0 ? null : profiles, failFastMode, validationBudget);
+   }
+
+   /**
+    * Validates the given object using the given budget instead of the one configured for this validator.
+    *
+    * @param budget limits the time and number of checks the validation may spend
+    * @param profiles optional list of profiles to validate, if none are specified the globally enabled profiles are used
+    * @throws ValidationBudgetExceededException if the budget has been exhausted, the exception holds the violations found so far
+    * @since 3.1
+    */
+   public List<ConstraintViolation> validate(final Object validatedObject, final ValidationBudget budget, final String... profiles)
+      throws ValidationFailedException {
+      Assert.argumentNotNull("validatedObject", validatedObject);
+      Assert.argumentNotNull("budget", budget);
+
+      return _validate(validatedObject, profiles == null || profiles.length == 0 ? null : profiles, failFastMode, budget);
+   }
+
+   /**
+    * Validates all given objects. Batches exceeding the {@link #getParallelValidationChunkSize() chunk size} are split into chunks which
+    * are validated in parallel using the {@link #getParallelValidationPool() parallel validation pool}.
+    *
+    * @param validatedObjects the objects to validate, must not contain <code>null</code> elements
+    * @return the constraint violations of all invalid objects grouped by the index of the object in the given array, an empty map if all
+    *         objects are valid
+    * @since 3.1
+    */
+   public SortedMap<Integer, List<ConstraintViolation>> validateAll(final Object[] validatedObjects) throws IllegalArgumentException,
+      ValidationFailedException {
+      Assert.argumentNotNull("validatedObjects", validatedObjects);
+
+      final int chunkSize = parallelValidationChunkSize;
+      if (validatedObjects.length <= chunkSize)
+         return _validateAll(validatedObjects, 0, validatedObjects.length);
+
+      return getParallelValidationPool().invoke(new ValidateAllTask(validatedObjects, 0, validatedObjects.length, chunkSize));
+   }
+
+   /**
+    * Validates all given objects, see {@link #validateAll(Object[])}.
+    *
+    * @return the constraint violations of all invalid objects grouped by the iteration index of the object
+    * @since 3.1
+    */
+   public SortedMap<Integer, List<ConstraintViolation>> validateAll(final Collection<?> validatedObjects) throws IllegalArgumentException,
+      ValidationFailedException {
+      Assert.argumentNotNull("validatedObjects", validatedObjects);
+
+      return validateAll(validatedObjects.toArray());
+   }
+
+   /**
+    * Validates all given objects, see {@link #validateAll(Object[])}.
+    *
+    * @return the constraint violations of all invalid objects grouped by the iteration index of the object
+    * @since 3.1
+    */
+   public SortedMap<Integer, List<ConstraintViolation>> validateAll(final Iterable<?> validatedObjects) throws IllegalArgumentException,
+      ValidationFailedException {
+      Assert.argumentNotNull("validatedObjects", validatedObjects);
+
+      if (validatedObjects instanceof Collection)
+         return validateAll(((Collection<?>) validatedObjects).toArray());
+
+      final List<Object> items = collectionFactory.createList();
+      for (final Object item : validatedObjects) {
+         items.add(item);
       }
+      return validateAll(items.toArray());
+   }
+
+   /**
+    * Asynchronously validates the given object using the given executor.
+    * The validation is performed in a new validation cycle of the executing thread, i.e. the returned future can be consumed on any thread.
+    *
+    * @return a future providing the constraint violations or an empty list if the object is valid
+    * @since 3.1
+    */
+   public CompletableFuture<List<ConstraintViolation>> validateAsync(final Object validatedObject, final Executor executor)
+      throws IllegalArgumentException {
+      return validateAsync(validatedObject, executor, (String[]) null);
+   }
+
+   /**
+    * Asynchronously validates the given object using the given executor, see {@link #validateAsync(Object, Executor)}.
+    *
+    * @param profiles optional list of profiles to validate, if none are specified the globally enabled profiles are used
+    * @since 3.1
+    */
+   public CompletableFuture<List<ConstraintViolation>> validateAsync(final Object validatedObject, final Executor executor, final String... profiles)
+      throws IllegalArgumentException {
+      Assert.argumentNotNull("validatedObject", validatedObject);
+      Assert.argumentNotNull("executor", executor);
+
+      final String[] effectiveProfiles = profiles == null || profiles.length == 0 ? null : profiles;
+      final FailFastMode failFastMode = this.failFastMode;
+      final ValidationBudget budget = validationBudget;
+      return supplyAsync(() -> _validate(validatedObject, effectiveProfiles, failFastMode, budget), executor);
    }
 
    @Override
@@ -1352,7 +2559,8 @@ public class Validator implements IValidator {
       Assert.argumentNotNull("validatedField", validatedField);
 
       final ValidationCycle cycle = new ValidationCycle(validatedObject, null);
-      currentValidationCycles.get().add(cycle);
+      cycle.failFastMode = failFastMode;
+      beginValidationCycle(cycle);
       try {
          final ClassChecks cc = getClassChecks(validatedField.getDeclaringClass());
          final Collection<Check> checks = cc.checksForFields.get(validatedField);
@@ -1365,11 +2573,14 @@ public class Validator implements IValidator {
          for (final Check check : checks) {
             checkConstraint(check, validatedObject, fieldValueToValidate, context, cycle, false);
          }
+         cycle.assertBudgetNotExhausted();
          return cycle.violations;
+      } catch (final ValidationBudgetExceededException ex) {
+         throw ex;
       } catch (final OValException ex) {
          throw new ValidationFailedException("Field validation failed. Field: " + validatedField + " Validated object: " + validatedObject, ex);
       } finally {
-         currentValidationCycles.get().removeLast();
+         endValidationCycle(cycle);
       }
    }
 
@@ -1379,11 +2590,18 @@ public class Validator implements IValidator {
     * If the given object is a class the static fields and getters are validated.
     */
    protected void validateInvariants(final Object validatedObject, final ValidationCycle cycle) throws ValidationFailedException {
-      currentValidationCycles.get().getLast().validatedObjects.add(validatedObject);
       if (validatedObject instanceof Class<?>) {
+         currentValidationCycles.get().getLast().addValidatedObject(validatedObject);
          _validateStaticInvariants((Class<?>) validatedObject, cycle);
       } else {
-         _validateObjectInvariants(validatedObject, validatedObject.getClass(), cycle);
+         final ValidationPlan plan = getValidationPlan(validatedObject.getClass());
+
+         // nothing to validate in the whole object graph below the given object
+         if (plan.isEmpty())
+            return;
+
+         currentValidationCycles.get().getLast().addValidatedObject(validatedObject);
+         _validateObjectInvariants(validatedObject, plan, cycle);
       }
    }
 }
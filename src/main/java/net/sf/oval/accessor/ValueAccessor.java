@@ -0,0 +1,32 @@
+/*********************************************************************
+ * Copyright 2005-2020 by Sebastian Thomschke and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *********************************************************************/
+package net.sf.oval.accessor;
+
+import net.sf.oval.exception.AccessingFieldValueFailedException;
+import net.sf.oval.exception.ConstraintsViolatedException;
+import net.sf.oval.exception.InvokingMethodFailedException;
+
+/**
+ * Reads the value of a single field or the return value of a single parameterless method.
+ *
+ * @author Sebastian Thomschke
+ * @since 3.1
+ */
+@FunctionalInterface
+public interface ValueAccessor {
+
+   /**
+    * @param target the object to read the value from, may be null for static fields and methods
+    * @throws AccessingFieldValueFailedException if reading the field value failed
+    * @throws InvokingMethodFailedException if invoking the method failed
+    * @throws ConstraintsViolatedException if the invoked method is guarded and its constraints are violated
+    */
+   Object getValue(Object target) throws AccessingFieldValueFailedException, InvokingMethodFailedException, ConstraintsViolatedException;
+}
@@ -0,0 +1,28 @@
+/*********************************************************************
+ * Copyright 2005-2020 by Sebastian Thomschke and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *********************************************************************/
+package net.sf.oval.accessor;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+/**
+ * Creates value accessors for fields and parameterless methods. Created accessors are cached by the
+ * {@link net.sf.oval.context.FieldContext} and {@link net.sf.oval.context.MethodReturnValueContext}, i.e. implementations
+ * do not need to cache them.
+ *
+ * @author Sebastian Thomschke
+ * @since 3.1
+ */
+public interface ValueAccessorFactory {
+
+   ValueAccessor createValueAccessor(Field field);
+
+   ValueAccessor createValueAccessor(Method method);
+}
@@ -0,0 +1,116 @@
+/*********************************************************************
+ * Copyright 2005-2020 by Sebastian Thomschke and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *********************************************************************/
+package net.sf.oval.accessor;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import net.sf.oval.exception.AccessingFieldValueFailedException;
+import net.sf.oval.exception.ConstraintsViolatedException;
+import net.sf.oval.exception.InvokingMethodFailedException;
+import net.sf.oval.internal.ContextCache;
+import net.sf.oval.internal.Log;
+import net.sf.oval.internal.util.ReflectionUtils;
+
+/**
+ * Value accessor factory creating accessors based on {@link MethodHandle}s which are adapted to the signature
+ * <code>(Object)Object</code> once so that no argument arrays need to be allocated and no access checks need to be performed
+ * when reading values.
+ *
+ * If no method handle can be obtained for a field or method the factory falls back to the {@link ValueAccessorFactoryReflectionImpl}.
+ *
+ * @author Sebastian Thomschke
+ * @since 3.1
+ */
+public class ValueAccessorFactoryMethodHandleImpl implements ValueAccessorFactory {
+
+   private static final class FieldValueAccessor implements ValueAccessor {
+      private final Field field;
+      private final MethodHandle getter;
+
+      FieldValueAccessor(final Field field, final MethodHandle getter) {
+         this.field = field;
+         this.getter = getter;
+      }
+
+      @Override
+      public Object getValue(final Object target) throws AccessingFieldValueFailedException {
+         try {
+            return getter.invokeExact(target);
+         } catch (final Throwable ex) { // CHECKSTYLE:IGNORE IllegalCatch
+            throw new AccessingFieldValueFailedException(field.getName(), target, ContextCache.getFieldContext(field), ex);
+         }
+      }
+   }
+
+   private static final class MethodValueAccessor implements ValueAccessor {
+      private final Method method;
+      private final MethodHandle invoker;
+
+      MethodValueAccessor(final Method method, final MethodHandle invoker) {
+         this.method = method;
+         this.invoker = invoker;
+      }
+
+      @Override
+      public Object getValue(final Object target) throws InvokingMethodFailedException, ConstraintsViolatedException {
+         try {
+            return invoker.invokeExact(target);
+         } catch (final ConstraintsViolatedException ex) {
+            throw ex;
+         } catch (final Throwable ex) { // CHECKSTYLE:IGNORE IllegalCatch
+            throw new InvokingMethodFailedException("Executing method " + method.getName() + " failed.", target, ContextCache.getMethodReturnValueContext(
+               method), ex);
+         }
+      }
+   }
+
+   private static final Log LOG = Log.getLog(ValueAccessorFactoryMethodHandleImpl.class);
+
+   private static final MethodType ACCESSOR_TYPE = MethodType.methodType(Object.class, Object.class);
+
+   public static final ValueAccessorFactoryMethodHandleImpl INSTANCE = new ValueAccessorFactoryMethodHandleImpl();
+
+   /**
+    * Adapts the given handle to the signature <code>(Object)Object</code>, handles of static members get an ignored target parameter.
+    */
+   private static MethodHandle _adapt(final MethodHandle handle, final boolean isStatic) {
+      final MethodHandle withTarget = isStatic ? MethodHandles.dropArguments(handle, 0, Object.class) : handle;
+      return withTarget.asType(ACCESSOR_TYPE);
+   }
+
+   @Override
+   public ValueAccessor createValueAccessor(final Field field) {
+      try {
+         ReflectionUtils.setAccessible(field, true);
+         return new FieldValueAccessor(field, _adapt(MethodHandles.lookup().unreflectGetter(field), ReflectionUtils.isStatic(field)));
+      } catch (final Exception ex) {
+         LOG.debug("Cannot create method handle for field {1}, falling back to reflection.", field, ex);
+         return ValueAccessorFactoryReflectionImpl.INSTANCE.createValueAccessor(field);
+      }
+   }
+
+   @Override
+   public ValueAccessor createValueAccessor(final Method method) {
+      if (method.getParameterCount() > 0)
+         return ValueAccessorFactoryReflectionImpl.INSTANCE.createValueAccessor(method);
+
+      try {
+         ReflectionUtils.setAccessible(method, true);
+         return new MethodValueAccessor(method, _adapt(MethodHandles.lookup().unreflect(method), ReflectionUtils.isStatic(method)));
+      } catch (final Exception ex) {
+         LOG.debug("Cannot create method handle for method {1}, falling back to reflection.", method, ex);
+         return ValueAccessorFactoryReflectionImpl.INSTANCE.createValueAccessor(method);
+      }
+   }
+}
@@ -0,0 +1,38 @@
+/*********************************************************************
+ * Copyright 2005-2020 by Sebastian Thomschke and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *********************************************************************/
+package net.sf.oval.accessor;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+
+import net.sf.oval.internal.util.ReflectionUtils;
+
+/**
+ * Value accessor factory creating accessors based on {@link Field#get(Object)} and {@link Method#invoke(Object, Object...)}.
+ *
+ * @author Sebastian Thomschke
+ * @since 3.1
+ */
+public class ValueAccessorFactoryReflectionImpl implements ValueAccessorFactory {
+
+   public static final ValueAccessorFactoryReflectionImpl INSTANCE = new ValueAccessorFactoryReflectionImpl();
+
+   private static final Object[] NO_ARGS = {};
+
+   @Override
+   public ValueAccessor createValueAccessor(final Field field) {
+      return target -> ReflectionUtils.getFieldValue(field, target);
+   }
+
+   @Override
+   public ValueAccessor createValueAccessor(final Method method) {
+      return target -> ReflectionUtils.invokeMethod(method, target, NO_ARGS);
+   }
+}
@@ -0,0 +1,7 @@
+/**
+ * This package contains the value accessors used to read the values of constrained fields and getter methods
+ * and the factories creating them.
+ *
+ * @author Sebastian Thomschke
+ */
+package net.sf.oval.accessor;
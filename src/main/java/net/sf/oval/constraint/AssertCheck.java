@@ -13,6 +13,7 @@ import static net.sf.oval.Validator.*;
 
 import java.util.Map;
 
+import net.sf.oval.ContextIndependentCheck;
 import net.sf.oval.Validator;
 import net.sf.oval.configuration.annotation.AbstractAnnotationCheck;
 import net.sf.oval.context.OValContext;
@@ -23,7 +24,7 @@ import net.sf.oval.expression.ExpressionLanguage;
 /**
  * @author Sebastian Thomschke
  */
-public class AssertCheck extends AbstractAnnotationCheck<Assert> {
+public class AssertCheck extends AbstractAnnotationCheck<Assert> implements ContextIndependentCheck {
    private static final long serialVersionUID = 1L;
 
    private String expr;
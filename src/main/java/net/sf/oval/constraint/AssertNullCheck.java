@@ -9,6 +9,7 @@
  *********************************************************************/
 package net.sf.oval.constraint;
 
+import net.sf.oval.ContextIndependentCheck;
 import net.sf.oval.Validator;
 import net.sf.oval.configuration.annotation.AbstractAnnotationCheck;
 import net.sf.oval.context.OValContext;
@@ -16,7 +17,7 @@ import net.sf.oval.context.OValContext;
 /**
  * @author Sebastian Thomschke
  */
-public class AssertNullCheck extends AbstractAnnotationCheck<AssertNull> {
+public class AssertNullCheck extends AbstractAnnotationCheck<AssertNull> implements ContextIndependentCheck {
    private static final long serialVersionUID = 1L;
 
    @Override
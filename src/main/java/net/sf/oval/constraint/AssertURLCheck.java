@@ -19,6 +19,7 @@ import java.net.URLConnection;
 import java.util.List;
 
 import net.sf.oval.ConstraintTarget;
+import net.sf.oval.ContextIndependentCheck;
 import net.sf.oval.Validator;
 import net.sf.oval.configuration.annotation.AbstractAnnotationCheck;
 import net.sf.oval.context.OValContext;
@@ -28,7 +29,7 @@ import net.sf.oval.internal.Log;
  * @author Sebastian Thomschke
  * @author Makkari - live connect support
  */
-public class AssertURLCheck extends AbstractAnnotationCheck<AssertURL> {
+public class AssertURLCheck extends AbstractAnnotationCheck<AssertURL> implements ContextIndependentCheck {
    /**
     * https://en.wikipedia.org/wiki/Uniform_Resource_Identifier#scheme
     *
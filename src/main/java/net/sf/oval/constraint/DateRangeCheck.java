@@ -19,6 +19,7 @@ import java.util.Date;
 import java.util.Map;
 
 import net.sf.oval.ConstraintTarget;
+import net.sf.oval.ContextIndependentCheck;
 import net.sf.oval.Validator;
 import net.sf.oval.configuration.annotation.AbstractAnnotationCheck;
 import net.sf.oval.context.OValContext;
@@ -28,7 +29,7 @@ import net.sf.oval.internal.Log;
 /**
  * @author Sebastian Thomschke
  */
-public class DateRangeCheck extends AbstractAnnotationCheck<DateRange> {
+public class DateRangeCheck extends AbstractAnnotationCheck<DateRange> implements ContextIndependentCheck {
    private static final Log LOG = Log.getLog(DateRangeCheck.class);
 
    private static final long serialVersionUID = 1L;
@@ -16,6 +16,8 @@ import java.math.BigInteger;
 import java.util.Map;
 
 import net.sf.oval.ConstraintTarget;
+import net.sf.oval.ContextIndependentCheck;
+import net.sf.oval.PrimitiveValueCheck;
 import net.sf.oval.Validator;
 import net.sf.oval.configuration.annotation.AbstractAnnotationCheck;
 import net.sf.oval.context.OValContext;
@@ -24,7 +26,7 @@ import net.sf.oval.internal.Log;
 /**
  * @author Sebastian Thomschke
  */
-public class DigitsCheck extends AbstractAnnotationCheck<Digits> {
+public class DigitsCheck extends AbstractAnnotationCheck<Digits> implements ContextIndependentCheck, PrimitiveValueCheck {
    private static final Log LOG = Log.getLog(DigitsCheck.class);
 
    private static final long serialVersionUID = 1L;
@@ -34,6 +36,19 @@ public class DigitsCheck extends AbstractAnnotationCheck<Digits> {
    private int minFraction = 0;
    private int minInteger = 0;
 
+   private static int _getIntegerLength(final long value) {
+      return value == 0 ? 1 : (int) Math.log10(value) + 1;
+   }
+
+   private boolean _isSatisfied(final BigDecimal value) {
+      final int valueScale = value.scale();
+      return _isSatisfied(_getIntegerLength(value.longValue()), valueScale > 0 ? valueScale : 0);
+   }
+
+   private boolean _isSatisfied(final int intLen, final int fractLen) {
+      return intLen <= maxInteger && intLen >= minInteger && fractLen <= maxFraction && fractLen >= minFraction;
+   }
+
    @Override
    public void configure(final Digits constraintAnnotation) {
       super.configure(constraintAnnotation);
@@ -74,51 +89,45 @@ public class DigitsCheck extends AbstractAnnotationCheck<Digits> {
       return minInteger;
    }
 
+   @Override
+   public boolean isSatisfied(final Object validatedObject, final double valueToValidate, final OValContext context, final Validator validator) {
+      // same conversion as applied to boxed Double values
+      final BigDecimal value;
+      try {
+         value = new BigDecimal(Double.toString(valueToValidate));
+      } catch (final NumberFormatException ex) {
+         LOG.debug("Failed to parse numeric value: " + valueToValidate, ex);
+         return false;
+      }
+      return _isSatisfied(value);
+   }
+
+   @Override
+   public boolean isSatisfied(final Object validatedObject, final long valueToValidate, final OValContext context, final Validator validator) {
+      return _isSatisfied(_getIntegerLength(valueToValidate), 0);
+   }
+
    @Override
    public boolean isSatisfied(final Object validatedObject, final Object valueToValidate, final OValContext context, final Validator validator) {
       if (valueToValidate == null)
          return true;
 
-      final int fractLen, intLen;
-      if (valueToValidate instanceof Integer) {
-         final int value = (Integer) valueToValidate;
-         intLen = value == 0 ? 1 : (int) Math.log10(value) + 1;
-         fractLen = 0;
-      } else if (valueToValidate instanceof Long) {
-         final long value = (Long) valueToValidate;
-         intLen = value == 0 ? 1 : (int) Math.log10(value) + 1;
-         fractLen = 0;
-      } else if (valueToValidate instanceof Short) {
-         final short value = (Short) valueToValidate;
-         intLen = value == 0 ? 1 : (int) Math.log10(value) + 1;
-         fractLen = 0;
-      } else if (valueToValidate instanceof Byte) {
-         final byte value = (Byte) valueToValidate;
-         intLen = value == 0 ? 1 : (int) Math.log10(value) + 1;
-         fractLen = 0;
-      } else if (valueToValidate instanceof BigInteger) {
-         final long value = ((BigInteger) valueToValidate).longValue();
-         intLen = value == 0 ? 1 : (int) Math.log10(value) + 1;
-         fractLen = 0;
+      if (valueToValidate instanceof Integer || valueToValidate instanceof Long || valueToValidate instanceof Short
+         || valueToValidate instanceof Byte || valueToValidate instanceof BigInteger)
+         return _isSatisfied(_getIntegerLength(((Number) valueToValidate).longValue()), 0);
+
+      BigDecimal value = null;
+      if (valueToValidate instanceof BigDecimal) {
+         value = (BigDecimal) valueToValidate;
       } else {
-         BigDecimal value = null;
-         if (valueToValidate instanceof BigDecimal) {
-            value = (BigDecimal) valueToValidate;
-         } else {
-            try {
-               value = new BigDecimal(valueToValidate.toString());
-            } catch (final NumberFormatException ex) {
-               LOG.debug("Failed to parse numeric value: " + valueToValidate, ex);
-               return false;
-            }
+         try {
+            value = new BigDecimal(valueToValidate.toString());
+         } catch (final NumberFormatException ex) {
+            LOG.debug("Failed to parse numeric value: " + valueToValidate, ex);
+            return false;
          }
-         final int valueScale = value.scale();
-         final long longValue = value.longValue();
-         intLen = longValue == 0 ? 1 : (int) Math.log10(longValue) + 1;
-         fractLen = valueScale > 0 ? valueScale : 0;
       }
-
-      return intLen <= maxInteger && intLen >= minInteger && fractLen <= maxFraction && fractLen >= minFraction;
+      return _isSatisfied(value);
    }
 
    public void setMaxFraction(final int maxFraction) {
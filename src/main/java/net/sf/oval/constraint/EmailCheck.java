@@ -12,6 +12,7 @@ package net.sf.oval.constraint;
 import java.util.regex.Pattern;
 
 import net.sf.oval.ConstraintTarget;
+import net.sf.oval.ContextIndependentCheck;
 import net.sf.oval.Validator;
 import net.sf.oval.configuration.annotation.AbstractAnnotationCheck;
 import net.sf.oval.context.OValContext;
@@ -20,7 +21,7 @@ import net.sf.oval.exception.OValException;
 /**
  * @author Sebastian Thomschke
  */
-public class EmailCheck extends AbstractAnnotationCheck<Email> {
+public class EmailCheck extends AbstractAnnotationCheck<Email> implements ContextIndependentCheck {
    private static final long serialVersionUID = 1L;
 
    private static final String SPECIAL_CHARACTERS = "'\\(\\)\\-\\.`";
@@ -22,6 +22,7 @@ import java.util.Calendar;
 import java.util.Date;
 
 import net.sf.oval.ConstraintTarget;
+import net.sf.oval.ContextIndependentCheck;
 import net.sf.oval.Validator;
 import net.sf.oval.configuration.annotation.AbstractAnnotationCheck;
 import net.sf.oval.context.OValContext;
@@ -29,7 +30,7 @@ import net.sf.oval.context.OValContext;
 /**
  * @author Sebastian Thomschke
  */
-public class FutureCheck extends AbstractAnnotationCheck<Future> {
+public class FutureCheck extends AbstractAnnotationCheck<Future> implements ContextIndependentCheck {
 
    private static final long serialVersionUID = 1L;
 
@@ -14,6 +14,7 @@ import static net.sf.oval.Validator.*;
 import java.util.Map;
 
 import net.sf.oval.ConstraintTarget;
+import net.sf.oval.ContextIndependentCheck;
 import net.sf.oval.Validator;
 import net.sf.oval.configuration.annotation.AbstractAnnotationCheck;
 import net.sf.oval.context.OValContext;
@@ -21,7 +22,7 @@ import net.sf.oval.context.OValContext;
 /**
  * @author Sebastian Thomschke
  */
-public class HasSubstringCheck extends AbstractAnnotationCheck<HasSubstring> {
+public class HasSubstringCheck extends AbstractAnnotationCheck<HasSubstring> implements ContextIndependentCheck {
    private static final long serialVersionUID = 1L;
 
    private boolean ignoreCase;
@@ -13,6 +13,7 @@ import static net.sf.oval.Validator.*;
 
 import java.util.Map;
 
+import net.sf.oval.ContextIndependentCheck;
 import net.sf.oval.Validator;
 import net.sf.oval.configuration.annotation.AbstractAnnotationCheck;
 import net.sf.oval.context.OValContext;
@@ -21,7 +22,7 @@ import net.sf.oval.internal.util.StringUtils;
 /**
  * @author Sebastian Thomschke
  */
-public class InstanceOfAnyCheck extends AbstractAnnotationCheck<InstanceOfAny> {
+public class InstanceOfAnyCheck extends AbstractAnnotationCheck<InstanceOfAny> implements ContextIndependentCheck {
    private static final long serialVersionUID = 1L;
 
    private Class<?>[] types;
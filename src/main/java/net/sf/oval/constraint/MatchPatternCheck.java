@@ -18,6 +18,7 @@ import java.util.Map;
 import java.util.regex.Pattern;
 
 import net.sf.oval.ConstraintTarget;
+import net.sf.oval.ContextIndependentCheck;
 import net.sf.oval.Validator;
 import net.sf.oval.configuration.annotation.AbstractAnnotationCheck;
 import net.sf.oval.context.OValContext;
@@ -25,7 +26,7 @@ import net.sf.oval.context.OValContext;
 /**
  * @author Sebastian Thomschke
  */
-public class MatchPatternCheck extends AbstractAnnotationCheck<MatchPattern> {
+public class MatchPatternCheck extends AbstractAnnotationCheck<MatchPattern> implements ContextIndependentCheck {
    private static final long serialVersionUID = 1L;
 
    private final List<Pattern> patterns = getCollectionFactory().createList(2);
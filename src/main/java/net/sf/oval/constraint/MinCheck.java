@@ -14,6 +14,8 @@ import static net.sf.oval.Validator.*;
 import java.util.Map;
 
 import net.sf.oval.ConstraintTarget;
+import net.sf.oval.ContextIndependentCheck;
+import net.sf.oval.PrimitiveValueCheck;
 import net.sf.oval.Validator;
 import net.sf.oval.configuration.annotation.AbstractAnnotationCheck;
 import net.sf.oval.context.OValContext;
@@ -21,7 +23,7 @@ import net.sf.oval.context.OValContext;
 /**
  * @author Sebastian Thomschke
  */
-public class MinCheck extends AbstractAnnotationCheck<Min> {
+public class MinCheck extends AbstractAnnotationCheck<Min> implements ContextIndependentCheck, PrimitiveValueCheck {
    private static final long serialVersionUID = 1L;
 
    private boolean inclusive = true;
@@ -54,6 +56,18 @@ public class MinCheck extends AbstractAnnotationCheck<Min> {
       return inclusive;
    }
 
+   @Override
+   public boolean isSatisfied(final Object validatedObject, final double valueToValidate, final OValContext context, final Validator validator) {
+      if (inclusive)
+         return valueToValidate >= min;
+      return valueToValidate > min;
+   }
+
+   @Override
+   public boolean isSatisfied(final Object validatedObject, final long valueToValidate, final OValContext context, final Validator validator) {
+      return isSatisfied(validatedObject, (double) valueToValidate, context, validator);
+   }
+
    @Override
    public boolean isSatisfied(final Object validatedObject, final Object valueToValidate, final OValContext context, final Validator validator) {
       if (valueToValidate == null)
@@ -15,6 +15,7 @@ import java.lang.reflect.Array;
 import java.util.Collection;
 import java.util.Map;
 
+import net.sf.oval.ContextIndependentCheck;
 import net.sf.oval.Validator;
 import net.sf.oval.configuration.annotation.AbstractAnnotationCheck;
 import net.sf.oval.context.OValContext;
@@ -22,7 +23,7 @@ import net.sf.oval.context.OValContext;
 /**
  * @author Sebastian Thomschke
  */
-public class MinSizeCheck extends AbstractAnnotationCheck<MinSize> {
+public class MinSizeCheck extends AbstractAnnotationCheck<MinSize> implements ContextIndependentCheck {
    private static final long serialVersionUID = 1L;
 
    private int min;
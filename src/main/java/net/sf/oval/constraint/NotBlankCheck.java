@@ -10,6 +10,7 @@
 package net.sf.oval.constraint;
 
 import net.sf.oval.ConstraintTarget;
+import net.sf.oval.ContextIndependentCheck;
 import net.sf.oval.Validator;
 import net.sf.oval.configuration.annotation.AbstractAnnotationCheck;
 import net.sf.oval.context.OValContext;
@@ -17,7 +18,7 @@ import net.sf.oval.context.OValContext;
 /**
  * @author Sebastian Thomschke
  */
-public class NotBlankCheck extends AbstractAnnotationCheck<NotBlank> {
+public class NotBlankCheck extends AbstractAnnotationCheck<NotBlank> implements ContextIndependentCheck {
    private static final long serialVersionUID = 1L;
 
    @Override
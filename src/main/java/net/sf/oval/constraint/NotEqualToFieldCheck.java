@@ -15,6 +15,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.Map;
 
+import net.sf.oval.ContextIndependentCheck;
 import net.sf.oval.Validator;
 import net.sf.oval.configuration.annotation.AbstractAnnotationCheck;
 import net.sf.oval.context.OValContext;
@@ -27,7 +28,7 @@ import net.sf.oval.internal.util.ReflectionUtils;
 /**
  * @author Sebastian Thomschke
  */
-public class NotEqualToFieldCheck extends AbstractAnnotationCheck<NotEqualToField> {
+public class NotEqualToFieldCheck extends AbstractAnnotationCheck<NotEqualToField> implements ContextIndependentCheck {
    private static final long serialVersionUID = 1L;
 
    private boolean useGetter;
@@ -16,6 +16,7 @@ import java.util.List;
 import java.util.Map;
 
 import net.sf.oval.ConstraintTarget;
+import net.sf.oval.ContextIndependentCheck;
 import net.sf.oval.Validator;
 import net.sf.oval.configuration.annotation.AbstractAnnotationCheck;
 import net.sf.oval.context.OValContext;
@@ -24,7 +25,7 @@ import net.sf.oval.internal.util.StringUtils;
 /**
  * @author Sebastian Thomschke
  */
-public class NotMemberOfCheck extends AbstractAnnotationCheck<NotMemberOf> {
+public class NotMemberOfCheck extends AbstractAnnotationCheck<NotMemberOf> implements ContextIndependentCheck {
    private static final long serialVersionUID = 1L;
 
    private boolean ignoreCase;
@@ -12,6 +12,8 @@ package net.sf.oval.constraint;
 import java.math.BigDecimal;
 
 import net.sf.oval.ConstraintTarget;
+import net.sf.oval.ContextIndependentCheck;
+import net.sf.oval.PrimitiveValueCheck;
 import net.sf.oval.Validator;
 import net.sf.oval.configuration.annotation.AbstractAnnotationCheck;
 import net.sf.oval.context.OValContext;
@@ -19,7 +21,7 @@ import net.sf.oval.context.OValContext;
 /**
  * @author Sebastian Thomschke
  */
-public class NotNegativeCheck extends AbstractAnnotationCheck<NotNegative> {
+public class NotNegativeCheck extends AbstractAnnotationCheck<NotNegative> implements ContextIndependentCheck, PrimitiveValueCheck {
    private static final BigDecimal ZERO = BigDecimal.valueOf(0);
 
    private static final long serialVersionUID = 1L;
@@ -29,6 +31,16 @@ public class NotNegativeCheck extends AbstractAnnotationCheck<NotNegative> {
       return new ConstraintTarget[] {ConstraintTarget.VALUES};
    }
 
+   @Override
+   public boolean isSatisfied(final Object validatedObject, final double valueToValidate, final OValContext context, final Validator validator) {
+      return valueToValidate >= 0;
+   }
+
+   @Override
+   public boolean isSatisfied(final Object validatedObject, final long valueToValidate, final OValContext context, final Validator validator) {
+      return valueToValidate >= 0;
+   }
+
    @Override
    public boolean isSatisfied(final Object validatedObject, final Object valueToValidate, final OValContext context, final Validator validator) {
       if (valueToValidate == null)
@@ -14,6 +14,8 @@ import static net.sf.oval.Validator.*;
 import java.util.Map;
 
 import net.sf.oval.ConstraintTarget;
+import net.sf.oval.ContextIndependentCheck;
+import net.sf.oval.PrimitiveValueCheck;
 import net.sf.oval.Validator;
 import net.sf.oval.configuration.annotation.AbstractAnnotationCheck;
 import net.sf.oval.context.OValContext;
@@ -21,7 +23,7 @@ import net.sf.oval.context.OValContext;
 /**
  * @author Sebastian Thomschke
  */
-public class RangeCheck extends AbstractAnnotationCheck<Range> {
+public class RangeCheck extends AbstractAnnotationCheck<Range> implements ContextIndependentCheck, PrimitiveValueCheck {
    private static final long serialVersionUID = 1L;
 
    private double min = Double.MIN_VALUE;
@@ -55,6 +57,16 @@ public class RangeCheck extends AbstractAnnotationCheck<Range> {
       return min;
    }
 
+   @Override
+   public boolean isSatisfied(final Object validatedObject, final double valueToValidate, final OValContext context, final Validator validator) {
+      return valueToValidate >= min && valueToValidate <= max;
+   }
+
+   @Override
+   public boolean isSatisfied(final Object validatedObject, final long valueToValidate, final OValContext context, final Validator validator) {
+      return valueToValidate >= min && valueToValidate <= max;
+   }
+
    @Override
    public boolean isSatisfied(final Object validatedObject, final Object valueToValidate, final OValContext context, final Validator validator) {
       if (valueToValidate == null)
@@ -16,6 +16,7 @@ import java.util.Map;
 import java.util.concurrent.ConcurrentMap;
 
 import net.sf.oval.ConstraintTarget;
+import net.sf.oval.ContextIndependentCheck;
 import net.sf.oval.Validator;
 import net.sf.oval.configuration.annotation.AbstractAnnotationCheck;
 import net.sf.oval.context.OValContext;
@@ -26,7 +27,7 @@ import net.sf.oval.internal.util.ReflectionUtils;
 /**
  * @author Sebastian Thomschke
  */
-public class ValidateWithMethodCheck extends AbstractAnnotationCheck<ValidateWithMethod> {
+public class ValidateWithMethodCheck extends AbstractAnnotationCheck<ValidateWithMethod> implements ContextIndependentCheck {
    private static final long serialVersionUID = 1L;
 
    private final ConcurrentMap<Class<?>, Method> validationMethodsByClass = Validator.getCollectionFactory().createConcurrentMap();
@@ -11,6 +11,9 @@ package net.sf.oval.context;
 
 import java.lang.reflect.Field;
 
+import net.sf.oval.Validator;
+import net.sf.oval.accessor.ValueAccessor;
+import net.sf.oval.accessor.ValueAccessorFactory;
 import net.sf.oval.internal.util.ReflectionUtils;
 import net.sf.oval.internal.util.SerializableField;
 
@@ -22,6 +25,15 @@ public class FieldContext extends OValContext {
 
    private final SerializableField field;
 
+   /*
+    * the accessor is cached together with the factory that created it so that it is re-created when
+    * a different factory is configured via Validator.setValueAccessorFactory
+    */
+   private transient volatile ValueAccessor valueAccessor;
+   private transient volatile ValueAccessorFactory valueAccessorFactory;
+
+   private transient volatile Class<?>[] typeArguments;
+
    public FieldContext(final Class<?> declaringClass, final String fieldName) {
       final Field field = ReflectionUtils.getField(declaringClass, fieldName);
       this.field = new SerializableField(field);
@@ -42,6 +54,35 @@ public class FieldContext extends OValContext {
       return field.getField();
    }
 
+   /**
+    * @return the class of the type argument with the given index of the field's generic type, e.g. the element type of a
+    *         <code>List&lt;String&gt;</code> field, or <code>null</code> if not resolvable. The type arguments are resolved only once.
+    * @since 3.1
+    */
+   public Class<?> getTypeArgument(final int typeArgumentIndex) {
+      Class<?>[] args = typeArguments;
+      if (args == null) {
+         args = ReflectionUtils.getTypeArguments(getField().getGenericType());
+         typeArguments = args;
+      }
+      return typeArgumentIndex < args.length ? args[typeArgumentIndex] : null;
+   }
+
+   /**
+    * @return the cached accessor to read the value of the field
+    * @since 3.1
+    */
+   public ValueAccessor getValueAccessor() {
+      final ValueAccessorFactory factory = Validator.getValueAccessorFactory();
+      ValueAccessor accessor = valueAccessor;
+      if (accessor == null || valueAccessorFactory != factory) {
+         accessor = factory.createValueAccessor(getField());
+         valueAccessor = accessor;
+         valueAccessorFactory = factory;
+      }
+      return accessor;
+   }
+
    @Override
    public String toString() {
       return field.getDeclaringClass().getName() + '.' + toStringUnqualified();
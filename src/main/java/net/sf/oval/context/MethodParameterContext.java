@@ -12,6 +12,7 @@ package net.sf.oval.context;
 import java.lang.reflect.Method;
 
 import net.sf.oval.Validator;
+import net.sf.oval.internal.util.ReflectionUtils;
 import net.sf.oval.internal.util.SerializableMethod;
 import net.sf.oval.internal.util.StringUtils;
 
@@ -25,6 +26,8 @@ public class MethodParameterContext extends OValContext {
    private final int parameterIndex;
    private final String parameterName;
 
+   private transient volatile Class<?>[] typeArguments;
+
    public MethodParameterContext(final Method method, final int parameterIndex, final String parameterName) {
       this.method = new SerializableMethod(method);
       this.parameterIndex = parameterIndex;
@@ -49,6 +52,20 @@ public class MethodParameterContext extends OValContext {
       return parameterName;
    }
 
+   /**
+    * @return the class of the type argument with the given index of the parameter's generic type, e.g. the element type of a
+    *         <code>List&lt;String&gt;</code> parameter, or <code>null</code> if not resolvable. The type arguments are resolved only once.
+    * @since 3.1
+    */
+   public Class<?> getTypeArgument(final int typeArgumentIndex) {
+      Class<?>[] args = typeArguments;
+      if (args == null) {
+         args = ReflectionUtils.getTypeArguments(getMethod().getGenericParameterTypes()[parameterIndex]);
+         typeArguments = args;
+      }
+      return typeArgumentIndex < args.length ? args[typeArgumentIndex] : null;
+   }
+
    @Override
    public String toString() {
       return method.getDeclaringClass().getName() + "." + toStringUnqualified();
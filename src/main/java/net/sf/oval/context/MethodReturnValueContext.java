@@ -11,6 +11,9 @@ package net.sf.oval.context;
 
 import java.lang.reflect.Method;
 
+import net.sf.oval.Validator;
+import net.sf.oval.accessor.ValueAccessor;
+import net.sf.oval.accessor.ValueAccessorFactory;
 import net.sf.oval.internal.util.SerializableMethod;
 
 /**
@@ -21,6 +24,10 @@ public class MethodReturnValueContext extends OValContext {
 
    private final SerializableMethod method;
 
+   // see FieldContext#valueAccessor
+   private transient volatile ValueAccessor valueAccessor;
+   private transient volatile ValueAccessorFactory valueAccessorFactory;
+
    public MethodReturnValueContext(final Method method) {
       this.method = new SerializableMethod(method);
       compileTimeType = method.getReturnType();
@@ -35,6 +42,21 @@ public class MethodReturnValueContext extends OValContext {
       return method.getMethod();
    }
 
+   /**
+    * @return the cached accessor to invoke the method and obtain its return value
+    * @since 3.1
+    */
+   public ValueAccessor getValueAccessor() {
+      final ValueAccessorFactory factory = Validator.getValueAccessorFactory();
+      ValueAccessor accessor = valueAccessor;
+      if (accessor == null || valueAccessorFactory != factory) {
+         accessor = factory.createValueAccessor(getMethod());
+         valueAccessor = accessor;
+         valueAccessorFactory = factory;
+      }
+      return accessor;
+   }
+
    @Override
    public String toString() {
       return method.getDeclaringClass().getName() + "." + toStringUnqualified();
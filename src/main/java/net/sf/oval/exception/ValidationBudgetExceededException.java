@@ -0,0 +1,42 @@
+/*********************************************************************
+ * Copyright 2005-2020 by Sebastian Thomschke and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *********************************************************************/
+package net.sf.oval.exception;
+
+import java.util.List;
+
+import net.sf.oval.ConstraintViolation;
+
+/**
+ * This exception is thrown if a validation was aborted because its {@link net.sf.oval.ValidationBudget} has been exhausted.
+ *
+ * @author Sebastian Thomschke
+ * @since 3.1
+ */
+public class ValidationBudgetExceededException extends ValidationFailedException {
+   private static final long serialVersionUID = 1L;
+
+   private final ConstraintViolation[] constraintViolations;
+
+   /**
+    * @param constraintViolations the constraint violations found before the budget was exhausted
+    */
+   public ValidationBudgetExceededException(final String message, final List<ConstraintViolation> constraintViolations) {
+      super(message);
+
+      this.constraintViolations = constraintViolations.toArray(new ConstraintViolation[constraintViolations.size()]);
+   }
+
+   /**
+    * @return the constraint violations found before the budget was exhausted, i.e. a partial result
+    */
+   public ConstraintViolation[] getConstraintViolations() {
+      return constraintViolations.clone();
+   }
+}
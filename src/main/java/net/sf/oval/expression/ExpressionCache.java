@@ -0,0 +1,249 @@
+/*********************************************************************
+ * Copyright 2005-2020 by Sebastian Thomschke and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *********************************************************************/
+package net.sf.oval.expression;
+
+import java.util.Map.Entry;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Consumer;
+import java.util.function.Function;
+
+import net.sf.oval.internal.util.Assert;
+
+/**
+ * Size-bounded cache of compiled expressions used by the expression language implementations.
+ *
+ * If the cache exceeds its maximum size an expression is evicted according to the configured {@link EvictionPolicy}. Pinned
+ * expressions, e.g. expressions known at configuration time, are never evicted and may let the cache exceed its maximum size.
+ *
+ * @author Sebastian Thomschke
+ * @since 3.1
+ *
+ * @param <V> the type of the compiled expressions
+ */
+public final class ExpressionCache<V> {
+
+   public enum EvictionPolicy {
+      /**
+       * evicts the expression that has not been used for the longest time
+       */
+      LEAST_RECENTLY_USED,
+
+      /**
+       * evicts the expression that has been used the least number of times, among equally often used expressions the least recently used
+       * one
+       */
+      LEAST_FREQUENTLY_USED
+   }
+
+   private static final class CacheEntry<V> {
+      final V value;
+      volatile boolean isPinned;
+      volatile long lastAccess;
+      volatile int accessCount;
+
+      CacheEntry(final V value) {
+         this.value = value;
+      }
+   }
+
+   public static final int DEFAULT_MAX_SIZE = 1024;
+
+   private final ConcurrentMap<String, CacheEntry<V>> entries = new ConcurrentHashMap<>();
+   private final Function<String, V> compiler;
+   private final Consumer<? super V> evictionListener;
+   private final Object evictionLock = new Object();
+
+   /*
+    * the access clock and the access statistics of the entries are updated without synchronization, concurrent updates may get lost
+    * which is acceptable for choosing eviction candidates
+    */
+   private volatile long accessClock;
+
+   private volatile int maxSize = DEFAULT_MAX_SIZE;
+   private volatile EvictionPolicy evictionPolicy = EvictionPolicy.LEAST_RECENTLY_USED;
+
+   private final LongAdder hitCount = new LongAdder();
+   private final LongAdder missCount = new LongAdder();
+   private final LongAdder evictionCount = new LongAdder();
+
+   /**
+    * @param compiler function compiling an expression on a cache miss
+    * @throws IllegalArgumentException if <code>compiler == null</code>
+    */
+   public ExpressionCache(final Function<String, V> compiler) throws IllegalArgumentException {
+      this(compiler, null);
+   }
+
+   /**
+    * @param compiler function compiling an expression on a cache miss
+    * @param evictionListener receives the compiled expressions evicted or cleared from the cache, e.g. to release resources held by them,
+    *           may be <code>null</code>
+    * @throws IllegalArgumentException if <code>compiler == null</code>
+    */
+   public ExpressionCache(final Function<String, V> compiler, final Consumer<? super V> evictionListener) throws IllegalArgumentException {
+      Assert.argumentNotNull("compiler", compiler);
+      this.compiler = compiler;
+      this.evictionListener = evictionListener;
+   }
+
+   private CacheEntry<V> _compile(final String expression) {
+      missCount.increment();
+      return new CacheEntry<>(compiler.apply(expression));
+   }
+
+   private void _evictIfNecessary(final CacheEntry<V> newEntry) {
+      if (entries.size() <= maxSize)
+         return;
+
+      synchronized (evictionLock) {
+         final boolean isLFU = evictionPolicy == EvictionPolicy.LEAST_FREQUENTLY_USED;
+         while (entries.size() > maxSize) {
+            Entry<String, CacheEntry<V>> victim = null;
+            for (final Entry<String, CacheEntry<V>> candidate : entries.entrySet()) {
+               final CacheEntry<V> entry = candidate.getValue();
+               // the new entry is spared, otherwise it would always be the least frequently used one
+               if (entry.isPinned || entry == newEntry) {
+                  continue;
+               }
+               if (victim == null || _isEvictedBefore(entry, victim.getValue(), isLFU)) {
+                  victim = candidate;
+               }
+            }
+            if (victim == null)
+               return;
+            if (entries.remove(victim.getKey(), victim.getValue())) {
+               evictionCount.increment();
+               _onRemoved(victim.getValue());
+            }
+         }
+      }
+   }
+
+   private void _onRemoved(final CacheEntry<V> entry) {
+      if (evictionListener != null) {
+         evictionListener.accept(entry.value);
+      }
+   }
+
+   private void _touch(final CacheEntry<V> entry) {
+      entry.lastAccess = ++accessClock;
+      entry.accessCount++;
+   }
+
+   private boolean _isEvictedBefore(final CacheEntry<V> entry, final CacheEntry<V> other, final boolean isLFU) {
+      if (isLFU && entry.accessCount != other.accessCount)
+         return entry.accessCount < other.accessCount;
+      return entry.lastAccess < other.lastAccess;
+   }
+
+   private CacheEntry<V> _getEntry(final String expression) {
+      CacheEntry<V> entry = entries.get(expression);
+      if (entry == null) {
+         entry = entries.computeIfAbsent(expression, this::_compile);
+         _touch(entry);
+         _evictIfNecessary(entry);
+      } else {
+         hitCount.increment();
+         _touch(entry);
+      }
+      return entry;
+   }
+
+   /**
+    * Removes all expressions that are not pinned.
+    */
+   public void clear() {
+      for (final Entry<String, CacheEntry<V>> entry : entries.entrySet()) {
+         if (!entry.getValue().isPinned && entries.remove(entry.getKey(), entry.getValue())) {
+            _onRemoved(entry.getValue());
+         }
+      }
+   }
+
+   public boolean contains(final String expression) {
+      return entries.containsKey(expression);
+   }
+
+   /**
+    * @return the compiled expression, compiled on demand
+    */
+   public V get(final String expression) {
+      return _getEntry(expression).value;
+   }
+
+   public long getEvictionCount() {
+      return evictionCount.sum();
+   }
+
+   public EvictionPolicy getEvictionPolicy() {
+      return evictionPolicy;
+   }
+
+   public long getHitCount() {
+      return hitCount.sum();
+   }
+
+   public int getMaxSize() {
+      return maxSize;
+   }
+
+   public long getMissCount() {
+      return missCount.sum();
+   }
+
+   public boolean isPinned(final String expression) {
+      final CacheEntry<V> entry = entries.get(expression);
+      return entry != null && entry.isPinned;
+   }
+
+   /**
+    * Compiles the given expression if not cached yet and excludes it from eviction.
+    */
+   public void pin(final String expression) {
+      _getEntry(expression).isPinned = true;
+   }
+
+   /**
+    * @throws IllegalArgumentException if <code>evictionPolicy == null</code>
+    */
+   public void setEvictionPolicy(final EvictionPolicy evictionPolicy) throws IllegalArgumentException {
+      Assert.argumentNotNull("evictionPolicy", evictionPolicy);
+      this.evictionPolicy = evictionPolicy;
+   }
+
+   /**
+    * @throws IllegalArgumentException if <code>maxSize &lt; 1</code>
+    */
+   public void setMaxSize(final int maxSize) throws IllegalArgumentException {
+      Assert.argumentMinValue("maxSize", maxSize, 1);
+      this.maxSize = maxSize;
+      _evictIfNecessary(null);
+   }
+
+   /**
+    * @return the number of cached expressions including pinned expressions
+    */
+   public int size() {
+      return entries.size();
+   }
+
+   /**
+    * Makes the given expression subject to eviction again.
+    */
+   public void unpin(final String expression) {
+      final CacheEntry<V> entry = entries.get(expression);
+      if (entry != null) {
+         entry.isPinned = false;
+         _evictIfNecessary(null);
+      }
+   }
+}
@@ -9,31 +9,153 @@
  *********************************************************************/
 package net.sf.oval.expression;
 
+import java.util.HashMap;
 import java.util.Map;
 import java.util.Map.Entry;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Pattern;
 
+import bsh.BshMethod;
 import bsh.EvalError;
 import bsh.Interpreter;
+import bsh.NameSpace;
+import bsh.Primitive;
+import bsh.UtilEvalError;
 import net.sf.oval.exception.ExpressionEvaluationException;
 import net.sf.oval.internal.Log;
+import net.sf.oval.internal.util.ArrayUtils;
+import net.sf.oval.internal.util.Assert;
 
 /**
+ * Evaluates BeanShell expressions using a bounded pool of interpreters. Each interpreter is used by one thread at a time and parses
+ * every expression only once by declaring it as a scripted method. The variables of an evaluation are bound in a dedicated namespace
+ * and unset afterwards.
+ *
  * @author Sebastian Thomschke
  */
 public class ExpressionLanguageBeanShellImpl extends AbstractExpressionLanguage {
+
+   private static final class PooledInterpreter {
+      final Interpreter interpreter = new Interpreter();
+
+      /**
+       * namespace holding the variables of the current evaluation and the methods of the compiled expressions
+       */
+      final NameSpace bindings = new NameSpace(interpreter.getNameSpace(), "bindings");
+
+      /**
+       * compiled expressions by expression text, <code>null</code> values for expressions that cannot be compiled
+       */
+      final Map<String, BshMethod> compiledExpressions = new HashMap<>();
+
+      PooledInterpreter() throws EvalError {
+         interpreter.eval("setAccessibility(true)"); // turn off access restrictions
+      }
+
+      /**
+       * @return <code>null</code> if the expression contains control statements or consists of multiple statements and must be
+       *         evaluated via {@link Interpreter#eval(String, NameSpace)}
+       */
+      BshMethod compile(final String expression) throws UtilEvalError {
+         if (CONTROL_STATEMENTS.matcher(expression).find())
+            return null;
+
+         String body = expression.trim();
+         if (body.endsWith(";")) {
+            body = body.substring(0, body.length() - 1);
+         }
+         final String methodName = "_expression" + compiledExpressions.size();
+         try {
+            interpreter.eval("Object " + methodName + "() { return (" + body + "\n); }", bindings);
+         } catch (final EvalError ex) {
+            LOG.debug("Cannot compile BeanShell expression: {1}", expression, ex);
+            return null;
+         }
+         return bindings.getMethod(methodName, ArrayUtils.EMPTY_CLASS_ARRAY);
+      }
+
+      Object evaluate(final String expression, final Map<String, ?> values) throws EvalError, UtilEvalError {
+         BshMethod method = compiledExpressions.get(expression);
+         if (method == null && !compiledExpressions.containsKey(expression)) {
+            method = compile(expression);
+            compiledExpressions.put(expression, method);
+         }
+
+         for (final Entry<String, ?> entry : values.entrySet()) {
+            final Object value = entry.getValue();
+            bindings.setVariable(entry.getKey(), value == null ? Primitive.NULL : value, false);
+         }
+         try {
+            if (method == null)
+               // evaluate in a child namespace so variables declared by the expression are discarded
+               return interpreter.eval(expression, new NameSpace(bindings, "expression"));
+            return Primitive.unwrap(method.invoke(ArrayUtils.EMPTY_OBJECT_ARRAY, interpreter));
+         } finally {
+            for (final String name : values.keySet()) {
+               bindings.unsetVariable(name);
+            }
+         }
+      }
+   }
+
    private static final Log LOG = Log.getLog(ExpressionLanguageBeanShellImpl.class);
 
+   /**
+    * expressions with statements whose control flow cannot be wrapped into a single return statement
+    */
+   private static final Pattern CONTROL_STATEMENTS = Pattern.compile("\\b(return|break|continue)\\b");
+
+   private final Queue<PooledInterpreter> idleInterpreters = new ConcurrentLinkedQueue<>();
+   private final AtomicInteger idleInterpretersCount = new AtomicInteger();
+   private final int maxIdleInterpreters;
+
+   /**
+    * Keeps at most one idle interpreter per available processor.
+    */
+   public ExpressionLanguageBeanShellImpl() {
+      this(Runtime.getRuntime().availableProcessors());
+   }
+
+   /**
+    * @param maxIdleInterpreters the maximum number of interpreters kept for reuse, additional interpreters are created on demand if all
+    *           are in use
+    * @throws IllegalArgumentException if <code>maxIdleInterpreters &lt; 0</code>
+    * @since 3.1
+    */
+   public ExpressionLanguageBeanShellImpl(final int maxIdleInterpreters) throws IllegalArgumentException {
+      Assert.argumentMinValue("maxIdleInterpreters", maxIdleInterpreters, 0);
+      this.maxIdleInterpreters = maxIdleInterpreters;
+   }
+
+   private PooledInterpreter _acquireInterpreter() throws EvalError {
+      final PooledInterpreter interpreter = idleInterpreters.poll();
+      if (interpreter == null)
+         return new PooledInterpreter();
+      idleInterpretersCount.decrementAndGet();
+      return interpreter;
+   }
+
+   private void _releaseInterpreter(final PooledInterpreter interpreter) {
+      if (idleInterpretersCount.incrementAndGet() > maxIdleInterpreters) {
+         idleInterpretersCount.decrementAndGet();
+         return;
+      }
+      idleInterpreters.offer(interpreter);
+   }
+
    @Override
    public Object evaluate(final String expression, final Map<String, ?> values) throws ExpressionEvaluationException {
       LOG.debug("Evaluating BeanShell expression: {1}", expression);
       try {
-         final Interpreter interpreter = new Interpreter();
-         interpreter.eval("setAccessibility(true)"); // turn off access restrictions
-         for (final Entry<String, ?> entry : values.entrySet()) {
-            interpreter.set(entry.getKey(), entry.getValue());
+         final PooledInterpreter interpreter = _acquireInterpreter();
+         try {
+            return interpreter.evaluate(expression, values);
+         } finally {
+            _releaseInterpreter(interpreter);
          }
-         return interpreter.eval(expression);
-      } catch (final EvalError ex) {
+      } catch (final EvalError | UtilEvalError | RuntimeException ex) {
          throw new ExpressionEvaluationException("Evaluating BeanShell expression failed: " + expression, ex);
       }
    }
@@ -12,14 +12,22 @@ package net.sf.oval.expression;
 import java.util.Map;
 import java.util.Map.Entry;
 
+import org.codehaus.groovy.runtime.InvokerHelper;
+
 import groovy.lang.Binding;
+import groovy.lang.GroovyClassLoader;
 import groovy.lang.GroovyShell;
 import groovy.lang.Script;
 import net.sf.oval.exception.ExpressionEvaluationException;
 import net.sf.oval.internal.Log;
-import net.sf.oval.internal.util.ObjectCache;
 
 /**
+ * Compiles each expression only once into a script class shared by all threads. Every evaluation runs a new instance of the script
+ * class with its own binding.
+ *
+ * Each script class is defined by a class loader of its own and its meta class is removed from the registry once the expression has been
+ * evicted from the {@link #getExpressionCache() expression cache}, so the class can be unloaded.
+ *
  * @author Sebastian Thomschke
  */
 public class ExpressionLanguageGroovyImpl extends AbstractExpressionLanguage {
@@ -27,22 +35,35 @@ public class ExpressionLanguageGroovyImpl extends AbstractExpressionLanguage {
 
    private static final GroovyShell GROOVY_SHELL = new GroovyShell();
 
-   private final ThreadLocal<ObjectCache<String, Script>> expressionCache = ThreadLocal.withInitial(() -> new ObjectCache<>(GROOVY_SHELL::parse));
+   /*
+    * the class loader of the shell caches every class it parsed, thus it is only used as the parent of the class loaders defining the
+    * script classes
+    */
+   @SuppressWarnings({"unchecked", "resource"})
+   private final ExpressionCache<Class<? extends Script>> expressionCache = new ExpressionCache<>(
+      expression -> new GroovyClassLoader(GROOVY_SHELL.getClassLoader()).parseClass(expression), InvokerHelper::removeClass);
 
    @Override
    public Object evaluate(final String expression, final Map<String, ?> values) throws ExpressionEvaluationException {
       LOG.debug("Evaluating Groovy expression: {1}", expression);
       try {
-         final Script script = expressionCache.get().get(expression);
+         final Class<? extends Script> scriptClass = expressionCache.get(expression);
 
          final Binding binding = new Binding();
          for (final Entry<String, ?> entry : values.entrySet()) {
             binding.setVariable(entry.getKey(), entry.getValue());
          }
-         script.setBinding(binding);
-         return script.run();
+         return InvokerHelper.createScript(scriptClass, binding).run();
       } catch (final Exception ex) {
          throw new ExpressionEvaluationException("Evaluating script with Groovy failed.", ex);
       }
    }
+
+   /**
+    * @return the cache of the compiled expressions
+    * @since 3.1
+    */
+   public ExpressionCache<Class<? extends Script>> getExpressionCache() {
+      return expressionCache;
+   }
 }
@@ -18,7 +18,6 @@ import org.apache.commons.jexl3.MapContext;
 
 import net.sf.oval.exception.ExpressionEvaluationException;
 import net.sf.oval.internal.Log;
-import net.sf.oval.internal.util.ObjectCache;
 
 /**
  * @author Sebastian Thomschke
@@ -30,7 +29,7 @@ public class ExpressionLanguageJEXLImpl extends AbstractExpressionLanguage {
       .strict(true) //
       .create();
 
-   private final ObjectCache<String, JexlExpression> expressionCache = new ObjectCache<>(JEXL::createExpression);
+   private final ExpressionCache<JexlExpression> expressionCache = new ExpressionCache<>(JEXL::createExpression);
 
    @Override
    @SuppressWarnings("unchecked")
@@ -43,4 +42,12 @@ public class ExpressionLanguageJEXLImpl extends AbstractExpressionLanguage {
          throw new ExpressionEvaluationException("Evaluating JEXL expression failed: " + expression, ex);
       }
    }
+
+   /**
+    * @return the cache of the compiled expressions
+    * @since 3.1
+    */
+   public ExpressionCache<JexlExpression> getExpressionCache() {
+      return expressionCache;
+   }
 }
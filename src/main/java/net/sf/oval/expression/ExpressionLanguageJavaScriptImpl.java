@@ -9,6 +9,7 @@
  *********************************************************************/
 package net.sf.oval.expression;
 
+import java.lang.ref.WeakReference;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -17,42 +18,130 @@ import org.mozilla.javascript.ContextFactory;
 import org.mozilla.javascript.EvaluatorException;
 import org.mozilla.javascript.Script;
 import org.mozilla.javascript.Scriptable;
+import org.mozilla.javascript.Wrapper;
 
 import net.sf.oval.exception.ExpressionEvaluationException;
 import net.sf.oval.internal.Log;
-import net.sf.oval.internal.util.ObjectCache;
+import net.sf.oval.internal.util.Assert;
 
 /**
+ * Evaluates JavaScript expressions using Mozilla Rhino. Expressions are compiled once and executed in a scope whose prototype is a
+ * shared, sealed scope holding the JavaScript standard objects.
+ *
+ * In thread-affine mode each thread keeps its Rhino context entered and reuses its scope across evaluations, and the wrapper of the
+ * last <code>_this</code> object is reused as long as the same object is validated.
+ *
  * @author Sebastian Thomschke
  */
 public class ExpressionLanguageJavaScriptImpl extends AbstractExpressionLanguage {
+
+   /**
+    * state of a thread in thread-affine mode
+    */
+   private static final class ThreadState {
+      /**
+       * the context entered by the thread, never exited
+       */
+      Context context;
+
+      /**
+       * the reusable scope of the thread, <code>null</code> if not created yet or if it was discarded
+       */
+      Scriptable scope;
+
+      /**
+       * <code>true</code> while an evaluation uses {@link #scope}, nested evaluations use a dedicated scope
+       */
+      boolean isScopeInUse;
+
+      /**
+       * weakly referenced so the last validated object can be garbage collected
+       */
+      WeakReference<Object> thisWrapper;
+   }
+
    private static final Log LOG = Log.getLog(ExpressionLanguageJavaScriptImpl.class);
 
+   private static final String THIS = "_this";
+
    private final Scriptable parentScope;
+   private final int optimizationLevel;
+   private final ThreadLocal<ThreadState> threadStates;
 
-   private final ObjectCache<String, Script> expressionCache = new ObjectCache<>(expression -> {
+   private final ExpressionCache<Script> expressionCache = new ExpressionCache<>(expression -> {
       final Context ctx = ContextFactory.getGlobal().enterContext();
-      ctx.setOptimizationLevel(9);
-      return ctx.compileString(expression, "<cmd>", 1, null);
+      try {
+         ctx.setOptimizationLevel(getOptimizationLevel());
+         return ctx.compileString(expression, "<cmd>", 1, null);
+      } finally {
+         Context.exit();
+      }
    });
 
+   /**
+    * Compiles expressions to Java bytecode with the highest optimization level and enters a Rhino context per evaluation.
+    */
    public ExpressionLanguageJavaScriptImpl() {
+      this(9, false);
+   }
+
+   /**
+    * @param optimizationLevel <code>-1</code> to evaluate expressions in interpreted mode, <code>0</code> to <code>9</code> to compile
+    *           expressions to Java bytecode with the given optimization level
+    * @param isThreadAffine if <code>true</code> each evaluating thread keeps its Rhino context entered and reuses its scope and the
+    *           wrapper of the last <code>_this</code> object across evaluations. The context stays associated with the thread until
+    *           the thread terminates, thus this mode is only recommended for a limited number of long-living threads.
+    * @throws IllegalArgumentException if <code>optimizationLevel</code> is not within <code>-1</code> and <code>9</code>
+    * @since 3.1
+    */
+   public ExpressionLanguageJavaScriptImpl(final int optimizationLevel, final boolean isThreadAffine) throws IllegalArgumentException {
+      Assert.argumentMinValue("optimizationLevel", optimizationLevel, -1);
+      if (!Context.isValidOptimizationLevel(optimizationLevel))
+         throw new IllegalArgumentException("[optimizationLevel] must not be greater than 9");
+
+      this.optimizationLevel = optimizationLevel;
+      threadStates = isThreadAffine ? ThreadLocal.withInitial(ThreadState::new) : null;
+
       final Context ctx = ContextFactory.getGlobal().enterContext();
       try {
-         parentScope = ctx.initStandardObjects();
+         // sealed, so expressions cannot modify the standard objects shared by all evaluations
+         parentScope = ctx.initStandardObjects(null, true);
       } finally {
          Context.exit();
       }
    }
 
+   private Scriptable _createScope(final Context ctx) {
+      final Scriptable scope = ctx.newObject(parentScope);
+      scope.setPrototype(parentScope);
+      scope.setParentScope(null);
+      return scope;
+   }
+
+   private Object _wrapThis(final ThreadState state, final Object value) {
+      if (value == null)
+         return null;
+
+      final Object cached = state.thisWrapper == null ? null : state.thisWrapper.get();
+      if (cached != null && ((Wrapper) cached).unwrap() == value)
+         return cached;
+
+      final Object wrapper = Context.javaToJS(value, parentScope);
+      // primitives and strings are not wrapped
+      state.thisWrapper = wrapper instanceof Wrapper ? new WeakReference<>(wrapper) : null;
+      return wrapper;
+   }
+
    @Override
    public Object evaluate(final String expression, final Map<String, ?> values) throws ExpressionEvaluationException {
       LOG.debug("Evaluating JavaScript expression: {1}", expression);
+
+      if (threadStates != null)
+         return _evaluateThreadAffine(expression, values);
+
       try {
          final Context ctx = ContextFactory.getGlobal().enterContext();
-         final Scriptable scope = ctx.newObject(parentScope);
-         scope.setPrototype(parentScope);
-         scope.setParentScope(null);
+         final Scriptable scope = _createScope(ctx);
          for (final Entry<String, ?> entry : values.entrySet()) {
             scope.put(entry.getKey(), scope, Context.javaToJS(entry.getValue(), scope));
          }
@@ -64,4 +153,71 @@ public class ExpressionLanguageJavaScriptImpl extends AbstractExpressionLanguage
          Context.exit();
       }
    }
+
+   private Object _evaluateThreadAffine(final String expression, final Map<String, ?> values) throws ExpressionEvaluationException {
+      final ThreadState state = threadStates.get();
+      if (state.context == null) {
+         state.context = ContextFactory.getGlobal().enterContext();
+      }
+      final Context ctx = state.context;
+
+      final boolean isReusingScope = !state.isScopeInUse;
+      final Scriptable scope;
+      if (isReusingScope) {
+         if (state.scope == null) {
+            state.scope = _createScope(ctx);
+         }
+         scope = state.scope;
+         state.isScopeInUse = true;
+      } else {
+         scope = _createScope(ctx);
+      }
+
+      try {
+         for (final Entry<String, ?> entry : values.entrySet()) {
+            final String name = entry.getKey();
+            final Object value = entry.getValue();
+            scope.put(name, scope, THIS.equals(name) ? _wrapThis(state, value) : Context.javaToJS(value, parentScope));
+         }
+         final Script expr = expressionCache.get(expression);
+         return expr.exec(ctx, scope);
+      } catch (final EvaluatorException ex) {
+         throw new ExpressionEvaluationException("Evaluating JavaScript expression failed: " + expression, ex);
+      } finally {
+         if (isReusingScope) {
+            for (final String name : values.keySet()) {
+               scope.delete(name);
+            }
+            // discard the scope if the expression declared variables of its own
+            if (scope.getIds().length > 0) {
+               state.scope = null;
+            }
+            state.isScopeInUse = false;
+         }
+      }
+   }
+
+   /**
+    * @return <code>-1</code> if expressions are evaluated in interpreted mode, otherwise the optimization level used to compile
+    *         expressions to Java bytecode
+    * @since 3.1
+    */
+   public int getOptimizationLevel() {
+      return optimizationLevel;
+   }
+
+   /**
+    * @since 3.1
+    */
+   public boolean isThreadAffine() {
+      return threadStates != null;
+   }
+
+   /**
+    * @return the cache of the compiled expressions
+    * @since 3.1
+    */
+   public ExpressionCache<Script> getExpressionCache() {
+      return expressionCache;
+   }
 }
@@ -15,7 +15,6 @@ import org.mvel2.MVEL;
 
 import net.sf.oval.exception.ExpressionEvaluationException;
 import net.sf.oval.internal.Log;
-import net.sf.oval.internal.util.ObjectCache;
 
 /**
  * @author Sebastian Thomschke
@@ -23,7 +22,7 @@ import net.sf.oval.internal.util.ObjectCache;
 public class ExpressionLanguageMVELImpl extends AbstractExpressionLanguage {
    private static final Log LOG = Log.getLog(ExpressionLanguageMVELImpl.class);
 
-   private final ObjectCache<String, Object> expressionCache = new ObjectCache<>(MVEL::compileExpression);
+   private final ExpressionCache<Object> expressionCache = new ExpressionCache<>(MVEL::compileExpression);
 
    @Override
    public Object evaluate(final String expression, final Map<String, ?> values) throws ExpressionEvaluationException {
@@ -35,4 +34,12 @@ public class ExpressionLanguageMVELImpl extends AbstractExpressionLanguage {
          throw new ExpressionEvaluationException("Evaluating MVEL expression failed: " + expression, ex);
       }
    }
+
+   /**
+    * @return the cache of the compiled expressions
+    * @since 3.1
+    */
+   public ExpressionCache<Object> getExpressionCache() {
+      return expressionCache;
+   }
 }
@@ -16,7 +16,6 @@ import java.util.Map.Entry;
 
 import net.sf.oval.exception.ExpressionEvaluationException;
 import net.sf.oval.internal.Log;
-import net.sf.oval.internal.util.ObjectCache;
 import net.sf.oval.internal.util.ReflectionUtils;
 import ognl.MemberAccess;
 import ognl.Ognl;
@@ -57,7 +56,7 @@ public class ExpressionLanguageOGNLImpl extends AbstractExpressionLanguage {
       }
    };
 
-   private final ObjectCache<String, Object> expressionCache = new ObjectCache<>(expression -> {
+   private final ExpressionCache<Object> expressionCache = new ExpressionCache<>(expression -> {
       try {
          return Ognl.parseExpression(expression);
       } catch (final OgnlException ex) {
@@ -81,4 +80,12 @@ public class ExpressionLanguageOGNLImpl extends AbstractExpressionLanguage {
          throw new ExpressionEvaluationException("Evaluating MVEL expression failed: " + expression, ex);
       }
    }
+
+   /**
+    * @return the cache of the compiled expressions
+    * @since 3.1
+    */
+   public ExpressionCache<Object> getExpressionCache() {
+      return expressionCache;
+   }
 }
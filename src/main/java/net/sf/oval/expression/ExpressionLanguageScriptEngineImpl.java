@@ -11,7 +11,10 @@ package net.sf.oval.expression;
 
 import java.util.List;
 import java.util.Map;
-import java.util.Map.Entry;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReferenceArray;
 
 import javax.script.Bindings;
 import javax.script.Compilable;
@@ -24,11 +27,15 @@ import javax.script.ScriptException;
 import net.sf.oval.Validator;
 import net.sf.oval.exception.ExpressionEvaluationException;
 import net.sf.oval.internal.Log;
-import net.sf.oval.internal.util.ObjectCache;
+import net.sf.oval.internal.util.Assert;
 
 /**
  * JSR223 Support
  *
+ * Engines declaring the threading parameter <code>STATELESS</code> or <code>THREAD-ISOLATED</code> are shared by all threads, other
+ * engines are used by one thread at a time from a bounded pool, each with its own compiled scripts. If all pooled engines are in use,
+ * threads wait for an engine to become idle. The bindings passed to the engines are cleared and reused after each evaluation.
+ *
  * @author Sebastian Thomschke
  */
 public class ExpressionLanguageScriptEngineImpl extends AbstractExpressionLanguage {
@@ -49,43 +56,210 @@ public class ExpressionLanguageScriptEngineImpl extends AbstractExpressionLangua
       return engine == null ? null : new ExpressionLanguageScriptEngineImpl(engine);
    }
 
-   private final Compilable compilable;
+   /**
+    * name of the engine factory parameter describing the thread-safety of the engines, see
+    * {@link ScriptEngineFactory#getParameter(String)}
+    */
+   private static final String THREADING = "THREADING";
+
+   /**
+    * A script engine together with the bindings recycled across its evaluations, used by one thread at a time.
+    */
+   private final class PooledEngine {
+      final ScriptEngine engine;
+      final Bindings bindings;
+
+      /**
+       * index of the compiled scripts of this engine in the arrays held by {@link #compiledScripts}, <code>-1</code> if this engine
+       * is not kept in the pool and does not cache compiled scripts, i.e. if no engines are pooled or the engine was created for a nested
+       * evaluation
+       */
+      final int slot;
+
+      PooledEngine(final ScriptEngine engine, final int slot) {
+         this.engine = engine;
+         this.slot = slot;
+         bindings = engine.createBindings();
+      }
+
+      CompiledScript compile(final String expression) {
+         if (slot < 0)
+            return _compile((Compilable) engine, expression);
+
+         final AtomicReferenceArray<CompiledScript> compiledBySlot = compiledScripts.get(expression);
+         CompiledScript compiled = compiledBySlot.get(slot);
+         if (compiled == null) {
+            compiled = _compile((Compilable) engine, expression);
+            compiledBySlot.set(slot, compiled);
+         }
+         return compiled;
+      }
+
+      Object evaluate(final String expression, final Map<String, ?> values) throws ScriptException {
+         bindings.putAll(values);
+         try {
+            if (isCompilable)
+               return compile(expression).eval(bindings);
+            return engine.eval(expression, bindings);
+         } finally {
+            bindings.clear();
+         }
+      }
+   }
+
    private final ScriptEngine engine;
-   private final ObjectCache<String, CompiledScript> compiledCache;
+   private final boolean isCompilable;
+
+   /**
+    * <code>true</code> if the engine declares itself as <code>STATELESS</code> or <code>THREAD-ISOLATED</code> and is shared by all
+    * threads, otherwise each thread uses a pooled engine exclusively
+    */
+   private final boolean isEngineShared;
+
+   /**
+    * the compiled scripts per expression, indexed by {@link PooledEngine#slot}. A shared engine has a single slot, pooled engines have
+    * one slot each. <code>null</code> if the engine is not {@link Compilable}.
+    */
+   private final ExpressionCache<AtomicReferenceArray<CompiledScript>> compiledScripts;
+
+   private final BlockingQueue<PooledEngine> idleEngines = new LinkedBlockingQueue<>();
+   private final AtomicInteger idleEnginesCount = new AtomicInteger();
 
+   /**
+    * number of engines created for the pool, each of them owns the slot of the same index
+    */
+   private final AtomicInteger slotsCount = new AtomicInteger();
+   private final int maxIdleEngines;
+
+   /**
+    * the engine acquired by the current thread, used to not wait for an idle engine on nested evaluations
+    */
+   private final ThreadLocal<PooledEngine> acquiredEngine = new ThreadLocal<>();
+
+   /**
+    * Keeps at most one idle engine per available processor.
+    */
    protected ExpressionLanguageScriptEngineImpl(final ScriptEngine engine) {
+      this(engine, Runtime.getRuntime().availableProcessors());
+   }
+
+   /**
+    * @param engine the engine to use, additional engines are created via the engine's factory if the engine is not thread-safe
+    * @param maxIdleEngines the maximum number of engines respectively bindings kept for reuse. If the engine is not thread-safe, this is
+    *           the maximum number of engines used concurrently and threads wait for an idle engine if all are in use, <code>0</code> to
+    *           create a new engine for each evaluation without caching compiled scripts.
+    * @throws IllegalArgumentException if <code>engine == null</code> or <code>maxIdleEngines &lt; 0</code>
+    * @since 3.1
+    */
+   protected ExpressionLanguageScriptEngineImpl(final ScriptEngine engine, final int maxIdleEngines) throws IllegalArgumentException {
+      Assert.argumentNotNull("engine", engine);
+      Assert.argumentMinValue("maxIdleEngines", maxIdleEngines, 0);
+
       this.engine = engine;
-      if (engine instanceof Compilable) {
-         compilable = (Compilable) engine;
-         compiledCache = new ObjectCache<>(expression -> {
-            try {
-               return compilable.compile(expression);
-            } catch (final ScriptException ex) {
-               throw new ExpressionEvaluationException("Parsing " + engine.get(ScriptEngine.NAME) + " expression failed: " + expression, ex);
-            }
-         });
-      } else {
-         compilable = null;
-         compiledCache = null;
+      this.maxIdleEngines = maxIdleEngines;
+      isCompilable = engine instanceof Compilable;
+
+      final Object threading = engine.getFactory().getParameter(THREADING);
+      isEngineShared = "STATELESS".equals(threading) || "THREAD-ISOLATED".equals(threading);
+      LOG.debug("Script engine {1} declares threading {2}, engine is shared: {3}", engine.get(ScriptEngine.NAME), threading, isEngineShared);
+
+      final int slots = isEngineShared ? 1 : maxIdleEngines;
+      compiledScripts = isCompilable ? new ExpressionCache<>(expression -> new AtomicReferenceArray<>(slots)) : null;
+      if (isEngineShared) {
+         if (maxIdleEngines > 0) {
+            _releaseEngine(new PooledEngine(engine, 0));
+         }
+      } else if (maxIdleEngines > 0) {
+         _releaseEngine(new PooledEngine(engine, slotsCount.getAndIncrement()));
       }
    }
 
+   private CompiledScript _compile(final Compilable compilable, final String expression) {
+      try {
+         return compilable.compile(expression);
+      } catch (final ScriptException ex) {
+         throw new ExpressionEvaluationException("Parsing " + engine.get(ScriptEngine.NAME) + " expression failed: " + expression, ex);
+      }
+   }
+
+   private PooledEngine _acquireEngine() {
+      PooledEngine pooledEngine = idleEngines.poll();
+      if (pooledEngine != null) {
+         idleEnginesCount.decrementAndGet();
+         return pooledEngine;
+      }
+
+      if (isEngineShared)
+         return new PooledEngine(engine, 0);
+
+      // a thread evaluating a nested expression must not wait for the engine it holds itself
+      if (maxIdleEngines == 0 || acquiredEngine.get() != null)
+         return new PooledEngine(engine.getFactory().getScriptEngine(), -1);
+
+      for (int slot = slotsCount.get(); slot < maxIdleEngines; slot = slotsCount.get()) {
+         if (slotsCount.compareAndSet(slot, slot + 1))
+            return new PooledEngine(engine.getFactory().getScriptEngine(), slot);
+      }
+
+      // all engines of the pool are in use
+      try {
+         pooledEngine = idleEngines.take();
+      } catch (final InterruptedException ex) {
+         Thread.currentThread().interrupt();
+         throw new ExpressionEvaluationException("Interrupted while waiting for an idle " + engine.get(ScriptEngine.NAME) + " script engine", ex);
+      }
+      idleEnginesCount.decrementAndGet();
+      return pooledEngine;
+   }
+
+   private void _releaseEngine(final PooledEngine pooledEngine) {
+      if (pooledEngine.slot < 0)
+         return;
+      // engines of the pool are always returned, only surplus bindings of a shared engine are dropped
+      if (idleEnginesCount.incrementAndGet() > maxIdleEngines && isEngineShared) {
+         idleEnginesCount.decrementAndGet();
+         return;
+      }
+      idleEngines.offer(pooledEngine);
+   }
+
    @Override
    public Object evaluate(final String expression, final Map<String, ?> values) throws ExpressionEvaluationException {
       LOG.debug("Evaluating JavaScript expression: {1}", expression);
       try {
-         final Bindings scope = engine.createBindings();
-         for (final Entry<String, ?> entry : values.entrySet()) {
-            scope.put(entry.getKey(), entry.getValue());
-         }
-
-         if (compilable != null) {
-            final CompiledScript compiled = compiledCache.get(expression);
-            return compiled.eval(scope);
+         final PooledEngine pooledEngine = _acquireEngine();
+         final PooledEngine outerEngine = acquiredEngine.get();
+         acquiredEngine.set(pooledEngine);
+         try {
+            return pooledEngine.evaluate(expression, values);
+         } finally {
+            if (outerEngine == null) {
+               acquiredEngine.remove();
+            } else {
+               acquiredEngine.set(outerEngine);
+            }
+            _releaseEngine(pooledEngine);
          }
-         return engine.eval(expression, scope);
       } catch (final ScriptException ex) {
          throw new ExpressionEvaluationException("Evaluating " + engine.get(ScriptEngine.NAME) + " expression failed: " + expression, ex);
       }
    }
+
+   /**
+    * @return the cache of the compiled expressions, its values hold the compiled scripts of the individual engines, <code>null</code> if
+    *         the engine does not support compilation
+    * @since 3.1
+    */
+   public ExpressionCache<?> getExpressionCache() {
+      return compiledScripts;
+   }
+
+   /**
+    * @return <code>true</code> if the engine declares itself as <code>STATELESS</code> or <code>THREAD-ISOLATED</code> and is shared by
+    *         all threads, <code>false</code> if each thread exclusively uses an engine of a pool
+    * @since 3.1
+    */
+   public boolean isEngineShared() {
+      return isEngineShared;
+   }
 }
@@ -19,34 +19,38 @@ import java.util.List;
 import java.util.Map;
 import java.util.Set;
 import java.util.WeakHashMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
 
 import net.sf.oval.Check;
 import net.sf.oval.CheckExclusion;
 import net.sf.oval.ConstraintViolation;
 import net.sf.oval.Validator;
+import net.sf.oval.accessor.ValueAccessor;
 import net.sf.oval.configuration.Configurer;
-import net.sf.oval.context.ConstructorParameterContext;
-import net.sf.oval.context.MethodEntryContext;
-import net.sf.oval.context.MethodExitContext;
-import net.sf.oval.context.MethodParameterContext;
 import net.sf.oval.context.MethodReturnValueContext;
 import net.sf.oval.context.OValContext;
 import net.sf.oval.exception.ConstraintsViolatedException;
 import net.sf.oval.exception.InvalidConfigurationException;
 import net.sf.oval.exception.OValException;
+import net.sf.oval.exception.ValidationBudgetExceededException;
 import net.sf.oval.exception.ValidationFailedException;
 import net.sf.oval.expression.ExpressionLanguage;
 import net.sf.oval.internal.ClassChecks;
+import net.sf.oval.internal.ContextPath;
 import net.sf.oval.internal.ContextCache;
+import net.sf.oval.internal.GuardPlan;
 import net.sf.oval.internal.Log;
 import net.sf.oval.internal.ParameterChecks;
-import net.sf.oval.internal.util.ArrayUtils;
+import net.sf.oval.internal.PlannedCheck;
+import net.sf.oval.internal.VariableBindings;
 import net.sf.oval.internal.util.Assert;
-import net.sf.oval.internal.util.CollectionUtils;
 import net.sf.oval.internal.util.ConcurrentMultiValueMap;
 import net.sf.oval.internal.util.IdentityHashSet;
 import net.sf.oval.internal.util.Invocable;
-import net.sf.oval.internal.util.ReflectionUtils;
 
 /**
  * Extended version of the validator to realize programming by contract.
@@ -61,24 +65,31 @@ public class Guard extends Validator {
       protected final boolean checkInvariants;
       protected final Method method;
       protected final Object[] args;
-      protected final ClassChecks cc;
+      protected final GuardPlan plan;
+      /**
+       * the cycle of the pre conditions, resumed to validate the post conditions with the remaining check count and the deadline of its
+       * {@link net.sf.oval.ValidationBudget} and the load shedding severity determined before the method call
+       */
       protected final ValidationCycle cycle;
-      protected final Map<PostCheck, Object> postCheckOldValues;
+      /**
+       * the old values of the post conditions indexed like {@link GuardPlan#postChecks}
+       */
+      protected final Object[] postCheckOldValues;
       protected final Object guardedObject;
 
       protected GuardMethodPreResult( //
          final Object guardedObject, //
          final Method method, //
          final Object[] args, //
-         final ClassChecks cc, //
+         final GuardPlan plan, //
          final boolean checkInvariants, //
-         final Map<PostCheck, Object> postCheckOldValues, //
+         final Object[] postCheckOldValues, //
          final ValidationCycle cycle //
       ) {
          this.guardedObject = guardedObject;
          this.method = method;
          this.args = args;
-         this.cc = cc;
+         this.plan = plan;
          this.checkInvariants = checkInvariants;
          this.postCheckOldValues = postCheckOldValues;
          this.cycle = cycle;
@@ -112,6 +123,11 @@ public class Guard extends Validator {
    private boolean isPreConditionsEnabled = true;
    private boolean isPostConditionsEnabled = true;
 
+   /**
+    * executor used to validate post conditions asynchronously, <code>null</code> if post conditions are validated synchronously
+    */
+   private Executor postConditionsExecutor;
+
    /**
     * Flag that indicates if any listeners were registered at any time. Used for improved performance.
     */
@@ -121,10 +137,20 @@ public class Guard extends Validator {
     */
    private boolean isProbeModeFeatureUsed = false;
 
+   /**
+    * Flag that indicates if sampling rates were configured at any time. Used for improved performance.
+    */
+   private boolean isSamplingFeatureUsed = false;
+
+   private final LongAdder sampledMethodCalls = new LongAdder();
+   private final LongAdder skippedMethodCalls = new LongAdder();
+
    private final Set<ConstraintsViolatedListener> listeners = new IdentityHashSet<>(4);
    private final ConcurrentMultiValueMap<Class<?>, ConstraintsViolatedListener> listenersByClass = ConcurrentMultiValueMap.create();
    private final ConcurrentMultiValueMap<Object, ConstraintsViolatedListener> listenersByObject = ConcurrentMultiValueMap.create();
 
+   private final ConcurrentMap<Method, GuardPlan> guardPlansByMethod = getCollectionFactory().createConcurrentMap();
+
    /**
     * Objects for OVal suppresses occurring ConstraintViolationExceptions for pre-condition violations on setter methods
     * for the current thread.
@@ -145,6 +171,42 @@ public class Guard extends Validator {
       super(configurers);
    }
 
+   /**
+    * @return the old values indexed like {@link GuardPlan#postChecks} or <code>null</code> if no post condition refers to old values
+    */
+   private Object[] _calculateMethodPostOldValues(final Object validatedObject, final GuardPlan plan, final Object[] args)
+      throws ValidationFailedException {
+      // shortcut: check if any post checks for this method refer to old values
+      if (!plan.hasPostCheckOldValues)
+         return null;
+
+      try {
+         final PostCheck[] postChecks = plan.postChecks;
+         final Object[] oldValues = new Object[postChecks.length];
+         VariableBindings values = null;
+
+         for (int i = 0; i < postChecks.length; i++) {
+            final PostCheck check = postChecks[i];
+            if (isAnyProfileEnabled(check.getProfiles(), null) && check.getOld() != null && check.getOld().length() > 0) {
+               final ValueAccessor accessor = plan.postCheckOldValueAccessors[i];
+               if (accessor != null) {
+                  oldValues[i] = accessor.getValue(validatedObject);
+               } else {
+                  if (values == null) {
+                     values = plan.bindPreVariables(validatedObject, args);
+                  }
+                  final ExpressionLanguage el = expressionLanguageRegistry.getExpressionLanguage(check.getLang());
+                  oldValues[i] = el.evaluate(check.getOld(), values);
+               }
+            }
+         }
+         return oldValues;
+      } catch (final OValException ex) {
+         throw new ValidationFailedException("Method post conditions validation failed. Method: " + plan.method + " Validated object: " + validatedObject,
+            ex);
+      }
+   }
+
    private List<CheckExclusion> _getActiveExclusions(final Set<CheckExclusion> exclusions) {
       final List<CheckExclusion> activeExclusions = new LinkedList<>(exclusions);
       for (final Iterator<CheckExclusion> it = activeExclusions.iterator(); it.hasNext();) {
@@ -156,13 +218,256 @@ public class Guard extends Validator {
       return activeExclusions.isEmpty() ? null : activeExclusions;
    }
 
-   private void _validateParameterChecks(final ParameterChecks checks, final Object validatedObject, final Object valueToValidate, final OValContext context,
-      final ValidationCycle cycle) {
+   /**
+    * @return <code>true</code> if the given object is an instance whose class hierarchy does not declare any field, getter or object level
+    *         checks
+    */
+   private boolean _hasNoInvariants(final Object guardedObject) {
+      return guardedObject != null && !(guardedObject instanceof Class) && getValidationPlan(guardedObject.getClass()).isEmpty();
+   }
+
+   /**
+    * Decides if the given call of a method is guarded based on the configured sampling rates.
+    */
+   private boolean _isSampled(final ClassChecks cc, final Object guardedObject, final Method method) {
+      final Double methodSamplingRate = cc.samplingRatesForMethods.isEmpty() ? null : cc.samplingRatesForMethods.get(method);
+      final double samplingRate = methodSamplingRate == null ? cc.samplingRate : methodSamplingRate;
+
+      // calls on objects in probe mode are always guarded as they must not be executed
+      if (samplingRate >= 1.0 || ThreadLocalRandom.current().nextDouble() < samplingRate || isProbeModeFeatureUsed && isInProbeMode(
+         guardedObject)) {
+         sampledMethodCalls.increment();
+         return true;
+      }
+      skippedMethodCalls.increment();
+      return false;
+   }
+
+   private void _guardMethodPost(final Object returnValue, final GuardMethodPreResult preResult) throws ConstraintsViolatedException,
+      ValidationFailedException {
+      final Executor executor = postConditionsExecutor;
+      if (executor != null) {
+         guardMethodPostAsync(returnValue, preResult, executor);
+         return;
+      }
+
+      final List<ConstraintViolation> violations = _validateMethodPost(returnValue, preResult);
+      if (!violations.isEmpty()) {
+         final ConstraintsViolatedException violationException = new ConstraintsViolatedException(violations);
+         if (isListenersFeatureUsed) {
+            notifyListeners(preResult.guardedObject, violationException);
+         }
+
+         throw translateException(violationException);
+      }
+   }
+
+   private List<ConstraintViolation> _validateMethodPost(final Object returnValue, final GuardMethodPreResult preResult) throws ValidationFailedException {
+      // the pre and post conditions of a method call share one budget
+      resumeValidationCycle(preResult.cycle);
+      try {
+         // check invariants if executed method is not private
+         if (preResult.checkInvariants || preResult.plan.isCheckInvariantsPost) {
+            validateInvariants(preResult.guardedObject, preResult.cycle);
+         }
+
+         if (isPostConditionsEnabled) {
+
+            // method return value
+            if (preResult.cycle.violations.isEmpty()) {
+               _validateMethodReturnValue(preResult.guardedObject, preResult.plan, returnValue, preResult.cycle);
+            }
+
+            // @Post
+            if (preResult.cycle.violations.isEmpty()) {
+               _validateMethodPost(preResult.guardedObject, preResult.plan, preResult.args, returnValue, preResult.postCheckOldValues, preResult.cycle);
+            }
+         }
+         preResult.cycle.assertBudgetNotExhausted();
+      } catch (final ValidationFailedException ex) {
+         throw translateException(ex);
+      } finally {
+         endValidationCycle(preResult.cycle);
+      }
+      return preResult.cycle.violations;
+   }
+
+   private void _validateMethodParameters(final Object validatedObject, final GuardPlan plan, final Object[] args, final ValidationCycle cycle)
+      throws ValidationFailedException {
+      final ParameterChecks[] parameterChecks = plan.parameterChecks;
+
+      if (parameterChecks == null)
+         return;
+
+      final IdentityHashSet<Object> validatedObjects = cycle.validatedObjects;
+      cycle.validatedObjects = new IdentityHashSet<>(4);
+      try {
+         /*
+          * parameter constraints validation
+          */
+         for (int i = 0; i < args.length; i++) {
+            final ParameterChecks checks = parameterChecks[i];
+
+            if (checks != null) {
+               final Object valueToValidate = args[i];
+               _validateParameterChecks(checks, plan.parameterPlannedChecks[i], validatedObject, valueToValidate, checks.context, cycle);
+            }
+         }
+      } catch (final OValException ex) {
+         throw new ValidationFailedException("Method pre conditions validation failed. Method: " + plan.method + " Validated object: " + validatedObject, ex);
+      } finally {
+         cycle.validatedObjects = validatedObjects;
+      }
+   }
+
+   private void _validateMethodPost(final Object validatedObject, final GuardPlan plan, final Object[] args, final Object returnValue,
+      final Object[] oldValues, final ValidationCycle cycle) throws ValidationFailedException {
+      if (plan.postChecks == null)
+         return;
+
+      final Method method = plan.method;
+      final String key = System.identityHashCode(validatedObject) + " " + System.identityHashCode(method);
+
+      /*
+       *  avoid circular references
+       */
+      if (CURRENTLY_CHECKED_POST_CONDITIONS.get().contains(key))
+         return;
+
+      CURRENTLY_CHECKED_POST_CONDITIONS.get().add(key);
+      try {
+         final ContextPath contextPathBefore = cycle.contextPath;
+         cycle.contextPath = contextPathBefore.append(ContextCache.getMethodExitContext(method));
+
+         final PostCheck[] postChecks = plan.postChecks;
+         for (int i = 0; i < postChecks.length; i++) {
+            final PostCheck check = postChecks[i];
+            // skip checks below the minimum severity while shedding load
+            if (check.getSeverity() < cycle.minSeverity || !isAnyProfileEnabled(check.getProfiles(), null)) {
+               continue;
+            }
+            try {
+               final ExpressionLanguage eng = expressionLanguageRegistry.getExpressionLanguage(check.getLang());
+               final VariableBindings values = plan.bindPostVariables(validatedObject, args, returnValue, oldValues == null ? null : oldValues[i]);
+
+               if (!eng.evaluateAsBoolean(check.getExpr(), values)) {
+                  final Map<String, String> messageVariables = getCollectionFactory().createMap(2);
+                  messageVariables.put("expression", check.getExpr());
+                  final String errorMessage = renderMessage(cycle.contextPath, null, check.getMessage(), messageVariables);
+
+                  cycle.addViolation(new ConstraintViolation(check, errorMessage, validatedObject, null, cycle.contextPath));
+               }
+            } catch (final OValException ex) {
+               throw new ValidationFailedException("Executing " + check + " failed. Method: " + method + " Validated object: " + validatedObject, ex);
+            }
+         }
+
+         cycle.contextPath = contextPathBefore;
+      } catch (final ValidationFailedException ex) {
+         throw ex;
+      } catch (final OValException ex) {
+         throw new ValidationFailedException("Method post conditions validation failed. Method: " + method + " Validated object: " + validatedObject, ex);
+      } finally {
+         CURRENTLY_CHECKED_POST_CONDITIONS.get().remove(key);
+      }
+   }
+
+   private void _validateMethodPre(final Object validatedObject, final GuardPlan plan, final Object[] args, final ValidationCycle cycle)
+      throws ValidationFailedException {
+      if (plan.preChecks == null)
+         return;
+
+      final Method method = plan.method;
+      final String key = System.identityHashCode(validatedObject) + " " + System.identityHashCode(method);
+
+      /*
+       *  avoid circular references
+       */
+      if (CURRENTLY_CHECKED_PRE_CONDITIONS.get().contains(key))
+         return;
+
+      CURRENTLY_CHECKED_PRE_CONDITIONS.get().add(key);
+      try {
+         final ContextPath contextPathBefore = cycle.contextPath;
+         cycle.contextPath = contextPathBefore.append(ContextCache.getMethodEntryContext(method));
+         VariableBindings values = null;
+         for (final PreCheck check : plan.preChecks) {
+            // skip checks below the minimum severity while shedding load
+            if (check.getSeverity() < cycle.minSeverity || !isAnyProfileEnabled(check.getProfiles(), null)) {
+               continue;
+            }
+
+            final ExpressionLanguage eng = expressionLanguageRegistry.getExpressionLanguage(check.getLang());
+            if (values == null) {
+               values = plan.bindPreVariables(validatedObject, args);
+            }
+
+            if (!eng.evaluateAsBoolean(check.getExpr(), values)) {
+               final Map<String, String> messageVariables = getCollectionFactory().createMap(2);
+               messageVariables.put("expression", check.getExpr());
+               final String errorMessage = renderMessage(cycle.contextPath, null, check.getMessage(), messageVariables);
+               cycle.addViolation(new ConstraintViolation(check, errorMessage, validatedObject, null, cycle.contextPath));
+            }
+         }
+         cycle.contextPath = contextPathBefore;
+      } catch (final OValException ex) {
+         throw new ValidationFailedException("Method pre conditions validation failed. Method: " + method + " Validated object: " + validatedObject, ex);
+      } finally {
+         CURRENTLY_CHECKED_PRE_CONDITIONS.get().remove(key);
+      }
+   }
+
+   private void _validateMethodReturnValue(final Object validatedObject, final GuardPlan plan, final Object returnValue, final ValidationCycle cycle)
+      throws ValidationFailedException {
+      if (plan.returnValueChecks.length == 0)
+         return;
+
+      final Method method = plan.method;
+      final String key = System.identityHashCode(validatedObject) + " " + System.identityHashCode(method);
+
+      /*
+       *  avoid circular references, e.g.
+       *
+       *  private String name;
+       *
+       *  @Assert("_this.name != null", lang="groovy")
+       *  public String getName { return name; }
+       *
+       *  => Groovy will invoke the getter to return the value, invocations of the getter will trigger the validation of the method return values again,
+       *  including the @Assert constraint
+       */
+      if (CURRENTLY_CHECKED_METHOD_RETURN_VALUES.get().contains(key))
+         return;
+
+      CURRENTLY_CHECKED_METHOD_RETURN_VALUES.get().add(key);
+
+      final IdentityHashSet<Object> validatedObjects = cycle.validatedObjects;
+      cycle.validatedObjects = new IdentityHashSet<>(4);
+      try {
+         final MethodReturnValueContext context = ContextCache.getMethodReturnValueContext(method);
+
+         for (final PlannedCheck plannedCheck : plan.returnValueChecks) {
+            checkConstraint(plannedCheck.check, validatedObject, returnValue, context, cycle, false);
+         }
+      } catch (final OValException ex) {
+         throw new ValidationFailedException("Method post conditions validation failed. Method: " + method + " Validated object: " + validatedObject, ex);
+      } finally {
+         cycle.validatedObjects = validatedObjects;
+         CURRENTLY_CHECKED_METHOD_RETURN_VALUES.get().remove(key);
+      }
+   }
+
+   /**
+    * @param plannedChecks the planned checks of the given parameter checks
+    */
+   private void _validateParameterChecks(final ParameterChecks checks, final PlannedCheck[] plannedChecks, final Object validatedObject,
+      final Object valueToValidate, final OValContext context, final ValidationCycle cycle) {
       // determine the active exclusions based on the active profiles
       final List<CheckExclusion> activeExclusions = checks.hasExclusions() ? _getActiveExclusions(checks.checkExclusions) : null;
 
       // check the constraints
-      for (final Check check : checks.checks) {
+      for (final PlannedCheck plannedCheck : plannedChecks) {
+         final Check check = plannedCheck.check;
          boolean skip = false;
 
          if (activeExclusions != null) {
@@ -324,44 +629,20 @@ public class Guard extends Validator {
    /**
     * Evaluates the old expression
     *
-    * @return null if no violation, otherwise a list
+    * @return null if no post condition of the method refers to old values
     */
    protected Map<PostCheck, Object> calculateMethodPostOldValues(final Object validatedObject, final Method method, final Object[] args)
       throws ValidationFailedException {
-      try {
-         final ClassChecks cc = getClassChecks(method.getDeclaringClass());
-         final Set<PostCheck> postChecks = cc.checksForMethodsPostExcecution.get(method);
-
-         // shortcut: check if any post checks for this method exist
-         if (postChecks == null)
-            return null;
-
-         final String[] parameterNames = parameterNameResolver.getParameterNames(method);
-         final boolean hasParameters = parameterNames.length > 0;
-
-         final Map<PostCheck, Object> oldValues = getCollectionFactory().createMap(postChecks.size());
-
-         for (final PostCheck check : postChecks)
-            if (isAnyProfileEnabled(check.getProfiles(), null) && check.getOld() != null && check.getOld().length() > 0) {
-               final ExpressionLanguage el = expressionLanguageRegistry.getExpressionLanguage(check.getLang());
-               final Map<String, Object> values = getCollectionFactory().createMap();
-               values.put("_this", validatedObject);
-               if (hasParameters) {
-                  values.put("_args", args);
-                  for (int i = 0; i < args.length; i++) {
-                     values.put(parameterNames[i], args[i]);
-                  }
-               } else {
-                  values.put("_args", ArrayUtils.EMPTY_OBJECT_ARRAY);
-               }
-
-               oldValues.put(check, el.evaluate(check.getOld(), values));
-            }
+      final GuardPlan plan = getGuardPlan(method);
+      final Object[] oldValues = _calculateMethodPostOldValues(validatedObject, plan, args);
+      if (oldValues == null)
+         return null;
 
-         return oldValues;
-      } catch (final OValException ex) {
-         throw new ValidationFailedException("Method post conditions validation failed. Method: " + method + " Validated object: " + validatedObject, ex);
+      final Map<PostCheck, Object> oldValuesByCheck = getCollectionFactory().createMap(oldValues.length);
+      for (int i = 0; i < oldValues.length; i++) {
+         oldValuesByCheck.put(plan.postChecks[i], oldValues[i]);
       }
+      return oldValuesByCheck;
    }
 
    /**
@@ -447,10 +728,65 @@ public class Guard extends Validator {
       return checks == null ? null : checks.toArray(new PreCheck[checks.size()]);
    }
 
+   /**
+    * Returns the pre-compiled guard plan for the given method. The plan is compiled on first access and recompiled whenever the checks of
+    * the declaring class are modified.
+    *
+    * @param method cannot be null
+    * @throws IllegalArgumentException if <code>method == null</code>
+    * @since 3.1
+    */
+   protected GuardPlan getGuardPlan(final Method method) throws IllegalArgumentException, InvalidConfigurationException {
+      GuardPlan plan = guardPlansByMethod.get(method);
+      if (plan == null || !plan.isUpToDate()) {
+         Assert.argumentNotNull("method", method);
+
+         plan = GuardPlan.compile(method, getClassChecks(method.getDeclaringClass()), parameterNameResolver);
+         guardPlansByMethod.put(method, plan);
+      }
+      return plan;
+   }
+
+   /**
+    * @return the executor used to validate post conditions asynchronously, <code>null</code> if post conditions are validated synchronously
+    * @since 3.1
+    */
+   public Executor getPostConditionsExecutor() {
+      return postConditionsExecutor;
+   }
+
    public ParameterNameResolver getParameterNameResolver() {
       return parameterNameResolver;
    }
 
+   /**
+    * @return the number of method calls guarded since sampling rates were configured
+    * @since 3.1
+    */
+   public long getSampledMethodCallCount() {
+      return sampledMethodCalls.sum();
+   }
+
+   /**
+    * @return the fraction of the calls to the given method that are guarded
+    * @since 3.1
+    */
+   public double getSamplingRate(final Method method) throws IllegalArgumentException {
+      Assert.argumentNotNull("method", method);
+
+      final ClassChecks cc = getClassChecks(method.getDeclaringClass());
+      final Double samplingRate = cc.samplingRatesForMethods.get(method);
+      return samplingRate == null ? cc.samplingRate : samplingRate;
+   }
+
+   /**
+    * @return the number of method calls not guarded because of the configured sampling rates
+    * @since 3.1
+    */
+   public long getSkippedMethodCallCount() {
+      return skippedMethodCalls.sum();
+   }
+
    /**
     * This method is provided for use by guard aspects.
     */
@@ -464,13 +800,14 @@ public class Guard extends Validator {
       // check invariants
       if (isInvariantsEnabled && cc.isCheckInvariants || cc.methodsWithCheckInvariantsPost.contains(ctor)) {
          final ValidationCycle cycle = new ValidationCycle(guardedObject, null);
-         currentValidationCycles.get().add(cycle);
+         beginValidationCycle(cycle);
          try {
             validateInvariants(guardedObject, cycle);
+            cycle.assertBudgetNotExhausted();
          } catch (final ValidationFailedException ex) {
             throw translateException(ex);
          } finally {
-            currentValidationCycles.get().removeLast();
+            endValidationCycle(cycle);
          }
 
          if (!cycle.violations.isEmpty()) {
@@ -525,39 +862,46 @@ public class Guard extends Validator {
       if (!isActivated)
          return invocable.invoke();
 
-      final ClassChecks cc = getClassChecks(method.getDeclaringClass());
+      final GuardPlan plan = getGuardPlan(method);
+      final boolean checkInvariants = isInvariantsEnabled && plan.classChecks.isCheckInvariants && plan.isInvariantsApplicable;
 
-      final boolean checkInvariants = isInvariantsEnabled && cc.isCheckInvariants && !ReflectionUtils.isPrivate(method) && !ReflectionUtils.isProtected(method);
+      // fast path: nothing to validate, no validation cycle needed
+      if (plan.isUnconstrained && !isProbeModeFeatureUsed && (!checkInvariants || _hasNoInvariants(guardedObject)))
+         return invocable.invoke();
+
+      if (isSamplingFeatureUsed && !_isSampled(plan.classChecks, guardedObject, method))
+         return invocable.invoke();
 
       // if static method use the declaring class as guardedObject
-      if (guardedObject == null && ReflectionUtils.isStatic(method)) {
+      if (guardedObject == null && plan.isStatic) {
          guardedObject = method.getDeclaringClass();
       }
 
       final ValidationCycle cycle = new ValidationCycle(guardedObject, null);
-      currentValidationCycles.get().add(cycle);
+      beginValidationCycle(cycle);
 
       try {
          // check invariants
-         if (checkInvariants || cc.methodsWithCheckInvariantsPre.contains(method)) {
+         if (checkInvariants || plan.isCheckInvariantsPre) {
             validateInvariants(guardedObject, cycle);
          }
 
          if (isPreConditionsEnabled) {
             // method parameter validation
             if (args.length > 0 && cycle.violations.isEmpty()) {
-               validateMethodParameters(guardedObject, method, args, cycle);
+               _validateMethodParameters(guardedObject, plan, args, cycle);
             }
 
             // @Pre validation
             if (cycle.violations.isEmpty()) {
-               validateMethodPre(guardedObject, method, args, cycle);
+               _validateMethodPre(guardedObject, plan, args, cycle);
             }
          }
+         cycle.assertBudgetNotExhausted();
       } catch (final ValidationFailedException ex) {
          throw translateException(ex);
       } finally {
-         currentValidationCycles.get().removeLast();
+         endValidationCycle(cycle);
       }
 
       final ProbeModeListener pml = isProbeModeFeatureUsed ? objectsInProbeMode.get().get(guardedObject) : null;
@@ -584,43 +928,11 @@ public class Guard extends Validator {
       if (pml != null)
          return null;
 
-      final Map<PostCheck, Object> postCheckOldValues = calculateMethodPostOldValues(guardedObject, method, args);
+      final Object[] postCheckOldValues = _calculateMethodPostOldValues(guardedObject, plan, args);
 
       final Object returnValue = invocable.invoke();
 
-      currentValidationCycles.get().add(cycle);
-      try {
-         // check invariants if executed method is not private
-         if (checkInvariants || cc.methodsWithCheckInvariantsPost.contains(method)) {
-            validateInvariants(guardedObject, cycle);
-         }
-
-         if (isPostConditionsEnabled) {
-
-            // method return value
-            if (cycle.violations.isEmpty()) {
-               validateMethodReturnValue(guardedObject, method, returnValue, cycle);
-            }
-
-            // @Post
-            if (cycle.violations.isEmpty()) {
-               validateMethodPost(guardedObject, method, args, returnValue, postCheckOldValues, cycle);
-            }
-         }
-      } catch (final ValidationFailedException ex) {
-         throw translateException(ex);
-      } finally {
-         currentValidationCycles.get().removeLast();
-      }
-
-      if (!cycle.violations.isEmpty()) {
-         final ConstraintsViolatedException violationException = new ConstraintsViolatedException(cycle.violations);
-         if (isListenersFeatureUsed) {
-            notifyListeners(guardedObject, violationException);
-         }
-
-         throw translateException(violationException);
-      }
+      _guardMethodPost(returnValue, new GuardMethodPreResult(guardedObject, method, args, plan, checkInvariants, postCheckOldValues, cycle));
 
       return returnValue;
    }
@@ -635,42 +947,33 @@ public class Guard extends Validator {
     */
    protected void guardMethodPost(final Object returnValue, final GuardMethodPreResult preResult) throws ConstraintsViolatedException,
       ValidationFailedException {
-      if (!isActivated)
+      // the call was not guarded
+      if (!isActivated || preResult == null)
          return;
 
-      currentValidationCycles.get().add(preResult.cycle);
-      try {
-         // check invariants if executed method is not private
-         if (preResult.checkInvariants || preResult.cc.methodsWithCheckInvariantsPost.contains(preResult.method)) {
-            validateInvariants(preResult.guardedObject, preResult.cycle);
-         }
-
-         if (isPostConditionsEnabled) {
-
-            // method return value
-            if (preResult.cycle.violations.isEmpty()) {
-               validateMethodReturnValue(preResult.guardedObject, preResult.method, returnValue, preResult.cycle);
-            }
+      _guardMethodPost(returnValue, preResult);
+   }
 
-            // @Post
-            if (preResult.cycle.violations.isEmpty()) {
-               validateMethodPost(preResult.guardedObject, preResult.method, preResult.args, returnValue, preResult.postCheckOldValues, preResult.cycle);
-            }
+   /**
+    * Validates the post conditions of a guarded method call using the given executor. Constraint violations are reported to the
+    * registered {@link ConstraintsViolatedListener}s since the method already returned to the caller.
+    *
+    * @return a future providing the constraint violations of the post conditions
+    * @since 3.1
+    */
+   protected CompletableFuture<List<ConstraintViolation>> guardMethodPostAsync(final Object returnValue, final GuardMethodPreResult preResult,
+      final Executor executor) {
+      return supplyAsync(() -> {
+         final List<ConstraintViolation> violations = _validateMethodPost(returnValue, preResult);
+         if (!violations.isEmpty() && isListenersFeatureUsed) {
+            notifyListeners(preResult.guardedObject, new ConstraintsViolatedException(violations));
          }
-      } catch (final ValidationFailedException ex) {
-         throw translateException(ex);
-      } finally {
-         currentValidationCycles.get().removeLast();
-      }
-
-      if (!preResult.cycle.violations.isEmpty()) {
-         final ConstraintsViolatedException violationException = new ConstraintsViolatedException(preResult.cycle.violations);
-         if (isListenersFeatureUsed) {
-            notifyListeners(preResult.guardedObject, violationException);
+         return violations;
+      }, executor).whenComplete((violations, ex) -> {
+         if (ex != null) {
+            LOG.error("Asynchronous validation of post conditions failed. Method: {1}", preResult.method, ex);
          }
-
-         throw translateException(violationException);
-      }
+      });
    }
 
    /**
@@ -679,7 +982,7 @@ public class Guard extends Validator {
     *
     * This method is provided for use by guard aspects.
     *
-    * @return Null if method guarding is deactivated or a result object that needs to be passed to {@link #guardMethodPost(Object, GuardMethodPreResult)}
+    * @return Null if method guarding is deactivated, the method has nothing to validate or the call is not sampled, otherwise a result object that needs to be passed to {@link #guardMethodPost(Object, GuardMethodPreResult)}
     * @throws ConstraintsViolatedException if an constraint violation occurs and the validated object is not in probe mode.
     */
    protected GuardMethodPreResult guardMethodPre(Object guardedObject, final Method method, final Object[] args) throws ConstraintsViolatedException,
@@ -687,38 +990,45 @@ public class Guard extends Validator {
       if (!isActivated)
          return null;
 
-      final ClassChecks cc = getClassChecks(method.getDeclaringClass());
+      final GuardPlan plan = getGuardPlan(method);
+      final boolean checkInvariants = isInvariantsEnabled && plan.classChecks.isCheckInvariants && plan.isInvariantsApplicable;
 
-      final boolean checkInvariants = isInvariantsEnabled && cc.isCheckInvariants && !ReflectionUtils.isPrivate(method) && !ReflectionUtils.isProtected(method);
+      // fast path: nothing to validate, no validation cycle needed
+      if (plan.isUnconstrained && !isProbeModeFeatureUsed && (!checkInvariants || _hasNoInvariants(guardedObject)))
+         return null;
+
+      if (isSamplingFeatureUsed && !_isSampled(plan.classChecks, guardedObject, method))
+         return null;
 
       // if static method use the declaring class as guardedObject
-      if (guardedObject == null && ReflectionUtils.isStatic(method)) {
+      if (guardedObject == null && plan.isStatic) {
          guardedObject = method.getDeclaringClass();
       }
 
       final ValidationCycle cycle = new ValidationCycle(guardedObject, null);
-      currentValidationCycles.get().add(cycle);
+      beginValidationCycle(cycle);
       try {
          // check invariants
-         if (checkInvariants || cc.methodsWithCheckInvariantsPre.contains(method)) {
+         if (checkInvariants || plan.isCheckInvariantsPre) {
             validateInvariants(guardedObject, cycle);
          }
 
          if (isPreConditionsEnabled) {
             // method parameter validation
             if (args.length > 0 && cycle.violations.isEmpty()) {
-               validateMethodParameters(guardedObject, method, args, cycle);
+               _validateMethodParameters(guardedObject, plan, args, cycle);
             }
 
             // @Pre validation
             if (cycle.violations.isEmpty()) {
-               validateMethodPre(guardedObject, method, args, cycle);
+               _validateMethodPre(guardedObject, plan, args, cycle);
             }
          }
+         cycle.assertBudgetNotExhausted();
       } catch (final ValidationFailedException ex) {
          throw translateException(ex);
       } finally {
-         currentValidationCycles.get().removeLast();
+         endValidationCycle(cycle);
       }
 
       final ProbeModeListener pml = isProbeModeFeatureUsed ? objectsInProbeMode.get().get(guardedObject) : null;
@@ -745,9 +1055,9 @@ public class Guard extends Validator {
       if (pml != null)
          return DO_NOT_PROCEED;
 
-      final Map<PostCheck, Object> postCheckOldValues = calculateMethodPostOldValues(guardedObject, method, args);
+      final Object[] postCheckOldValues = _calculateMethodPostOldValues(guardedObject, plan, args);
 
-      return new GuardMethodPreResult(guardedObject, method, args, cc, checkInvariants, postCheckOldValues, cycle);
+      return new GuardMethodPreResult(guardedObject, method, args, plan, checkInvariants, postCheckOldValues, cycle);
    }
 
    /**
@@ -827,6 +1137,38 @@ public class Guard extends Validator {
       return isPreConditionsEnabled;
    }
 
+   /**
+    * Determines if the given arguments satisfy the parameter constraints of the given method.
+    *
+    * No constraint violation objects are created, no messages are rendered and the validation is aborted on the first violation.
+    *
+    * If the {@link #getValidationBudget() validation budget} is exhausted before a violation was found, the validity cannot be determined
+    * and a {@link ValidationBudgetExceededException} is thrown.
+    *
+    * @param guardedObject the object the method would be invoked on, <code>null</code> for static methods
+    * @throws ValidationBudgetExceededException if the budget has been exhausted before a violation was found
+    * @throws ValidationFailedException if the validation fails for technical reasons
+    * @since 3.1
+    */
+   public boolean isValidMethodParameters(final Object guardedObject, final Method method, final Object[] args) throws IllegalArgumentException,
+      ValidationBudgetExceededException, ValidationFailedException {
+      Assert.argumentNotNull("method", method);
+      Assert.argumentNotNull("args", args);
+
+      final ValidationCycle cycle = new ValidationCycle(guardedObject, null);
+      cycle.isCheckOnly = true;
+      beginValidationCycle(cycle);
+      try {
+         validateMethodParameters(guardedObject, method, args, cycle);
+         if (!cycle.isInvalid) {
+            cycle.assertBudgetNotExhausted();
+         }
+         return !cycle.isInvalid;
+      } finally {
+         endValidationCycle(cycle);
+      }
+   }
+
    /**
     * notifies all registered validation listener about the occurred constraint violation exception
     */
@@ -862,6 +1204,12 @@ public class Guard extends Validator {
 
    }
 
+   @Override
+   public void reconfigureChecks() {
+      super.reconfigureChecks();
+      guardPlansByMethod.clear();
+   }
+
    /**
     * Removes constraint check exclusions from the given constructor parameter
     *
@@ -1008,16 +1356,66 @@ public class Guard extends Validator {
       Assert.argumentNotNull("parameterNameResolver", parameterNameResolver);
 
       this.parameterNameResolver.setDelegate(parameterNameResolver);
+      guardPlansByMethod.clear();
    }
 
    public void setPostConditionsEnabled(final boolean isEnabled) {
       isPostConditionsEnabled = isEnabled;
    }
 
+   /**
+    * Specifies an executor to validate the invariants, return value constraints and post conditions of guarded method calls
+    * asynchronously after the method returned, so callers are not blocked by expensive post condition checks.
+    * Constraint violations are reported to the registered {@link ConstraintsViolatedListener}s instead of being thrown.
+    *
+    * @param executor the executor to use or <code>null</code> to validate post conditions synchronously (default)
+    * @since 3.1
+    */
+   public void setPostConditionsExecutor(final Executor executor) {
+      postConditionsExecutor = executor;
+   }
+
    public void setPreConditionsEnabled(final boolean isEnabled) {
       isPreConditionsEnabled = isEnabled;
    }
 
+   /**
+    * Specifies the fraction of the calls to the methods declared by the given class that are guarded, e.g. to keep contract checking
+    * enabled in production for a sample of the calls only. Calls that are not sampled are executed without validating invariants,
+    * parameter constraints, pre and post conditions.
+    *
+    * The sampling decision is made per call using {@link ThreadLocalRandom}, the decisions are counted by
+    * {@link #getSampledMethodCallCount()} and {@link #getSkippedMethodCallCount()}.
+    *
+    * @param guardedClass the class declaring the methods
+    * @param samplingRate the fraction of the calls to guard, between <code>0.0</code> (none) and <code>1.0</code> (all, default)
+    * @since 3.1
+    */
+   public void setSamplingRate(final Class<?> guardedClass, final double samplingRate) throws IllegalArgumentException {
+      Assert.argumentNotNull("guardedClass", guardedClass);
+      if (!(samplingRate >= 0 && samplingRate <= 1))
+         throw new IllegalArgumentException("[samplingRate] must be between 0.0 and 1.0");
+
+      isSamplingFeatureUsed = true;
+      getClassChecks(guardedClass).samplingRate = samplingRate;
+   }
+
+   /**
+    * Specifies the fraction of the calls to the given method that are guarded, overriding the sampling rate of its declaring class.
+    *
+    * @param samplingRate the fraction of the calls to guard, between <code>0.0</code> (none) and <code>1.0</code> (all)
+    * @see #setSamplingRate(Class, double)
+    * @since 3.1
+    */
+   public void setSamplingRate(final Method method, final double samplingRate) throws IllegalArgumentException {
+      Assert.argumentNotNull("method", method);
+      if (!(samplingRate >= 0 && samplingRate <= 1))
+         throw new IllegalArgumentException("[samplingRate] must be between 0.0 and 1.0");
+
+      isSamplingFeatureUsed = true;
+      getClassChecks(method.getDeclaringClass()).samplingRatesForMethods.put(method, samplingRate);
+   }
+
    /**
     * Validates the give arguments against the defined constructor parameter constraints.<br>
     *
@@ -1027,7 +1425,7 @@ public class Guard extends Validator {
       final Object[] argsToValidate) throws ValidationFailedException {
 
       final ValidationCycle cycle = new ValidationCycle(validatedObject, null);
-      currentValidationCycles.get().add(cycle);
+      beginValidationCycle(cycle);
       try {
          final ClassChecks cc = getClassChecks(constructor.getDeclaringClass());
          final Map<Integer, ParameterChecks> parameterChecks = cc.checksForConstructorParameters.get(constructor);
@@ -1036,35 +1434,43 @@ public class Guard extends Validator {
          if (parameterChecks == null)
             return null;
 
-         final String[] parameterNames = parameterNameResolver.getParameterNames(constructor);
-
          for (int i = 0; i < argsToValidate.length; i++) {
             final ParameterChecks checks = parameterChecks.get(i);
 
             if (checks != null && checks.hasChecks()) {
                final Object valueToValidate = argsToValidate[i];
-               final ConstructorParameterContext context = new ConstructorParameterContext(constructor, i, parameterNames[i]);
-
-               _validateParameterChecks(checks, validatedObject, valueToValidate, context, cycle);
+               _validateParameterChecks(checks, PlannedCheck.of(checks.checks), validatedObject, valueToValidate, checks.context, cycle);
             }
          }
+         cycle.assertBudgetNotExhausted();
          return cycle.violations.isEmpty() ? null : cycle.violations;
+      } catch (final ValidationBudgetExceededException ex) {
+         throw ex;
       } catch (final OValException ex) {
          throw new ValidationFailedException("Validation of constructor parameters failed. Constructor: " + constructor + " Validated object: "
             + validatedObject.getClass().getName() + "@" + Integer.toHexString(validatedObject.hashCode()), ex);
       } finally {
-         currentValidationCycles.get().removeLast();
+         endValidationCycle(cycle);
       }
    }
 
    @Override
    protected void validateInvariants(final Object guardedObject, final ValidationCycle cycle) throws IllegalArgumentException, ValidationFailedException {
 
+      if (!(guardedObject instanceof Class<?>) && isUnconstrained(guardedObject.getClass()))
+         return;
+
       final List<ValidationCycle> validationCycles = currentValidationCycles.get();
       if (validationCycles.size() > 1 && validationCycles.get(validationCycles.size() - 2).validatedObjects.contains(guardedObject))
          // to prevent StackOverflowError
          return;
 
+      // objects referenced by the guarded object are validated as part of the same object graph
+      if (cycle.depth > 0) {
+         super.validateInvariants(guardedObject, cycle);
+         return;
+      }
+
       final IdentityHashSet<Object> validatedObjects = cycle.validatedObjects;
       cycle.validatedObjects = new IdentityHashSet<>(4);
       try {
@@ -1079,38 +1485,7 @@ public class Guard extends Validator {
     */
    protected void validateMethodParameters(final Object validatedObject, final Method method, final Object[] args, final ValidationCycle cycle)
       throws ValidationFailedException {
-
-      final IdentityHashSet<Object> validatedObjects = cycle.validatedObjects;
-      cycle.validatedObjects = new IdentityHashSet<>(4);
-      try {
-         final ClassChecks cc = getClassChecks(method.getDeclaringClass());
-         final Map<Integer, ParameterChecks> parameterChecks = cc.checksForMethodParameters.get(method);
-
-         if (parameterChecks == null)
-            return;
-
-         final String[] parameterNames = parameterNameResolver.getParameterNames(method);
-
-         /*
-          * parameter constraints validation
-          */
-         if (parameterNames.length > 0) {
-            for (int i = 0; i < args.length; i++) {
-               final ParameterChecks checks = parameterChecks.get(i);
-
-               if (checks != null && !checks.checks.isEmpty()) {
-                  final Object valueToValidate = args[i];
-                  final MethodParameterContext context = new MethodParameterContext(method, i, parameterNames[i]);
-
-                  _validateParameterChecks(checks, validatedObject, valueToValidate, context, cycle);
-               }
-            }
-         }
-      } catch (final OValException ex) {
-         throw new ValidationFailedException("Method pre conditions validation failed. Method: " + method + " Validated object: " + validatedObject, ex);
-      } finally {
-         cycle.validatedObjects = validatedObjects;
-      }
+      _validateMethodParameters(validatedObject, getGuardPlan(method), args, cycle);
    }
 
    /**
@@ -1118,68 +1493,15 @@ public class Guard extends Validator {
     */
    protected void validateMethodPost(final Object validatedObject, final Method method, final Object[] args, final Object returnValue,
       final Map<PostCheck, Object> oldValues, final ValidationCycle cycle) throws ValidationFailedException {
-      final String key = System.identityHashCode(validatedObject) + " " + System.identityHashCode(method);
-
-      /*
-       *  avoid circular references
-       */
-      if (CURRENTLY_CHECKED_POST_CONDITIONS.get().contains(key))
-         return;
-
-      CURRENTLY_CHECKED_POST_CONDITIONS.get().add(key);
-      try {
-         final ClassChecks cc = getClassChecks(method.getDeclaringClass());
-         final Set<PostCheck> postChecks = cc.checksForMethodsPostExcecution.get(method);
-
-         if (postChecks == null)
-            return;
-
-         final String[] parameterNames = parameterNameResolver.getParameterNames(method);
-         final boolean hasParameters = parameterNames.length > 0;
-
-         final MethodExitContext context = ContextCache.getMethodExitContext(method);
-         cycle.contextPath.add(context);
-
-         for (final PostCheck check : postChecks) {
-            if (!isAnyProfileEnabled(check.getProfiles(), null)) {
-               continue;
-            }
-            try {
-               final ExpressionLanguage eng = expressionLanguageRegistry.getExpressionLanguage(check.getLang());
-               final Map<String, Object> values = getCollectionFactory().createMap();
-               values.put("_this", validatedObject);
-               values.put("_returns", returnValue);
-               values.put("_old", oldValues.get(check));
-
-               if (hasParameters) {
-                  values.put("_args", args);
-                  for (int i = 0; i < args.length; i++) {
-                     values.put(parameterNames[i], args[i]);
-                  }
-               } else {
-                  values.put("_args", ArrayUtils.EMPTY_OBJECT_ARRAY);
-               }
-
-               if (!eng.evaluateAsBoolean(check.getExpr(), values)) {
-                  final Map<String, String> messageVariables = getCollectionFactory().createMap(2);
-                  messageVariables.put("expression", check.getExpr());
-                  final String errorMessage = renderMessage(cycle.contextPath, null, check.getMessage(), messageVariables);
-
-                  cycle.addViolation(new ConstraintViolation(check, errorMessage, validatedObject, null, cycle.contextPath));
-               }
-            } catch (final OValException ex) {
-               throw new ValidationFailedException("Executing " + check + " failed. Method: " + method + " Validated object: " + validatedObject, ex);
-            }
+      final GuardPlan plan = getGuardPlan(method);
+      Object[] oldValuesByIndex = null;
+      if (oldValues != null && plan.postChecks != null) {
+         oldValuesByIndex = new Object[plan.postChecks.length];
+         for (int i = 0; i < oldValuesByIndex.length; i++) {
+            oldValuesByIndex[i] = oldValues.get(plan.postChecks[i]);
          }
-
-         CollectionUtils.removeLast(cycle.contextPath, context);
-      } catch (final ValidationFailedException ex) {
-         throw ex;
-      } catch (final OValException ex) {
-         throw new ValidationFailedException("Method post conditions validation failed. Method: " + method + " Validated object: " + validatedObject, ex);
-      } finally {
-         CURRENTLY_CHECKED_POST_CONDITIONS.get().remove(key);
       }
+      _validateMethodPost(validatedObject, plan, args, returnValue, oldValuesByIndex, cycle);
    }
 
    /**
@@ -1187,57 +1509,7 @@ public class Guard extends Validator {
     */
    protected void validateMethodPre(final Object validatedObject, final Method method, final Object[] args, final ValidationCycle cycle)
       throws ValidationFailedException {
-      final String key = System.identityHashCode(validatedObject) + " " + System.identityHashCode(method);
-
-      /*
-       *  avoid circular references
-       */
-      if (CURRENTLY_CHECKED_PRE_CONDITIONS.get().contains(key))
-         return;
-
-      CURRENTLY_CHECKED_PRE_CONDITIONS.get().add(key);
-      try {
-         final ClassChecks cc = getClassChecks(method.getDeclaringClass());
-         final Set<PreCheck> preChecks = cc.checksForMethodsPreExecution.get(method);
-
-         if (preChecks == null)
-            return;
-
-         final String[] parameterNames = parameterNameResolver.getParameterNames(method);
-         final boolean hasParameters = parameterNames.length > 0;
-
-         final MethodEntryContext context = ContextCache.getMethodEntryContext(method);
-         cycle.contextPath.add(context);
-         for (final PreCheck check : preChecks) {
-            if (!isAnyProfileEnabled(check.getProfiles(), null)) {
-               continue;
-            }
-
-            final ExpressionLanguage eng = expressionLanguageRegistry.getExpressionLanguage(check.getLang());
-            final Map<String, Object> values = getCollectionFactory().createMap();
-            values.put("_this", validatedObject);
-            if (hasParameters) {
-               values.put("_args", args);
-               for (int i = 0; i < args.length; i++) {
-                  values.put(parameterNames[i], args[i]);
-               }
-            } else {
-               values.put("_args", ArrayUtils.EMPTY_OBJECT_ARRAY);
-            }
-
-            if (!eng.evaluateAsBoolean(check.getExpr(), values)) {
-               final Map<String, String> messageVariables = getCollectionFactory().createMap(2);
-               messageVariables.put("expression", check.getExpr());
-               final String errorMessage = renderMessage(cycle.contextPath, null, check.getMessage(), messageVariables);
-               cycle.addViolation(new ConstraintViolation(check, errorMessage, validatedObject, null, cycle.contextPath));
-            }
-         }
-         CollectionUtils.removeLast(cycle.contextPath, context);
-      } catch (final OValException ex) {
-         throw new ValidationFailedException("Method pre conditions validation failed. Method: " + method + " Validated object: " + validatedObject, ex);
-      } finally {
-         CURRENTLY_CHECKED_PRE_CONDITIONS.get().remove(key);
-      }
+      _validateMethodPre(validatedObject, getGuardPlan(method), args, cycle);
    }
 
    /**
@@ -1245,43 +1517,6 @@ public class Guard extends Validator {
     */
    protected void validateMethodReturnValue(final Object validatedObject, final Method method, final Object returnValue, final ValidationCycle cycle)
       throws ValidationFailedException {
-      final String key = System.identityHashCode(validatedObject) + " " + System.identityHashCode(method);
-
-      /*
-       *  avoid circular references, e.g.
-       *
-       *  private String name;
-       *
-       *  @Assert("_this.name != null", lang="groovy")
-       *  public String getName { return name; }
-       *
-       *  => Groovy will invoke the getter to return the value, invocations of the getter will trigger the validation of the method return values again,
-       *  including the @Assert constraint
-       */
-      if (CURRENTLY_CHECKED_METHOD_RETURN_VALUES.get().contains(key))
-         return;
-
-      CURRENTLY_CHECKED_METHOD_RETURN_VALUES.get().add(key);
-
-      final IdentityHashSet<Object> validatedObjects = cycle.validatedObjects;
-      cycle.validatedObjects = new IdentityHashSet<>(4);
-      try {
-         final ClassChecks cc = getClassChecks(method.getDeclaringClass());
-         final Collection<Check> returnValueChecks = cc.checksForMethodReturnValues.get(method);
-
-         if (returnValueChecks == null || returnValueChecks.isEmpty())
-            return;
-
-         final MethodReturnValueContext context = ContextCache.getMethodReturnValueContext(method);
-
-         for (final Check check : returnValueChecks) {
-            checkConstraint(check, validatedObject, returnValue, context, cycle, false);
-         }
-      } catch (final OValException ex) {
-         throw new ValidationFailedException("Method post conditions validation failed. Method: " + method + " Validated object: " + validatedObject, ex);
-      } finally {
-         cycle.validatedObjects = validatedObjects;
-         CURRENTLY_CHECKED_METHOD_RETURN_VALUES.get().remove(key);
-      }
+      _validateMethodReturnValue(validatedObject, getGuardPlan(method), returnValue, cycle);
    }
 }
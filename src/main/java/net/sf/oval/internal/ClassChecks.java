@@ -15,12 +15,16 @@ import java.lang.reflect.AccessibleObject;
 import java.lang.reflect.Constructor;
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.LinkedHashSet;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import net.sf.oval.AbstractCheck;
 import net.sf.oval.Check;
 import net.sf.oval.CheckExclusion;
 import net.sf.oval.exception.InvalidConfigurationException;
@@ -102,12 +106,43 @@ public final class ClassChecks {
 
    public boolean isCheckInvariants;
 
+   /**
+    * modify via {@link #addMethodWithCheckInvariantsPost(AccessibleObject)} to outdate pre-compiled plans
+    */
    public final Set<AccessibleObject> methodsWithCheckInvariantsPost = getCollectionFactory().createSet();
 
+   /**
+    * modify via {@link #addMethodWithCheckInvariantsPre(Method)} to outdate pre-compiled plans
+    */
    public final Set<Method> methodsWithCheckInvariantsPre = getCollectionFactory().createSet();
 
+   /**
+    * fraction of the calls to the methods declared by the class that are guarded, between <code>0.0</code> and <code>1.0</code>
+    *
+    * @since 3.1
+    */
+   public volatile double samplingRate = 1.0;
+
+   /**
+    * sampling rates of single methods overriding {@link #samplingRate}, may be modified while guarded methods are called
+    *
+    * @since 3.1
+    */
+   public final Map<Method, Double> samplingRatesForMethods = new ConcurrentHashMap<>(2);
+
    private final ParameterNameResolver parameterNameResolver;
 
+   /**
+    * incremented on every modification of the checks held by this object
+    */
+   private final AtomicInteger version = new AtomicInteger();
+
+   /**
+    * registered with all checks held by this object, outdates pre-compiled plans if the <code>appliesTo</code>, <code>profiles</code> or
+    * <code>target</code> configuration of a check is modified, unregistered when the check is removed from this object
+    */
+   private final Runnable checkConfigurationListener = version::incrementAndGet;
+
    /**
     * package constructor used by the Validator class
     */
@@ -118,6 +153,62 @@ public final class ClassChecks {
       this.parameterNameResolver = parameterNameResolver;
    }
 
+   private void _registerCheck(final Check check) {
+      if (check instanceof AbstractCheck) {
+         synchronized (checkConfigurationListener) {
+            ((AbstractCheck) check).addConfigurationListener(checkConfigurationListener);
+         }
+      }
+   }
+
+   /**
+    * Unregisters the listener from the given checks removed from this object unless they are still held by this object, e.g. for
+    * another field.
+    */
+   private void _unregisterChecks(final Collection<? extends Check> checks) {
+      synchronized (checkConfigurationListener) {
+         for (final Check check : checks) {
+            if (check instanceof AbstractCheck && !_isHoldingCheck(check)) {
+               ((AbstractCheck) check).removeConfigurationListener(checkConfigurationListener);
+            }
+         }
+      }
+   }
+
+   private void _unregisterParameterChecks(final Collection<ParameterChecks> checks) {
+      for (final ParameterChecks paramChecks : checks) {
+         _unregisterChecks(paramChecks.checks);
+      }
+   }
+
+   private boolean _isHoldingCheck(final Check check) {
+      if (checksForObject.contains(check))
+         return true;
+      for (final Set<Check> checks : checksForFields.values())
+         if (checks.contains(check))
+            return true;
+      for (final Set<Check> checks : checksForMethodReturnValues.values())
+         if (checks.contains(check))
+            return true;
+      for (final Set<PreCheck> checks : checksForMethodsPreExecution.values())
+         if (checks.contains(check))
+            return true;
+      for (final Set<PostCheck> checks : checksForMethodsPostExcecution.values())
+         if (checks.contains(check))
+            return true;
+      for (final Map<Integer, ParameterChecks> checksByParameter : checksForMethodParameters.values()) {
+         for (final ParameterChecks checks : checksByParameter.values())
+            if (checks.checks.contains(check))
+               return true;
+      }
+      for (final Map<Integer, ParameterChecks> checksByParameter : checksForConstructorParameters.values()) {
+         for (final ParameterChecks checks : checksByParameter.values())
+            if (checks.checks.contains(check))
+               return true;
+      }
+      return false;
+   }
+
    @SuppressWarnings("unchecked")
    private void _addConstructorParameterCheckExclusions(final Constructor<?> constructor, final int parameterIndex, final Object exclusions)
       throws InvalidConfigurationException {
@@ -129,6 +220,7 @@ public final class ClassChecks {
       } else {
          Collections.addAll(checksOfConstructorParameter.checkExclusions, (CheckExclusion[]) exclusions);
       }
+      version.incrementAndGet();
    }
 
    @SuppressWarnings("unchecked")
@@ -143,6 +235,7 @@ public final class ClassChecks {
       if (checks instanceof Collection) {
          for (final Check check : (Collection<Check>) checks) {
             checksOfConstructorParameter.checks.add(check);
+            _registerCheck(check);
             if (check.getContext() == null) {
                check.setContext(checksOfConstructorParameter.context);
             }
@@ -150,11 +243,13 @@ public final class ClassChecks {
       } else {
          for (final Check check : (Check[]) checks) {
             checksOfConstructorParameter.checks.add(check);
+            _registerCheck(check);
             if (check.getContext() == null) {
                check.setContext(checksOfConstructorParameter.context);
             }
          }
       }
+      version.incrementAndGet();
    }
 
    @SuppressWarnings("unchecked")
@@ -174,6 +269,7 @@ public final class ClassChecks {
          if (checks instanceof Collection) {
             for (final Check check : (Collection<Check>) checks) {
                checksOfField.add(check);
+               _registerCheck(check);
                if (check.getContext() == null) {
                   check.setContext(ContextCache.getFieldContext(field));
                }
@@ -181,12 +277,14 @@ public final class ClassChecks {
          } else {
             for (final Check check : (Check[]) checks) {
                checksOfField.add(check);
+               _registerCheck(check);
                if (check.getContext() == null) {
                   check.setContext(ContextCache.getFieldContext(field));
                }
             }
          }
       }
+      version.incrementAndGet();
    }
 
    @SuppressWarnings("unchecked")
@@ -200,6 +298,7 @@ public final class ClassChecks {
       } else {
          Collections.addAll(checksOfMethodParameter.checkExclusions, (CheckExclusion[]) exclusions);
       }
+      version.incrementAndGet();
    }
 
    @SuppressWarnings("unchecked")
@@ -216,6 +315,7 @@ public final class ClassChecks {
                check.setContext(checksOfMethodParameter.context);
             }
             checksOfMethodParameter.checks.add(check);
+            _registerCheck(check);
          }
       } else {
          for (final Check check : (Check[]) checks) {
@@ -223,8 +323,10 @@ public final class ClassChecks {
                check.setContext(checksOfMethodParameter.context);
             }
             checksOfMethodParameter.checks.add(check);
+            _registerCheck(check);
          }
       }
+      version.incrementAndGet();
    }
 
    @SuppressWarnings("unchecked")
@@ -243,6 +345,7 @@ public final class ClassChecks {
          if (checks instanceof Collection) {
             for (final PostCheck check : (Collection<PostCheck>) checks) {
                postChecks.add(check);
+               _registerCheck(check);
                if (check.getContext() == null) {
                   check.setContext(ContextCache.getMethodExitContext(method));
                }
@@ -250,12 +353,14 @@ public final class ClassChecks {
          } else {
             for (final PostCheck check : (PostCheck[]) checks) {
                postChecks.add(check);
+               _registerCheck(check);
                if (check.getContext() == null) {
                   check.setContext(ContextCache.getMethodExitContext(method));
                }
             }
          }
       }
+      version.incrementAndGet();
    }
 
    @SuppressWarnings("unchecked")
@@ -274,6 +379,7 @@ public final class ClassChecks {
          if (checks instanceof Collection) {
             for (final PreCheck check : (Collection<PreCheck>) checks) {
                preChecks.add(check);
+               _registerCheck(check);
                if (check.getContext() == null) {
                   check.setContext(ContextCache.getMethodEntryContext(method));
                }
@@ -281,12 +387,14 @@ public final class ClassChecks {
          } else {
             for (final PreCheck check : (PreCheck[]) checks) {
                preChecks.add(check);
+               _registerCheck(check);
                if (check.getContext() == null) {
                   check.setContext(ContextCache.getMethodEntryContext(method));
                }
             }
          }
       }
+      version.incrementAndGet();
    }
 
    @SuppressWarnings("unchecked")
@@ -333,6 +441,7 @@ public final class ClassChecks {
          if (checks instanceof Collection) {
             for (final Check check : (Collection<Check>) checks) {
                methodChecks.add(check);
+               _registerCheck(check);
                if (check.getContext() == null) {
                   check.setContext(ContextCache.getMethodReturnValueContext(method));
                }
@@ -340,12 +449,14 @@ public final class ClassChecks {
          } else {
             for (final Check check : (Check[]) checks) {
                methodChecks.add(check);
+               _registerCheck(check);
                if (check.getContext() == null) {
                   check.setContext(ContextCache.getMethodReturnValueContext(method));
                }
             }
          }
       }
+      version.incrementAndGet();
    }
 
    private ParameterChecks _getChecksOfConstructorParameter(final Constructor<?> ctor, final int paramIndex) {
@@ -550,8 +661,10 @@ public final class ClassChecks {
                check.setContext(ContextCache.getClassContext(clazz));
             }
             checksForObject.add(check);
+            _registerCheck(check);
          }
       }
+      version.incrementAndGet();
    }
 
    /**
@@ -564,13 +677,52 @@ public final class ClassChecks {
                check.setContext(ContextCache.getClassContext(clazz));
             }
             checksForObject.add(check);
+            _registerCheck(check);
          }
       }
+      version.incrementAndGet();
+   }
+
+   /**
+    * Marks the given constructor or method to validate the object invariants after its execution.
+    *
+    * @since 3.1
+    */
+   public void addMethodWithCheckInvariantsPost(final AccessibleObject ctorOrMethod) {
+      if (methodsWithCheckInvariantsPost.add(ctorOrMethod)) {
+         version.incrementAndGet();
+      }
+   }
+
+   /**
+    * Marks the given method to validate the object invariants before its execution.
+    *
+    * @since 3.1
+    */
+   public void addMethodWithCheckInvariantsPre(final Method method) {
+      if (methodsWithCheckInvariantsPre.add(method)) {
+         version.incrementAndGet();
+      }
+   }
+
+   /**
+    * @return a number that changes whenever checks are added to or removed from this object
+    */
+   public int getVersion() {
+      return version.get();
    }
 
    public synchronized void clear() {
       LOG.debug("Clearing all checks for class {1}", clazz);
 
+      final Set<Check> checks = new LinkedHashSet<>(checksForObject);
+      checksForFields.values().forEach(checks::addAll);
+      checksForMethodReturnValues.values().forEach(checks::addAll);
+      checksForMethodsPreExecution.values().forEach(checks::addAll);
+      checksForMethodsPostExcecution.values().forEach(checks::addAll);
+      checksForMethodParameters.values().forEach(checksByParameter -> checksByParameter.values().forEach(c -> checks.addAll(c.checks)));
+      checksForConstructorParameters.values().forEach(checksByParameter -> checksByParameter.values().forEach(c -> checks.addAll(c.checks)));
+
       checksForObject.clear();
       checksForMethodsPostExcecution.clear();
       checksForMethodsPreExecution.clear();
@@ -582,6 +734,8 @@ public final class ClassChecks {
       constrainedStaticFields.clear();
       constrainedMethods.clear();
       constrainedStaticMethods.clear();
+      version.incrementAndGet();
+      _unregisterChecks(checks);
    }
 
    public void clearConstructorChecks(final Constructor<?> constructor) {
@@ -589,33 +743,44 @@ public final class ClassChecks {
    }
 
    public void clearConstructorParameterChecks(final Constructor<?> constructor) {
+      final Map<Integer, ParameterChecks> removed;
       synchronized (checksForConstructorParameters) {
-         checksForConstructorParameters.remove(constructor);
+         removed = checksForConstructorParameters.remove(constructor);
+      }
+      version.incrementAndGet();
+      if (removed != null) {
+         _unregisterParameterChecks(removed.values());
       }
    }
 
    public void clearConstructorParameterChecks(final Constructor<?> constructor, final int parameterIndex) {
+      final ParameterChecks checksOfMethodParameter;
       synchronized (checksForConstructorParameters) {
          // retrieve the currently registered checks for all parameters of the specified method
          final Map<Integer, ParameterChecks> checksOfConstructorByParameter = checksForConstructorParameters.get(constructor);
          if (checksOfConstructorByParameter == null)
             return;
 
-         // retrieve the checks for the specified parameter
-         final ParameterChecks checksOfMethodParameter = checksOfConstructorByParameter.get(parameterIndex);
+         // remove the checks for the specified parameter
+         checksOfMethodParameter = checksOfConstructorByParameter.remove(parameterIndex);
          if (checksOfMethodParameter == null)
             return;
-
-         checksOfConstructorByParameter.remove(parameterIndex);
       }
+      version.incrementAndGet();
+      _unregisterChecks(checksOfMethodParameter.checks);
    }
 
    public void clearFieldChecks(final Field field) {
+      final Set<Check> removed;
       synchronized (checksForFields) {
-         checksForFields.remove(field);
+         removed = checksForFields.remove(field);
          constrainedFields.remove(field);
          constrainedStaticFields.remove(field);
       }
+      version.incrementAndGet();
+      if (removed != null) {
+         _unregisterChecks(removed);
+      }
    }
 
    public synchronized void clearMethodChecks(final Method method) {
@@ -626,51 +791,76 @@ public final class ClassChecks {
    }
 
    public void clearMethodParameterChecks(final Method method) {
+      final Map<Integer, ParameterChecks> removed;
       synchronized (checksForMethodParameters) {
-         checksForMethodParameters.remove(method);
+         removed = checksForMethodParameters.remove(method);
+      }
+      version.incrementAndGet();
+      if (removed != null) {
+         _unregisterParameterChecks(removed.values());
       }
    }
 
    public void clearMethodParameterChecks(final Method method, final int parameterIndex) {
+      final ParameterChecks checksOfMethodParameter;
       synchronized (checksForMethodParameters) {
          // retrieve the currently registered checks for all parameters of the specified method
          final Map<Integer, ParameterChecks> checksOfMethodByParameter = checksForMethodParameters.get(method);
          if (checksOfMethodByParameter == null)
             return;
 
-         // retrieve the checks for the specified parameter
-         final ParameterChecks checksOfMethodParameter = checksOfMethodByParameter.get(parameterIndex);
+         // remove the checks for the specified parameter
+         checksOfMethodParameter = checksOfMethodByParameter.remove(parameterIndex);
          if (checksOfMethodParameter == null)
             return;
-
-         checksOfMethodByParameter.remove(parameterIndex);
       }
+      version.incrementAndGet();
+      _unregisterChecks(checksOfMethodParameter.checks);
    }
 
    public void clearMethodPostChecks(final Method method) {
+      final Set<PostCheck> removed;
       synchronized (checksForMethodsPostExcecution) {
-         checksForMethodsPostExcecution.remove(method);
+         removed = checksForMethodsPostExcecution.remove(method);
+      }
+      version.incrementAndGet();
+      if (removed != null) {
+         _unregisterChecks(removed);
       }
    }
 
    public void clearMethodPreChecks(final Method method) {
+      final Set<PreCheck> removed;
       synchronized (checksForMethodsPreExecution) {
-         checksForMethodsPreExecution.remove(method);
+         removed = checksForMethodsPreExecution.remove(method);
+      }
+      version.incrementAndGet();
+      if (removed != null) {
+         _unregisterChecks(removed);
       }
    }
 
    public void clearMethodReturnValueChecks(final Method method) {
+      final Set<Check> removed;
       synchronized (checksForMethodReturnValues) {
-         checksForMethodReturnValues.remove(method);
+         removed = checksForMethodReturnValues.remove(method);
          constrainedMethods.remove(method);
          constrainedStaticMethods.remove(method);
       }
+      version.incrementAndGet();
+      if (removed != null) {
+         _unregisterChecks(removed);
+      }
    }
 
    public void clearObjectChecks() {
+      final Set<Check> removed;
       synchronized (checksForObject) {
+         removed = new LinkedHashSet<>(checksForObject);
          checksForObject.clear();
       }
+      version.incrementAndGet();
+      _unregisterChecks(removed);
    }
 
    public void removeConstructorParameterCheckExclusions(final Constructor<?> constructor, final int parameterIndex, final CheckExclusion... exclusions) {
@@ -693,6 +883,7 @@ public final class ClassChecks {
             checksOfConstructorByParameter.remove(parameterIndex);
          }
       }
+      version.incrementAndGet();
    }
 
    public void removeConstructorParameterChecks(final Constructor<?> constructor, final int parameterIndex, final Check... checks) {
@@ -715,6 +906,8 @@ public final class ClassChecks {
             checksOfConstructorByParameter.remove(parameterIndex);
          }
       }
+      version.incrementAndGet();
+      _unregisterChecks(Arrays.asList(checks));
    }
 
    public void removeFieldChecks(final Field field, final Check... checks) {
@@ -734,6 +927,8 @@ public final class ClassChecks {
             constrainedStaticFields.remove(field);
          }
       }
+      version.incrementAndGet();
+      _unregisterChecks(Arrays.asList(checks));
    }
 
    public void removeMethodParameterCheckExclusions(final Method method, final int parameterIndex, final CheckExclusion... exclusions) {
@@ -759,6 +954,7 @@ public final class ClassChecks {
             checksOfMethodByParameter.remove(parameterIndex);
          }
       }
+      version.incrementAndGet();
    }
 
    public void removeMethodParameterChecks(final Method method, final int parameterIndex, final Check... checks) throws InvalidConfigurationException {
@@ -784,6 +980,8 @@ public final class ClassChecks {
             checksOfMethodByParameter.remove(parameterIndex);
          }
       }
+      version.incrementAndGet();
+      _unregisterChecks(Arrays.asList(checks));
    }
 
    public void removeMethodPostChecks(final Method method, final PostCheck... checks) {
@@ -801,6 +999,8 @@ public final class ClassChecks {
             checksForMethodsPostExcecution.remove(method);
          }
       }
+      version.incrementAndGet();
+      _unregisterChecks(Arrays.asList(checks));
    }
 
    public void removeMethodPreChecks(final Method method, final PreCheck... checks) {
@@ -818,6 +1018,8 @@ public final class ClassChecks {
             checksForMethodsPreExecution.remove(method);
          }
       }
+      version.incrementAndGet();
+      _unregisterChecks(Arrays.asList(checks));
    }
 
    public void removeMethodReturnValueChecks(final Method method, final Check... checks) {
@@ -837,6 +1039,8 @@ public final class ClassChecks {
             constrainedStaticMethods.remove(method);
          }
       }
+      version.incrementAndGet();
+      _unregisterChecks(Arrays.asList(checks));
    }
 
    public void removeObjectChecks(final Check... checks) {
@@ -845,5 +1049,7 @@ public final class ClassChecks {
             checksForObject.remove(check);
          }
       }
+      version.incrementAndGet();
+      _unregisterChecks(Arrays.asList(checks));
    }
 }
@@ -0,0 +1,111 @@
+/*********************************************************************
+ * Copyright 2005-2020 by Sebastian Thomschke and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *********************************************************************/
+package net.sf.oval.internal;
+
+import java.io.Serializable;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+
+import net.sf.oval.context.OValContext;
+
+/**
+ * Immutable, persistent (cons-list style) path of validation contexts.
+ *
+ * Appending a context creates a new path referencing this path as its parent, i.e. all paths created from the same parent share it
+ * without copying. This allows constraint violations to keep a reference to the path that was current when they were detected.
+ *
+ * @author Sebastian Thomschke
+ */
+public final class ContextPath extends AbstractList<OValContext> implements Serializable {
+   private static final long serialVersionUID = 1L;
+
+   public static final ContextPath EMPTY = new ContextPath(null, null);
+
+   private final ContextPath parent;
+   private final OValContext last;
+   private final int size;
+
+   private ContextPath(final ContextPath parent, final OValContext last) {
+      this.parent = parent;
+      this.last = last;
+      size = parent == null ? 0 : parent.size + 1;
+   }
+
+   /**
+    * @return a new path consisting of this path and the given context
+    */
+   public ContextPath append(final OValContext context) {
+      return new ContextPath(this, context);
+   }
+
+   @Override
+   public OValContext get(final int index) {
+      if (index < 0 || index >= size)
+         throw new IndexOutOfBoundsException("Index: " + index + ", Size: " + size);
+
+      ContextPath path = this;
+      for (int i = size - 1; i > index; i--) {
+         path = path.parent;
+      }
+      return path.last;
+   }
+
+   /**
+    * @return the last context or <code>null</code> if this path is empty
+    */
+   public OValContext getLast() {
+      return last;
+   }
+
+   /**
+    * @return the path without the last context, the empty path returns itself
+    */
+   public ContextPath getParent() {
+      return parent == null ? this : parent;
+   }
+
+   @Override
+   public Iterator<OValContext> iterator() {
+      return Arrays.asList(toArray(new OValContext[size])).iterator();
+   }
+
+   /**
+    * @see Serializable
+    */
+   private Object readResolve() {
+      return size == 0 ? EMPTY : this;
+   }
+
+   @Override
+   public int size() {
+      return size;
+   }
+
+   @Override
+   public Object[] toArray() {
+      return toArray(new OValContext[size]);
+   }
+
+   @Override
+   @SuppressWarnings("unchecked")
+   public <T> T[] toArray(final T[] a) {
+      final T[] result = a.length >= size ? a : Arrays.copyOf(a, size);
+      ContextPath path = this;
+      for (int i = size - 1; i >= 0; i--) {
+         result[i] = (T) path.last;
+         path = path.parent;
+      }
+      if (result.length > size) {
+         result[size] = null;
+      }
+      return result;
+   }
+}
@@ -0,0 +1,339 @@
+/*********************************************************************
+ * Copyright 2005-2020 by Sebastian Thomschke and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *********************************************************************/
+package net.sf.oval.internal;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import net.sf.oval.Check;
+import net.sf.oval.accessor.ValueAccessor;
+import net.sf.oval.guard.ParameterNameResolver;
+import net.sf.oval.guard.PostCheck;
+import net.sf.oval.guard.PreCheck;
+import net.sf.oval.internal.util.ArrayUtils;
+import net.sf.oval.internal.util.ReflectionUtils;
+
+/**
+ * Immutable, pre-compiled representation of the constraints the Guard applies to calls of a single method, so the
+ * {@link ClassChecks} of the declaring class do not need to be queried on every call.
+ *
+ * Whether invariants are checked is not part of the plan, since invariant checking can be toggled globally and per class at any time.
+ *
+ * A plan becomes outdated as soon as the {@link ClassChecks} it was compiled from is modified.
+ *
+ * @author Sebastian Thomschke
+ */
+public final class GuardPlan {
+
+   /**
+    * The distinct names of the variables passed to the expression languages. A name declared more than once, e.g. a parameter named
+    * <code>_this</code> or <code>_args</code>, is bound once to the value of its last declaration.
+    */
+   private static final class VariableLayout {
+      final String[] names;
+
+      /**
+       * number of declared variables including duplicates
+       */
+      final int declaredCount;
+
+      /**
+       * the index in {@link #names} of each declared variable, <code>null</code> if no name is declared more than once
+       */
+      final int[] indexes;
+
+      VariableLayout(final String[] declaredNames) {
+         declaredCount = declaredNames.length;
+
+         final String[] distinctNames = new String[declaredNames.length];
+         final int[] indexes = new int[declaredNames.length];
+         int distinctCount = 0;
+         nextName: for (int i = 0; i < declaredNames.length; i++) {
+            for (int j = 0; j < distinctCount; j++) {
+               if (distinctNames[j].equals(declaredNames[i])) {
+                  indexes[i] = j;
+                  continue nextName;
+               }
+            }
+            indexes[i] = distinctCount;
+            distinctNames[distinctCount++] = declaredNames[i];
+         }
+
+         if (distinctCount == declaredNames.length) {
+            names = declaredNames;
+            this.indexes = null;
+         } else {
+            names = Arrays.copyOf(distinctNames, distinctCount);
+            this.indexes = indexes;
+         }
+      }
+
+      /**
+       * @param declaredValues the values of the declared variables
+       */
+      VariableBindings bind(final Object[] declaredValues) {
+         if (indexes == null)
+            return new VariableBindings(names, declaredValues);
+
+         final Object[] values = new Object[names.length];
+         for (int i = 0; i < declaredValues.length; i++) {
+            values[indexes[i]] = declaredValues[i];
+         }
+         return new VariableBindings(names, values);
+      }
+   }
+
+   private static final PlannedCheck[] NO_CHECKS = {};
+
+   /**
+    * matches <code>old</code> expressions that only read a single property of the guarded object, e.g. <code>_this.value</code>
+    */
+   private static final Pattern THIS_PROPERTY_PATTERN = Pattern.compile("^\\s*_this\\.([A-Za-z_$][A-Za-z0-9_$]*)\\s*$");
+
+   private static final String[] PRE_VARIABLES = {"_this", "_args"};
+   private static final String[] POST_VARIABLES = {"_this", "_returns", "_old", "_args"};
+
+   /**
+    * Only public getters and public fields are read directly, since all supported expression languages resolve these the same way.
+    * Non-public members are left to the expression language, which may not be able to access them or may resolve them differently.
+    *
+    * @return an accessor for the property of the guarded object referenced by the given <code>old</code> expression or
+    *         <code>null</code> if the expression must be evaluated by an expression language
+    */
+   private static ValueAccessor _getOldValueAccessor(final Method method, final String oldExpression) {
+      final Matcher matcher = THIS_PROPERTY_PATTERN.matcher(oldExpression);
+      if (!matcher.matches())
+         return null;
+
+      final String propertyName = matcher.group(1);
+      final Method getter = ReflectionUtils.getGetterRecursive(method.getDeclaringClass(), propertyName);
+      if (getter != null) {
+         if (ReflectionUtils.isPublic(getter) && !ReflectionUtils.isStatic(getter))
+            return ContextCache.getMethodReturnValueContext(getter).getValueAccessor();
+         return null;
+      }
+
+      final Field field = ReflectionUtils.getFieldRecursive(method.getDeclaringClass(), propertyName);
+      if (field != null && ReflectionUtils.isPublic(field) && !ReflectionUtils.isStatic(field))
+         return ContextCache.getFieldContext(field).getValueAccessor();
+      return null;
+   }
+
+   /**
+    * @param cc the class checks of the declaring class of the method
+    */
+   public static GuardPlan compile(final Method method, final ClassChecks cc, final ParameterNameResolver parameterNameResolver) {
+      // record the version before reading the checks so concurrent modifications outdate the plan
+      final int version = cc.getVersion();
+
+      ParameterChecks[] parameterChecks = null;
+      PlannedCheck[][] parameterPlannedChecks = null;
+      final Map<Integer, ParameterChecks> parameterChecksByIndex = cc.checksForMethodParameters.get(method);
+      if (parameterChecksByIndex != null) {
+         final ParameterChecks[] checks = new ParameterChecks[method.getParameterTypes().length];
+         final PlannedCheck[][] plannedChecks = new PlannedCheck[checks.length][];
+         for (int i = 0; i < checks.length; i++) {
+            final ParameterChecks paramChecks = parameterChecksByIndex.get(i);
+            if (paramChecks != null && paramChecks.hasChecks()) {
+               checks[i] = paramChecks;
+               plannedChecks[i] = PlannedCheck.of(paramChecks.checks);
+               parameterChecks = checks;
+               parameterPlannedChecks = plannedChecks;
+            }
+         }
+      }
+
+      final Set<PreCheck> preChecks = cc.checksForMethodsPreExecution.get(method);
+      final Set<PostCheck> postChecks = cc.checksForMethodsPostExcecution.get(method);
+      final Collection<Check> returnValueChecks = cc.checksForMethodReturnValues.get(method);
+
+      return new GuardPlan(method, cc, version, //
+         parameterChecks, parameterPlannedChecks, //
+         preChecks == null ? null : preChecks.toArray(new PreCheck[preChecks.size()]), //
+         postChecks == null ? null : postChecks.toArray(new PostCheck[postChecks.size()]), //
+         returnValueChecks == null || returnValueChecks.isEmpty() ? NO_CHECKS : PlannedCheck.of(returnValueChecks), //
+         parameterChecks == null && preChecks == null && postChecks == null ? null : parameterNameResolver.getParameterNames(method));
+   }
+
+   public final Method method;
+
+   /**
+    * the class checks of the declaring class of the method
+    */
+   public final ClassChecks classChecks;
+
+   /**
+    * <code>true</code> if the method is neither private nor protected, i.e. the invariants of the class are checked if enabled
+    */
+   public final boolean isInvariantsApplicable;
+
+   public final boolean isStatic;
+
+   /**
+    * <code>true</code> if the invariants must be checked before the method call regardless of the class configuration
+    */
+   public final boolean isCheckInvariantsPre;
+
+   /**
+    * <code>true</code> if the invariants must be checked after the method call regardless of the class configuration
+    */
+   public final boolean isCheckInvariantsPost;
+
+   /**
+    * the checks per parameter index, <code>null</code> if no parameter has checks, <code>null</code> elements for parameters without
+    * checks
+    */
+   public final ParameterChecks[] parameterChecks;
+
+   /**
+    * the planned checks of the {@link #parameterChecks}, indexed like them
+    */
+   public final PlannedCheck[][] parameterPlannedChecks;
+
+   /**
+    * <code>null</code> if the method has no <code>@Pre</code> conditions
+    */
+   public final PreCheck[] preChecks;
+
+   /**
+    * <code>null</code> if the method has no <code>@Post</code> conditions
+    */
+   public final PostCheck[] postChecks;
+
+   /**
+    * <code>true</code> if any <code>@Post</code> condition refers to old values that must be calculated before the method call
+    */
+   public final boolean hasPostCheckOldValues;
+
+   /**
+    * the accessors to read the old values of the <code>@Post</code> conditions having an <code>old</code> expression of the form
+    * <code>_this.property</code> referring to a public getter or field, same length as {@link #postChecks}, <code>null</code> if {@link #hasPostCheckOldValues} is
+    * <code>false</code>, <code>null</code> elements for old values to be evaluated by an expression language
+    */
+   public final ValueAccessor[] postCheckOldValueAccessors;
+
+   public final PlannedCheck[] returnValueChecks;
+
+   /**
+    * the resolved parameter names, <code>null</code> if not required by any check
+    */
+   public final String[] parameterNames;
+
+   /**
+    * the variables passed to the expression languages when evaluating <code>@Pre</code> conditions and <code>old</code> expressions of
+    * <code>@Post</code> conditions, see {@link #bindPreVariables(Object, Object[])}
+    */
+   private final VariableLayout preVariables;
+
+   /**
+    * the variables passed to the expression languages when evaluating <code>@Post</code> conditions, see
+    * {@link #bindPostVariables(Object, Object[], Object, Object)}
+    */
+   private final VariableLayout postVariables;
+
+   /**
+    * <code>true</code> if the method declares no constraints at all, i.e. calls only need to be guarded if invariants are checked
+    */
+   public final boolean isUnconstrained;
+
+   private final int version;
+
+   private GuardPlan(final Method method, final ClassChecks classChecks, final int version, final ParameterChecks[] parameterChecks,
+      final PlannedCheck[][] parameterPlannedChecks, final PreCheck[] preChecks, final PostCheck[] postChecks, final PlannedCheck[] returnValueChecks,
+      final String[] parameterNames) {
+      this.method = method;
+      this.classChecks = classChecks;
+      this.version = version;
+      isInvariantsApplicable = !ReflectionUtils.isPrivate(method) && !ReflectionUtils.isProtected(method);
+      isStatic = ReflectionUtils.isStatic(method);
+      isCheckInvariantsPre = classChecks.methodsWithCheckInvariantsPre.contains(method);
+      isCheckInvariantsPost = classChecks.methodsWithCheckInvariantsPost.contains(method);
+      this.parameterChecks = parameterChecks;
+      this.parameterPlannedChecks = parameterPlannedChecks;
+      this.preChecks = preChecks;
+      this.postChecks = postChecks;
+      this.returnValueChecks = returnValueChecks;
+      this.parameterNames = parameterNames;
+
+      boolean hasOldValues = false;
+      ValueAccessor[] oldValueAccessors = null;
+      if (postChecks != null) {
+         for (int i = 0; i < postChecks.length; i++) {
+            final String old = postChecks[i].getOld();
+            if (old != null && old.length() > 0) {
+               if (oldValueAccessors == null) {
+                  oldValueAccessors = new ValueAccessor[postChecks.length];
+               }
+               hasOldValues = true;
+               oldValueAccessors[i] = isStatic ? null : _getOldValueAccessor(method, old);
+            }
+         }
+      }
+      hasPostCheckOldValues = hasOldValues;
+      postCheckOldValueAccessors = oldValueAccessors;
+
+      if (parameterNames == null) {
+         preVariables = null;
+         postVariables = null;
+      } else {
+         preVariables = new VariableLayout(ArrayUtils.concat(PRE_VARIABLES, parameterNames));
+         postVariables = new VariableLayout(ArrayUtils.concat(POST_VARIABLES, parameterNames));
+      }
+
+      isUnconstrained = parameterChecks == null && preChecks == null && postChecks == null && returnValueChecks.length == 0
+         && !isCheckInvariantsPre && !isCheckInvariantsPost;
+   }
+
+   /**
+    * Binds the variables <code>_this</code>, <code>_args</code> and the method parameters by name, parameters take precedence over
+    * variables of the same name.
+    */
+   public VariableBindings bindPreVariables(final Object validatedObject, final Object[] args) {
+      final Object[] values = new Object[preVariables.declaredCount];
+      values[0] = validatedObject;
+      _bindArguments(values, PRE_VARIABLES.length, args);
+      return preVariables.bind(values);
+   }
+
+   /**
+    * Binds the variables <code>_this</code>, <code>_returns</code>, <code>_old</code>, <code>_args</code> and the method parameters by
+    * name.
+    */
+   public VariableBindings bindPostVariables(final Object validatedObject, final Object[] args, final Object returnValue, final Object oldValue) {
+      final Object[] values = new Object[postVariables.declaredCount];
+      values[0] = validatedObject;
+      values[1] = returnValue;
+      values[2] = oldValue;
+      _bindArguments(values, POST_VARIABLES.length, args);
+      return postVariables.bind(values);
+   }
+
+   private void _bindArguments(final Object[] values, final int offset, final Object[] args) {
+      if (parameterNames.length == 0) {
+         values[offset - 1] = ArrayUtils.EMPTY_OBJECT_ARRAY;
+      } else {
+         values[offset - 1] = args;
+         System.arraycopy(args, 0, values, offset, Math.min(args.length, parameterNames.length));
+      }
+   }
+
+   /**
+    * @return <code>false</code> if the class checks this plan was compiled from have been modified since
+    */
+   public boolean isUpToDate() {
+      return classChecks.getVersion() == version;
+   }
+}
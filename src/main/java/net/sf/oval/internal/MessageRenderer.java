@@ -9,6 +9,7 @@
  *********************************************************************/
 package net.sf.oval.internal;
 
+import java.util.Locale;
 import java.util.Map;
 import java.util.Map.Entry;
 
@@ -22,7 +23,18 @@ import net.sf.oval.localization.value.MessageValueFormatter;
  */
 public final class MessageRenderer {
    public static String renderMessage(final String messageKey, final Map<String, ?> messageValues) {
-      String message = Validator.getMessageResolver().getMessage(messageKey);
+      return _renderMessage(Validator.getMessageResolver().getMessage(messageKey), messageKey, messageValues);
+   }
+
+   /**
+    * @since 3.1
+    */
+   public static String renderMessage(final String messageKey, final Map<String, ?> messageValues, final Locale locale) {
+      return _renderMessage(Validator.getMessageResolver().getMessageForLocale(messageKey, locale), messageKey, messageValues);
+   }
+
+   private static String _renderMessage(final String resolvedMessage, final String messageKey, final Map<String, ?> messageValues) {
+      String message = resolvedMessage;
       if (message == null) {
          message = messageKey;
       }
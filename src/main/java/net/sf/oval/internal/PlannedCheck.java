@@ -0,0 +1,212 @@
+/*********************************************************************
+ * Copyright 2005-2020 by Sebastian Thomschke and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *********************************************************************/
+package net.sf.oval.internal;
+
+import java.util.Collection;
+import java.util.List;
+
+import net.sf.oval.AbstractCheck;
+import net.sf.oval.Check;
+import net.sf.oval.ConstraintTarget;
+import net.sf.oval.ContextIndependentCheck;
+import net.sf.oval.PrimitiveValueCheck;
+import net.sf.oval.Validator;
+import net.sf.oval.constraint.AssertConstraintSetCheck;
+import net.sf.oval.constraint.AssertFieldConstraintsCheck;
+import net.sf.oval.constraint.AssertValidCheck;
+import net.sf.oval.constraint.ConstraintsCheck;
+import net.sf.oval.context.OValContext;
+import net.sf.oval.internal.util.ArrayUtils;
+import net.sf.oval.internal.util.StringUtils;
+
+/**
+ * Holds a check together with its pre-resolved <code>appliesTo</code>, <code>target</code> and <code>profiles</code> configuration
+ * so that these do not need to be evaluated on every validation.
+ *
+ * Instances for checks extending {@link AbstractCheck} are cached by the check itself and replaced whenever one of these properties is
+ * modified, see {@link #of(Check)}.
+ *
+ * @author Sebastian Thomschke
+ */
+public final class PlannedCheck {
+
+   /**
+    * @return the cached planned check of an {@link AbstractCheck} or a new instance for other check implementations
+    */
+   public static PlannedCheck of(final Check check) {
+      if (check instanceof AbstractCheck)
+         return ((AbstractCheck) check).getPlannedCheck();
+      return new PlannedCheck(check);
+   }
+
+   /**
+    * @return the planned checks of the given checks in iteration order
+    */
+   public static PlannedCheck[] of(final Collection<? extends Check> checks) {
+      final PlannedCheck[] plannedChecks = new PlannedCheck[checks.size()];
+      int i = 0;
+      for (final Check check : checks) {
+         plannedChecks[i++] = of(check);
+      }
+      return plannedChecks;
+   }
+
+   /**
+    * @return the class declaring the public method with the given signature or <code>null</code> if not found
+    */
+   private static Class<?> _getDeclaringClass(final Class<?> checkClass, final String methodName, final Class<?>... parameterTypes) {
+      try {
+         return checkClass.getMethod(methodName, parameterTypes).getDeclaringClass();
+      } catch (final NoSuchMethodException ex) {
+         return null;
+      }
+   }
+
+   /**
+    * @return <code>true</code> if the given check class inherits {@link AbstractCheck#isActive(Object, Object, Validator)}, i.e. its
+    *         activation only depends on the <code>when</code> expression
+    */
+   private static boolean _isActivatedByWhenOnly(final Class<?> checkClass) {
+      return _getDeclaringClass(checkClass, "isActive", Object.class, Object.class, Validator.class) == AbstractCheck.class;
+   }
+
+   /**
+    * @return <code>true</code> if {@link Check#isSatisfied(Object, Object, OValContext, Validator)} is declared by the class implementing
+    *         {@link ContextIndependentCheck} or one of its super classes, i.e. a sub class that may evaluate the context did not
+    *         override it
+    */
+   private static boolean _isContextIndependent(final Class<?> checkClass) {
+      // the lowest class declaring the marker interface
+      Class<?> markerClass = checkClass;
+      while (markerClass != null && !ArrayUtils.containsSame(markerClass.getInterfaces(), ContextIndependentCheck.class)) {
+         markerClass = markerClass.getSuperclass();
+      }
+      if (markerClass == null)
+         return false;
+
+      final Class<?> declaringClass = _getDeclaringClass(checkClass, "isSatisfied", Object.class, Object.class, OValContext.class,
+         Validator.class);
+      return declaringClass != null && declaringClass.isAssignableFrom(markerClass);
+   }
+
+   /**
+    * @return <code>true</code> if the primitive <code>isSatisfied</code> methods of the given {@link PrimitiveValueCheck} class are
+    *         declared by the same class as {@link Check#isSatisfied(Object, Object, OValContext, Validator)}, i.e. a sub class did not
+    *         override only the latter
+    */
+   private static boolean _isPrimitiveValueCheckConsistent(final Class<?> checkClass) {
+      final Class<?> declaringClass = _getDeclaringClass(checkClass, "isSatisfied", Object.class, Object.class, OValContext.class,
+         Validator.class);
+      return declaringClass != null //
+         && declaringClass == _getDeclaringClass(checkClass, "isSatisfied", Object.class, long.class, OValContext.class, Validator.class) //
+         && declaringClass == _getDeclaringClass(checkClass, "isSatisfied", Object.class, double.class, OValContext.class, Validator.class);
+   }
+
+   public final Check check;
+
+   public final boolean isAppliedToContainer;
+   public final boolean isAppliedToKeys;
+   public final boolean isAppliedToValues;
+   public final boolean isAppliedRecursive;
+
+   /**
+    * if <code>true</code> container elements can be validated without creating an element context, i.e. the check is a
+    * {@link ContextIndependentCheck} whose <code>isSatisfied</code> method is not overridden by a sub class of the class implementing the
+    * marker interface
+    */
+   public final boolean isContextIndependent;
+
+   /**
+    * if <code>true</code> the elements of primitive arrays can be validated without boxing them, i.e. the check is a
+    * {@link PrimitiveValueCheck} that does not override {@link AbstractCheck#isActive(Object, Object, Validator)} and whose
+    * <code>isSatisfied</code> methods are all declared by the same class. Checks having a <code>when</code> expression still need to be
+    * validated with the boxed values.
+    */
+   public final boolean isPrimitiveValueCheck;
+
+   /**
+    * if <code>false</code> the check only delegates to other checks or traverses the object graph and is never skipped because of its
+    * severity while the validator is shedding load, see {@link net.sf.oval.LoadShedding}
+    */
+   public final boolean isSheddable;
+
+   /**
+    * id of the object graph navigator to use for the target expression, <code>null</code> if the check has no target
+    */
+   public final String targetOGN;
+
+   /**
+    * path of the target expression, <code>null</code> if the check has no target
+    */
+   public final String targetPath;
+
+   /**
+    * bitmask of the profiles of the check, see {@link ProfileRegistry}
+    */
+   public final long profilesMask;
+
+   public PlannedCheck(final Check check) {
+      this.check = check;
+      isContextIndependent = check instanceof ContextIndependentCheck && _isContextIndependent(check.getClass());
+      isPrimitiveValueCheck = check instanceof PrimitiveValueCheck && _isActivatedByWhenOnly(check.getClass()) && _isPrimitiveValueCheckConsistent(
+         check.getClass());
+      isSheddable = !(check instanceof AssertValidCheck || check instanceof ConstraintsCheck || check instanceof AssertConstraintSetCheck
+         || check instanceof AssertFieldConstraintsCheck);
+
+      // constraints checks are not subject to profiles, their nested checks are evaluated individually
+      profilesMask = check instanceof ConstraintsCheck ? ProfileRegistry.ALL : ProfileRegistry.getMask(check.getProfiles());
+
+      final ConstraintTarget[] appliesTo = check.getAppliesTo();
+      if (appliesTo == null) {
+         isAppliedToContainer = true;
+         isAppliedToKeys = false;
+         isAppliedToValues = false;
+         isAppliedRecursive = false;
+      } else {
+         isAppliedToContainer = ArrayUtils.containsSame(appliesTo, ConstraintTarget.CONTAINER);
+         isAppliedToKeys = ArrayUtils.containsSame(appliesTo, ConstraintTarget.KEYS);
+         isAppliedToValues = ArrayUtils.containsSame(appliesTo, ConstraintTarget.VALUES);
+         isAppliedRecursive = ArrayUtils.containsSame(appliesTo, ConstraintTarget.RECURSIVE);
+      }
+
+      final String target = check.getTarget() == null ? null : check.getTarget().trim();
+      if (target == null || target.length() == 0) {
+         targetOGN = null;
+         targetPath = null;
+      } else {
+         final List<String> chunks = StringUtils.split(target, ':', 2);
+         if (chunks.size() == 1) {
+            targetOGN = "";
+            targetPath = chunks.get(0);
+         } else {
+            targetOGN = chunks.get(0);
+            targetPath = chunks.get(1);
+         }
+      }
+   }
+
+   /**
+    * @param enabledProfilesMask bitmask of the enabled profiles
+    * @return <code>false</code> if the check is definitely disabled, <code>true</code> if it is enabled or if the profile names must be
+    *         compared because the check has profiles without a dedicated bit
+    */
+   public boolean isPossiblyEnabled(final long enabledProfilesMask) {
+      return (profilesMask & (enabledProfilesMask | ProfileRegistry.OVERFLOW)) != 0;
+   }
+
+   public boolean hasTarget() {
+      return targetPath != null;
+   }
+
+   @Override
+   public String toString() {
+      return check.toString();
+   }
+}
@@ -0,0 +1,77 @@
+/*********************************************************************
+ * Copyright 2005-2020 by Sebastian Thomschke and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *********************************************************************/
+package net.sf.oval.internal;
+
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import net.sf.oval.Validator;
+
+/**
+ * Assigns an integer id to each profile so that profile sets can be represented and compared as bitmasks.
+ *
+ * The ids 0 to 62 are mapped to the corresponding bits of a <code>long</code> mask. All further profiles are not registered and share
+ * the {@link #OVERFLOW} bit, masks containing it must be evaluated based on the profile names.
+ *
+ * @author Sebastian Thomschke
+ */
+public final class ProfileRegistry {
+
+   public static final String DEFAULT_PROFILE = "default";
+
+   /**
+    * mask matching all profiles
+    */
+   public static final long ALL = -1L;
+
+   /**
+    * bit shared by all profiles that do not have a dedicated bit
+    */
+   public static final long OVERFLOW = Long.MIN_VALUE;
+
+   private static final int MAX_DEDICATED_BITS = 63;
+
+   private static final ConcurrentMap<String, Integer> IDS = Validator.getCollectionFactory().createConcurrentMap();
+   private static final AtomicInteger NEXT_ID = new AtomicInteger();
+
+   /**
+    * @return the bit representing the given profile in a profile mask, either a dedicated bit or {@link #OVERFLOW}
+    */
+   public static long getBit(final String profile) {
+      Integer id = IDS.get(profile);
+      if (id == null) {
+         // once all dedicated bits are assigned no further profiles are registered, so dynamic profile names do not accumulate
+         id = IDS.computeIfAbsent(profile, p -> {
+            final int nextId = NEXT_ID.getAndIncrement();
+            return nextId < MAX_DEDICATED_BITS ? nextId : null;
+         });
+         if (id == null)
+            return OVERFLOW;
+      }
+      return 1L << id;
+   }
+
+   /**
+    * @param profiles profiles of a check, <code>null</code> or an empty array are treated as the {@link #DEFAULT_PROFILE}
+    */
+   public static long getMask(final String[] profiles) {
+      if (profiles == null || profiles.length == 0)
+         return getBit(DEFAULT_PROFILE);
+
+      long mask = 0;
+      for (final String profile : profiles) {
+         mask |= getBit(profile);
+      }
+      return mask;
+   }
+
+   private ProfileRegistry() {
+   }
+}
@@ -0,0 +1,211 @@
+/*********************************************************************
+ * Copyright 2005-2020 by Sebastian Thomschke and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *********************************************************************/
+package net.sf.oval.internal;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+
+import net.sf.oval.Check;
+import net.sf.oval.Validator;
+import net.sf.oval.context.OValContext;
+
+/**
+ * Immutable, pre-compiled representation of all object invariants (field, getter and object level checks)
+ * declared for a class and all its super classes.
+ *
+ * The entries are ordered the same way the Validator used to traverse the {@link ClassChecks} of the class hierarchy,
+ * i.e. starting with the given class up to the root class and for each class first the fields, then the getters and
+ * then the object level checks.
+ *
+ * A plan becomes outdated as soon as any of the {@link ClassChecks} it was compiled from is modified, including modifications of the
+ * <code>appliesTo</code>, <code>profiles</code> or <code>target</code> configuration of the checks held by them.
+ *
+ * For each combination of enabled profiles a filtered copy of the entries is cached that only contains the possibly enabled checks,
+ * so checks of disabled profiles are not visited at all during validation.
+ *
+ * @author Sebastian Thomschke
+ */
+public final class ValidationPlan {
+
+   /**
+    * A single validated element (field, getter or the object itself) and the checks to apply to its value.
+    */
+   public static final class Entry {
+
+      /**
+       * {@link net.sf.oval.context.FieldContext}, {@link net.sf.oval.context.MethodReturnValueContext} or {@link net.sf.oval.context.ClassContext}
+       */
+      public final OValContext context;
+
+      public final PlannedCheck[] checks;
+
+      Entry(final OValContext context, final Collection<Check> checks) {
+         this.context = context;
+         this.checks = PlannedCheck.of(checks);
+      }
+
+      private Entry(final OValContext context, final PlannedCheck[] checks) {
+         this.context = context;
+         this.checks = checks;
+      }
+
+      /**
+       * @return this entry if all checks are possibly enabled, a copy containing only the possibly enabled checks, or <code>null</code> if
+       *         none is enabled
+       */
+      Entry filter(final long enabledProfilesMask) {
+         int enabledCount = 0;
+         for (final PlannedCheck check : checks) {
+            if (check.isPossiblyEnabled(enabledProfilesMask)) {
+               enabledCount++;
+            }
+         }
+         if (enabledCount == checks.length)
+            return this;
+         if (enabledCount == 0)
+            return null;
+
+         final PlannedCheck[] enabledChecks = new PlannedCheck[enabledCount];
+         int i = 0;
+         for (final PlannedCheck check : checks) {
+            if (check.isPossiblyEnabled(enabledProfilesMask)) {
+               enabledChecks[i++] = check;
+            }
+         }
+         return new Entry(context, enabledChecks);
+      }
+   }
+
+   private static final class FilteredEntries {
+      final long enabledProfilesMask;
+      final Entry[] entries;
+
+      FilteredEntries(final long enabledProfilesMask, final Entry[] entries) {
+         this.enabledProfilesMask = enabledProfilesMask;
+         this.entries = entries;
+      }
+   }
+
+   private static final Entry[] NO_ENTRIES = {};
+   private static final FilteredEntries[] NO_FILTERED_ENTRIES = {};
+
+   /**
+    * maximum number of distinct profile combinations for which filtered entries are cached per plan
+    */
+   private static final int MAX_FILTERED_ENTRIES = 16;
+
+   /**
+    * @param classChecksHierarchy the class checks of the class to validate followed by the class checks of its super classes
+    */
+   public static ValidationPlan compile(final Class<?> clazz, final List<ClassChecks> classChecksHierarchy) {
+      final int[] versions = new int[classChecksHierarchy.size()];
+      final List<Entry> entries = Validator.getCollectionFactory().createList();
+
+      for (int i = 0, l = classChecksHierarchy.size(); i < l; i++) {
+         final ClassChecks cc = classChecksHierarchy.get(i);
+
+         // record the version before reading the checks so concurrent modifications outdate the plan
+         versions[i] = cc.getVersion();
+
+         for (final Field field : cc.constrainedFields) {
+            final Collection<Check> checks = cc.checksForFields.get(field);
+            if (checks != null && !checks.isEmpty()) {
+               entries.add(new Entry(ContextCache.getFieldContext(field), checks));
+            }
+         }
+
+         for (final Method getter : cc.constrainedMethods) {
+            final Collection<Check> checks = cc.checksForMethodReturnValues.get(getter);
+            if (checks != null && !checks.isEmpty()) {
+               entries.add(new Entry(ContextCache.getMethodReturnValueContext(getter), checks));
+            }
+         }
+
+         if (!cc.checksForObject.isEmpty()) {
+            entries.add(new Entry(ContextCache.getClassContext(cc.clazz), cc.checksForObject));
+         }
+      }
+
+      return new ValidationPlan(clazz, entries.isEmpty() ? NO_ENTRIES : entries.toArray(new Entry[entries.size()]), //
+         classChecksHierarchy.toArray(new ClassChecks[classChecksHierarchy.size()]), versions);
+   }
+
+   public final Class<?> clazz;
+
+   public final Entry[] entries;
+
+   private final ClassChecks[] sources;
+   private final int[] sourceVersions;
+
+   /**
+    * copy-on-write array of the filtered entries per enabled profiles mask
+    */
+   private volatile FilteredEntries[] filteredEntries = NO_FILTERED_ENTRIES;
+
+   private ValidationPlan(final Class<?> clazz, final Entry[] entries, final ClassChecks[] sources, final int[] sourceVersions) {
+      this.clazz = clazz;
+      this.entries = entries;
+      this.sources = sources;
+      this.sourceVersions = sourceVersions;
+   }
+
+   /**
+    * @param enabledProfilesMask bitmask of the enabled profiles, see {@link ProfileRegistry}
+    * @return the entries with the checks that are possibly enabled for the given profiles
+    */
+   public Entry[] getEntries(final long enabledProfilesMask) {
+      if (enabledProfilesMask == ProfileRegistry.ALL || entries.length == 0)
+         return entries;
+
+      final FilteredEntries[] cached = filteredEntries;
+      for (final FilteredEntries candidate : cached) {
+         if (candidate.enabledProfilesMask == enabledProfilesMask)
+            return candidate.entries;
+      }
+
+      final List<Entry> filtered = Validator.getCollectionFactory().createList(entries.length);
+      for (final Entry entry : entries) {
+         final Entry filteredEntry = entry.filter(enabledProfilesMask);
+         if (filteredEntry != null) {
+            filtered.add(filteredEntry);
+         }
+      }
+      final Entry[] result = filtered.isEmpty() ? NO_ENTRIES : filtered.toArray(new Entry[filtered.size()]);
+
+      if (cached.length < MAX_FILTERED_ENTRIES) {
+         // concurrent updates may lose an entry which is then simply re-computed on the next call
+         final FilteredEntries[] newCache = Arrays.copyOf(cached, cached.length + 1);
+         newCache[cached.length] = new FilteredEntries(enabledProfilesMask, result);
+         filteredEntries = newCache;
+      }
+      return result;
+   }
+
+   /**
+    * @return <code>true</code> if neither the class nor any of its super classes declare field, getter or object level checks
+    */
+   public boolean isEmpty() {
+      return entries.length == 0;
+   }
+
+   /**
+    * @return <code>false</code> if any of the class checks this plan was compiled from has been modified since
+    */
+   public boolean isUpToDate() {
+      for (int i = 0; i < sources.length; i++) {
+         if (sources[i].getVersion() != sourceVersions[i])
+            return false;
+      }
+      return true;
+   }
+}
@@ -0,0 +1,118 @@
+/*********************************************************************
+ * Copyright 2005-2020 by Sebastian Thomschke and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *********************************************************************/
+package net.sf.oval.internal;
+
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Set;
+
+/**
+ * Map of the variables passed to an expression language, backed by a pre-compiled layout of variable names shared by all calls of a
+ * method and an array holding the values of a single call.
+ *
+ * Variables not part of the layout, e.g. assigned by an expression, are kept in an overflow map created on demand.
+ *
+ * @author Sebastian Thomschke
+ */
+public final class VariableBindings extends AbstractMap<String, Object> {
+
+   private final class EntryIterator implements Iterator<Entry<String, Object>> {
+      private int index;
+      private final Iterator<Entry<String, Object>> overflowIterator = overflow == null ? null : overflow.entrySet().iterator();
+
+      @Override
+      public boolean hasNext() {
+         return index < names.length || overflowIterator != null && overflowIterator.hasNext();
+      }
+
+      @Override
+      public Entry<String, Object> next() {
+         if (index < names.length) {
+            final int i = index++;
+            return new SimpleImmutableEntry<>(names[i], values[i]);
+         }
+         if (overflowIterator == null)
+            throw new NoSuchElementException();
+         return overflowIterator.next();
+      }
+   }
+
+   private final String[] names;
+   private final Object[] values;
+   private Map<String, Object> overflow;
+
+   /**
+    * @param names the distinct variable names
+    * @param values the variable values, same length as <code>names</code>
+    */
+   public VariableBindings(final String[] names, final Object[] values) {
+      this.names = names;
+      this.values = values;
+   }
+
+   private int _indexOf(final Object key) {
+      for (int i = 0; i < names.length; i++) {
+         if (names[i].equals(key))
+            return i;
+      }
+      return -1;
+   }
+
+   @Override
+   public boolean containsKey(final Object key) {
+      return _indexOf(key) > -1 || overflow != null && overflow.containsKey(key);
+   }
+
+   @Override
+   public Set<Entry<String, Object>> entrySet() {
+      return new AbstractSet<Entry<String, Object>>() {
+         @Override
+         public Iterator<Entry<String, Object>> iterator() {
+            return new EntryIterator();
+         }
+
+         @Override
+         public int size() {
+            return VariableBindings.this.size();
+         }
+      };
+   }
+
+   @Override
+   public Object get(final Object key) {
+      final int index = _indexOf(key);
+      if (index > -1)
+         return values[index];
+      return overflow == null ? null : overflow.get(key);
+   }
+
+   @Override
+   public Object put(final String key, final Object value) {
+      final int index = _indexOf(key);
+      if (index > -1) {
+         final Object oldValue = values[index];
+         values[index] = value;
+         return oldValue;
+      }
+      if (overflow == null) {
+         overflow = new HashMap<>(4);
+      }
+      return overflow.put(key, value);
+   }
+
+   @Override
+   public int size() {
+      return names.length + (overflow == null ? 0 : overflow.size());
+   }
+}
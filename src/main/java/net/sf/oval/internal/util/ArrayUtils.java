@@ -9,6 +9,7 @@
  *********************************************************************/
 package net.sf.oval.internal.util;
 
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Set;
@@ -20,6 +21,7 @@ import net.sf.oval.Validator;
  * @author Sebastian Thomschke
  */
 public final class ArrayUtils {
+   public static final Class<?>[] EMPTY_CLASS_ARRAY = {};
    public static final Object[] EMPTY_OBJECT_ARRAY = {};
 
    public static List<?> asList(final Object array) {
@@ -112,6 +114,15 @@ public final class ArrayUtils {
       return result;
    }
 
+   /**
+    * @return a new array containing the elements of both arrays
+    */
+   public static <T> T[] concat(final T[] array1, final T[] array2) {
+      final T[] result = Arrays.copyOf(array1, array1.length + array2.length);
+      System.arraycopy(array2, 0, result, array1.length, array2.length);
+      return result;
+   }
+
    public static <T> boolean containsEqual(final T[] theArray, final T theItem) {
       for (final T t : theArray) {
          if (t == theItem)
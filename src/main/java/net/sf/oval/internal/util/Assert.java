@@ -23,6 +23,16 @@ public final class Assert {
       return ex;
    }
 
+   public static void argumentMinValue(final String name, final int value, final int min) throws IllegalArgumentException {
+      if (value < min)
+         throw _adjustStacktrace(new IllegalArgumentException("[" + name + "] must not be smaller than " + min));
+   }
+
+   public static void argumentMinValue(final String name, final long value, final long min) throws IllegalArgumentException {
+      if (value < min)
+         throw _adjustStacktrace(new IllegalArgumentException("[" + name + "] must not be smaller than " + min));
+   }
+
    public static void argumentNotBlank(final String name, final String value) throws IllegalArgumentException {
       if (value == null)
          throw _adjustStacktrace(new IllegalArgumentException("[" + name + "] must not be null"));
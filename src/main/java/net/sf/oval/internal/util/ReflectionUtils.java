@@ -367,6 +367,24 @@ public final class ReflectionUtils {
       return getSetterRecursive(superclazz, propertyName);
    }
 
+   /**
+    * @return the classes of the type arguments of the given type, an entry is <code>null</code> if the type argument is not a class,
+    *         an empty array if the type is not parameterized
+    */
+   public static Class<?>[] getTypeArguments(final Type genericType) {
+      if (genericType instanceof ParameterizedType) {
+         final Type[] typeArgs = ((ParameterizedType) genericType).getActualTypeArguments();
+         final Class<?>[] result = new Class<?>[typeArgs.length];
+         for (int i = 0; i < typeArgs.length; i++) {
+            if (typeArgs[i] instanceof Class) {
+               result[i] = (Class<?>) typeArgs[i];
+            }
+         }
+         return result;
+      }
+      return ArrayUtils.EMPTY_CLASS_ARRAY;
+   }
+
    public static Class<?> getTypeArgument(final Field field, final int typeIndex) {
       final Type genericType = field.getGenericType();
       if (genericType instanceof ParameterizedType) {
@@ -495,7 +513,7 @@ public final class ReflectionUtils {
       return (member.getModifiers() & Modifier.PROTECTED) != 0;
    }
 
-   private static boolean isPublic(final Member member) {
+   public static boolean isPublic(final Member member) {
       return (member.getModifiers() & Modifier.PUBLIC) != 0;
    }
 
@@ -9,6 +9,8 @@
  *********************************************************************/
 package net.sf.oval.localization.message;
 
+import java.util.Locale;
+
 /**
  * @author Sebastian Thomschke
  */
@@ -18,4 +20,16 @@ public interface MessageResolver {
     * @return null if not found
     */
    String getMessage(String key);
+
+   /**
+    * Resolves the message for the given locale instead of the locale provided by the current {@link net.sf.oval.localization.locale.LocaleProvider}.
+    *
+    * The default implementation ignores the given locale.
+    *
+    * @return null if not found
+    * @since 3.1
+    */
+   default String getMessageForLocale(final String key, final Locale locale) {
+      return getMessage(key);
+   }
 }
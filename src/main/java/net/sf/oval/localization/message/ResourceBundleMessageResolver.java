@@ -115,13 +115,17 @@ public class ResourceBundleMessageResolver implements MessageResolver {
 
    @Override
    public String getMessage(final String key) {
-      final Locale currentLocale = Validator.getLocaleProvider().getLocale();
-      final String msg = getMessage(key, currentLocale);
+      return getMessageForLocale(key, Validator.getLocaleProvider().getLocale());
+   }
+
+   @Override
+   public String getMessageForLocale(final String key, final Locale locale) {
+      final String msg = getMessage(key, locale);
       if (msg != null)
          return msg;
 
       final Locale defaultLocale = Locale.getDefault();
-      if (!currentLocale.equals(defaultLocale))
+      if (!locale.equals(defaultLocale))
          return getMessage(key, defaultLocale);
 
       return null;
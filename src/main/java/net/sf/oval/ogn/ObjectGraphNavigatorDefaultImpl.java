@@ -14,6 +14,7 @@ import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 
 import net.sf.oval.exception.InvalidConfigurationException;
+import net.sf.oval.internal.ContextCache;
 import net.sf.oval.internal.util.Assert;
 import net.sf.oval.internal.util.ReflectionUtils;
 import net.sf.oval.internal.util.StringUtils;
@@ -47,10 +48,10 @@ public class ObjectGraphNavigatorDefaultImpl implements ObjectGraphNavigator {
                throw new InvalidConfigurationException("Invalid object navigation path from root object class [" + root.getClass().getName() + "] path: "
                   + path);
             targetAccessor = getter;
-            target = ReflectionUtils.invokeMethod(getter, parent);
+            target = ContextCache.getMethodReturnValueContext(getter).getValueAccessor().getValue(parent);
          } else {
             targetAccessor = field;
-            target = ReflectionUtils.getFieldValue(field, parent);
+            target = ContextCache.getFieldContext(field).getValueAccessor().getValue(parent);
          }
       }
       return new ObjectGraphNavigationResult(root, path, parent, targetAccessor, target);
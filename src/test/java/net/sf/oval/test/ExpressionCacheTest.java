@@ -0,0 +1,111 @@
+/*********************************************************************
+ * Copyright 2005-2020 by Sebastian Thomschke and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *********************************************************************/
+package net.sf.oval.test;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import net.sf.oval.expression.ExpressionCache;
+import net.sf.oval.expression.ExpressionCache.EvictionPolicy;
+
+/**
+ * @author Sebastian Thomschke
+ */
+public class ExpressionCacheTest {
+
+   @Test
+   public void testEvictionListener() {
+      final List<String> removed = new ArrayList<>();
+      final ExpressionCache<String> cache = new ExpressionCache<>(String::toUpperCase, removed::add);
+      cache.setMaxSize(1);
+
+      cache.get("a");
+      cache.get("b"); // evicts a
+      assertThat(removed).containsExactly("A");
+
+      cache.pin("c"); // evicts b
+      cache.clear();
+      assertThat(removed).containsExactly("A", "B");
+      assertThat(cache.contains("c")).isTrue();
+   }
+
+   @Test
+   public void testLeastFrequentlyUsed() {
+      final ExpressionCache<String> cache = new ExpressionCache<>(String::toUpperCase);
+      cache.setEvictionPolicy(EvictionPolicy.LEAST_FREQUENTLY_USED);
+      cache.setMaxSize(2);
+
+      cache.get("a");
+      cache.get("a");
+      cache.get("b");
+      cache.get("c"); // evicts b
+      assertThat(cache.contains("a")).isTrue();
+      assertThat(cache.contains("b")).isFalse();
+      assertThat(cache.contains("c")).isTrue();
+      assertThat(cache.getEvictionCount()).isEqualTo(1);
+   }
+
+   @Test
+   public void testLeastRecentlyUsed() {
+      final AtomicInteger compilations = new AtomicInteger();
+      final ExpressionCache<String> cache = new ExpressionCache<>(expr -> {
+         compilations.incrementAndGet();
+         return expr.toUpperCase();
+      });
+      assertThat(cache.getEvictionPolicy()).isEqualTo(EvictionPolicy.LEAST_RECENTLY_USED);
+      cache.setMaxSize(2);
+
+      assertThat(cache.get("a")).isEqualTo("A");
+      assertThat(cache.get("b")).isEqualTo("B");
+      assertThat(cache.get("a")).isEqualTo("A");
+      assertThat(cache.get("c")).isEqualTo("C"); // evicts b
+      assertThat(cache.contains("a")).isTrue();
+      assertThat(cache.contains("b")).isFalse();
+      assertThat(cache.contains("c")).isTrue();
+
+      assertThat(compilations.get()).isEqualTo(3);
+      assertThat(cache.getHitCount()).isEqualTo(1);
+      assertThat(cache.getMissCount()).isEqualTo(3);
+      assertThat(cache.getEvictionCount()).isEqualTo(1);
+
+      // shrinking the cache evicts immediately
+      cache.setMaxSize(1);
+      assertThat(cache.size()).isEqualTo(1);
+      assertThat(cache.contains("c")).isTrue();
+   }
+
+   @Test
+   public void testPinning() {
+      final ExpressionCache<String> cache = new ExpressionCache<>(String::toUpperCase);
+      cache.setMaxSize(1);
+
+      cache.pin("a");
+      assertThat(cache.isPinned("a")).isTrue();
+      cache.get("b");
+      cache.get("c");
+      assertThat(cache.contains("a")).isTrue();
+      assertThat(cache.contains("b")).isFalse();
+      assertThat(cache.size()).isEqualTo(2);
+
+      cache.clear();
+      assertThat(cache.size()).isEqualTo(1);
+      assertThat(cache.contains("a")).isTrue();
+
+      cache.unpin("a");
+      cache.get("d");
+      assertThat(cache.contains("a")).isFalse();
+      assertThat(cache.size()).isEqualTo(1);
+   }
+}
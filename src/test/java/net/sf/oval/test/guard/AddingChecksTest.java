@@ -25,6 +25,7 @@ import net.sf.oval.context.MethodParameterContext;
 import net.sf.oval.exception.ConstraintsViolatedException;
 import net.sf.oval.guard.Guard;
 import net.sf.oval.guard.Guarded;
+import net.sf.oval.guard.PreCheck;
 
 /**
  * @author Sebastian Thomschke
@@ -56,6 +57,15 @@ public class AddingChecksTest {
       }
    }
 
+   @Guarded
+   protected static class TestEntity4 {
+      protected String name;
+
+      public void setName(final String name) {
+         this.name = name;
+      }
+   }
+
    @Guarded
    protected static class TestEntity3 {
       protected String name;
@@ -179,4 +189,43 @@ public class AddingChecksTest {
          entity.setName(null);
       }
    }
+
+   /**
+    * programmatically add a pre condition to a method that has already been called without constraints
+    */
+   @Test
+   public void testAddPreConditionToMethod() throws Exception {
+      final Guard guard = new Guard();
+      TestGuardAspect.aspectOf().setGuard(guard);
+
+      final Method setter = TestEntity4.class.getDeclaredMethod("setName", String.class);
+      final PreCheck preCheck = new PreCheck();
+      preCheck.setLang("js");
+      preCheck.setExpr("name != null");
+      preCheck.setMessage("NAME_REQUIRED");
+
+      final TestEntity4 entity = new TestEntity4();
+
+      // testing without constraint
+      entity.setName(null);
+
+      // adding a constraint
+      guard.addChecks(setter, preCheck);
+      try {
+         entity.setName(null);
+         failBecauseExceptionWasNotThrown(ConstraintsViolatedException.class);
+      } catch (final ConstraintsViolatedException e) {
+         assertThat(e.getConstraintViolations()[0].getMessage()).isEqualTo("NAME_REQUIRED");
+      }
+      entity.setName("foo");
+
+      // removing the constraint
+      guard.removeChecks(setter, preCheck);
+      entity.setName(null);
+
+      // re-reading the configuration
+      guard.addChecks(setter, preCheck);
+      guard.reconfigureChecks();
+      entity.setName(null);
+   }
 }
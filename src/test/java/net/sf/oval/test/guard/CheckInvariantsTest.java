@@ -11,12 +11,15 @@ package net.sf.oval.test.guard;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.lang.reflect.Method;
+
 import org.junit.Test;
 
 import net.sf.oval.ConstraintViolation;
 import net.sf.oval.constraint.NotNull;
 import net.sf.oval.context.FieldContext;
 import net.sf.oval.exception.ConstraintsViolatedException;
+import net.sf.oval.guard.Guard;
 import net.sf.oval.guard.Guarded;
 import net.sf.oval.guard.PostValidateThis;
 
@@ -56,6 +59,36 @@ public class CheckInvariantsTest {
       }
    }
 
+   @Guarded(checkInvariants = false)
+   public static class Person {
+      @NotNull(message = "NOT_NULL")
+      private String name = "";
+
+      public void setName(final String name) {
+         this.name = name;
+      }
+   }
+
+   protected static class TestGuard extends Guard {
+      void addMethodWithCheckInvariantsPost(final Method method) {
+         getClassChecks(method.getDeclaringClass()).addMethodWithCheckInvariantsPost(method);
+      }
+   }
+
+   @Test
+   public void testCheckInvariantsAddedAfterFirstCall() throws Exception {
+      final TestGuard guard = new TestGuard();
+      TestGuardAspect.aspectOf().setGuard(guard);
+
+      final Person person = new Person();
+      person.setName(null);
+      person.setName("Doe");
+
+      // the guard plan compiled by the first call is outdated
+      guard.addMethodWithCheckInvariantsPost(Person.class.getMethod("setName", String.class));
+      assertThatThrownBy(() -> person.setName(null)).isInstanceOf(ConstraintsViolatedException.class).hasMessage("NOT_NULL");
+   }
+
    @Test
    @SuppressWarnings("unused")
    public void testCheckInvariants() {
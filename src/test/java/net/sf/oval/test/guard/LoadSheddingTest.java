@@ -0,0 +1,66 @@
+/*********************************************************************
+ * Copyright 2005-2020 by Sebastian Thomschke and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *********************************************************************/
+package net.sf.oval.test.guard;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+import net.sf.oval.LoadShedding;
+import net.sf.oval.exception.ConstraintsViolatedException;
+import net.sf.oval.guard.Guard;
+import net.sf.oval.guard.Guarded;
+import net.sf.oval.guard.Post;
+import net.sf.oval.guard.Pre;
+
+/**
+ * @author Sebastian Thomschke
+ */
+public class LoadSheddingTest {
+
+   @Guarded
+   protected static class Counter {
+      protected int value;
+
+      @Pre(expr = "_this.value > 100", lang = "groovy", message = "PRE", severity = 1)
+      @Post(expr = "_this.value > 100", lang = "groovy", message = "POST", severity = 10)
+      public void increment() {
+         value++;
+      }
+
+      @Post(expr = "_this.value > 100", lang = "groovy", message = "POST_LOW", severity = 1)
+      public void decrement() {
+         value--;
+      }
+   }
+
+   @Test
+   public void testPreAndPostConditionsBelowMinSeverityAreSkipped() {
+      final Guard guard = new Guard();
+      TestGuardAspect.aspectOf().setGuard(guard);
+
+      final AtomicBoolean underPressure = new AtomicBoolean();
+      guard.setLoadShedding(LoadShedding.onSignal(underPressure::get, 5));
+
+      final Counter counter = new Counter();
+      assertThatThrownBy(counter::increment).isInstanceOf(ConstraintsViolatedException.class).hasMessage("PRE");
+      assertThatThrownBy(counter::decrement).isInstanceOf(ConstraintsViolatedException.class).hasMessage("POST_LOW");
+      assertThat(counter.value).isEqualTo(-1);
+
+      // only the post condition with a high severity is validated while shedding load
+      underPressure.set(true);
+      assertThatThrownBy(counter::increment).isInstanceOf(ConstraintsViolatedException.class).hasMessage("POST");
+      assertThat(counter.value).isZero();
+      counter.decrement();
+      assertThat(counter.value).isEqualTo(-1);
+   }
+}
@@ -11,11 +11,17 @@ package net.sf.oval.test.guard;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
 import org.junit.Test;
 
 import net.sf.oval.constraint.Assert;
 import net.sf.oval.constraint.Length;
 import net.sf.oval.exception.ConstraintsViolatedException;
+import net.sf.oval.guard.ConstraintsViolatedListener;
 import net.sf.oval.guard.Guard;
 import net.sf.oval.guard.Guarded;
 
@@ -66,4 +72,41 @@ public class MethodReturnValueConstraintsValidationTest {
          assertThat(e.getConstraintViolations()[0].getMessage()).isEqualTo("LENGTH");
       }
    }
+
+   @Test
+   public void testAsyncMethodReturnValueConstraintValidation() throws Exception {
+      final Guard guard = new Guard();
+
+      TestGuardAspect.aspectOf().setGuard(guard);
+
+      final ExecutorService executor = Executors.newSingleThreadExecutor();
+      try {
+         guard.setPostConditionsExecutor(executor);
+         assertThat(guard.getPostConditionsExecutor()).isSameAs(executor);
+
+         final TestEntity t = new TestEntity();
+         final CompletableFuture<ConstraintsViolatedException> violation = new CompletableFuture<>();
+         final ConstraintsViolatedListener listener = violation::complete;
+         guard.addListener(listener, t);
+
+         t.name = "testtest";
+
+         // the violation is not thrown but reported to the listeners
+         assertThat(t.getName()).isEqualTo("testtest");
+
+         final ConstraintsViolatedException ex = violation.get(10, TimeUnit.SECONDS);
+         assertThat(ex.getConstraintViolations()).hasSize(1);
+         assertThat(ex.getConstraintViolations()[0].getMessage()).isEqualTo("LENGTH");
+
+         guard.setPostConditionsExecutor(null);
+         try {
+            t.getName();
+            failBecauseExceptionWasNotThrown(ConstraintsViolatedException.class);
+         } catch (final ConstraintsViolatedException e) {
+            assertThat(e.getConstraintViolations()[0].getMessage()).isEqualTo("LENGTH");
+         }
+      } finally {
+         executor.shutdown();
+      }
+   }
 }
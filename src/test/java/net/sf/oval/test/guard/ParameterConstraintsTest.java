@@ -11,6 +11,7 @@ package net.sf.oval.test.guard;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.lang.reflect.Method;
 import java.util.List;
 
 import org.junit.Test;
@@ -142,4 +143,17 @@ public class ParameterConstraintsTest {
 
       guard.removeListener(va, entity);
    }
+
+   @Test
+   public void testIsValidMethodParameters() throws Exception {
+      final Guard guard = new Guard();
+      TestGuardAspect.aspectOf().setGuard(guard);
+
+      final TestEntity entity = new TestEntity("");
+      final Method setName = TestEntity.class.getMethod("setName", String.class);
+
+      assertThat(guard.isValidMethodParameters(entity, setName, new Object[] {null})).isFalse();
+      assertThat(guard.isValidMethodParameters(entity, setName, new Object[] {"12345678"})).isFalse();
+      assertThat(guard.isValidMethodParameters(entity, setName, new Object[] {"1234"})).isTrue();
+   }
 }
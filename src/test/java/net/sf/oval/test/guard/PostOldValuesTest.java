@@ -0,0 +1,82 @@
+/*********************************************************************
+ * Copyright 2005-2020 by Sebastian Thomschke and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *********************************************************************/
+package net.sf.oval.test.guard;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.Test;
+
+import net.sf.oval.exception.ConstraintsViolatedException;
+import net.sf.oval.guard.Guard;
+import net.sf.oval.guard.Guarded;
+import net.sf.oval.guard.Post;
+
+/**
+ * @author Sebastian Thomschke
+ */
+public class PostOldValuesTest {
+
+   @Guarded
+   public static class Counter {
+      private int count;
+      private int total;
+      public int size;
+      protected boolean buggyMode = false;
+
+      public int getTotal() {
+         return total;
+      }
+
+      // old value of a private field evaluated by the expression language
+      @Post(expr = "_this.count == _old + by", old = "_this.count", lang = "groovy", message = "COUNT")
+      public void increaseCount(final int by) {
+         count += buggyMode ? by + 1 : by;
+      }
+
+      // old value read via field accessor
+      @Post(expr = "_this.size == _old + by", old = "_this.size", lang = "groovy", message = "SIZE")
+      public void increaseSize(final int by) {
+         size += buggyMode ? by + 1 : by;
+      }
+
+      // old value read via getter accessor
+      @Post(expr = "_this.total == _old + by", old = " _this.total ", lang = "groovy", message = "TOTAL")
+      public void increaseTotal(final int by) {
+         total += buggyMode ? by + 1 : by;
+      }
+
+      // old value evaluated by the expression language
+      @Post(expr = "_this.count == _old", old = "_this.count + _args[0]", lang = "groovy", message = "EXPRESSION")
+      public void increaseCountBy(final int by) {
+         count += buggyMode ? by + 1 : by;
+      }
+   }
+
+   @Test
+   public void testOldValues() {
+      final Guard guard = new Guard();
+      TestGuardAspect.aspectOf().setGuard(guard);
+
+      final Counter counter = new Counter();
+      counter.increaseCount(2);
+      counter.increaseCountBy(3);
+      counter.increaseTotal(4);
+      counter.increaseSize(6);
+      assertThat(counter.count).isEqualTo(5);
+      assertThat(counter.getTotal()).isEqualTo(4);
+      assertThat(counter.size).isEqualTo(6);
+
+      counter.buggyMode = true;
+      assertThatThrownBy(() -> counter.increaseCount(1)).isInstanceOf(ConstraintsViolatedException.class).hasMessageContaining("COUNT");
+      assertThatThrownBy(() -> counter.increaseTotal(1)).isInstanceOf(ConstraintsViolatedException.class).hasMessageContaining("TOTAL");
+      assertThatThrownBy(() -> counter.increaseSize(1)).isInstanceOf(ConstraintsViolatedException.class).hasMessageContaining("SIZE");
+      assertThatThrownBy(() -> counter.increaseCountBy(1)).isInstanceOf(ConstraintsViolatedException.class).hasMessageContaining("EXPRESSION");
+   }
+}
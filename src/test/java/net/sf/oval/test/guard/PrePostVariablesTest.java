@@ -0,0 +1,88 @@
+/*********************************************************************
+ * Copyright 2005-2020 by Sebastian Thomschke and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *********************************************************************/
+package net.sf.oval.test.guard;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.junit.Test;
+
+import net.sf.oval.expression.AbstractExpressionLanguage;
+import net.sf.oval.guard.Guard;
+import net.sf.oval.guard.Guarded;
+import net.sf.oval.guard.ParameterNameResolver;
+import net.sf.oval.guard.Post;
+import net.sf.oval.guard.Pre;
+
+/**
+ * @author Sebastian Thomschke
+ */
+public class PrePostVariablesTest {
+
+   @Guarded
+   public static class Service {
+      @Pre(expr = "pre", lang = "capture")
+      @Post(expr = "post", lang = "capture")
+      public String process(final String name, final String[] args) {
+         return name;
+      }
+   }
+
+   /**
+    * names the parameters like the variables bound by the guard
+    */
+   protected static class ConflictingParameterNameResolver implements ParameterNameResolver {
+      @Override
+      public String[] getParameterNames(final Constructor<?> constructor) {
+         return new String[constructor.getParameterTypes().length];
+      }
+
+      @Override
+      public String[] getParameterNames(final Method method) {
+         return new String[] {"_this", "_args"};
+      }
+   }
+
+   protected static class CapturingExpressionLanguage extends AbstractExpressionLanguage {
+      final Map<String, Map<String, Object>> valuesByExpression = new HashMap<>();
+
+      @Override
+      @SuppressWarnings("unchecked")
+      public Object evaluate(final String expression, final Map<String, ?> values) {
+         valuesByExpression.put(expression, (Map<String, Object>) values);
+         return true;
+      }
+   }
+
+   @Test
+   public void testParametersNamedLikeVariables() {
+      final Guard guard = new Guard();
+      TestGuardAspect.aspectOf().setGuard(guard);
+      guard.setParameterNameResolver(new ConflictingParameterNameResolver());
+      final CapturingExpressionLanguage el = new CapturingExpressionLanguage();
+      guard.getExpressionLanguageRegistry().registerExpressionLanguage("capture", el);
+
+      final String[] args = {"a"};
+      new Service().process("name", args);
+
+      // the parameters take precedence over the variables of the same name, each name is bound once
+      final Map<String, Object> preValues = el.valuesByExpression.get("pre");
+      assertThat(preValues).hasSize(2).containsEntry("_this", "name").containsEntry("_args", args);
+      assertThat(new HashMap<>(preValues)).isEqualTo(preValues);
+
+      final Map<String, Object> postValues = el.valuesByExpression.get("post");
+      assertThat(postValues).hasSize(4).containsEntry("_this", "name").containsEntry("_args", args).containsEntry("_returns", "name");
+      assertThat(postValues.keySet()).containsExactly("_this", "_returns", "_old", "_args");
+   }
+}
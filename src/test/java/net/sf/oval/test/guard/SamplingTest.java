@@ -0,0 +1,74 @@
+/*********************************************************************
+ * Copyright 2005-2020 by Sebastian Thomschke and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *********************************************************************/
+package net.sf.oval.test.guard;
+
+import static org.assertj.core.api.Assertions.*;
+
+import org.junit.Test;
+
+import net.sf.oval.constraint.NotNull;
+import net.sf.oval.exception.ConstraintsViolatedException;
+import net.sf.oval.guard.Guard;
+import net.sf.oval.guard.Guarded;
+
+/**
+ * @author Sebastian Thomschke
+ */
+public class SamplingTest {
+
+   @Guarded
+   protected static class OrderService {
+      public void cancelOrder(@NotNull final String orderId) {
+         // nothing to do
+      }
+
+      public void placeOrder(@NotNull final String orderId) {
+         // nothing to do
+      }
+   }
+
+   @Test
+   public void testSamplingRates() throws Exception {
+      final Guard guard = new Guard();
+      TestGuardAspect.aspectOf().setGuard(guard);
+
+      final OrderService service = new OrderService();
+      assertThatThrownBy(() -> service.placeOrder(null)).isInstanceOf(ConstraintsViolatedException.class);
+      assertThat(guard.getSampledMethodCallCount()).isZero();
+
+      guard.setSamplingRate(OrderService.class, 0.0);
+      guard.setSamplingRate(OrderService.class.getMethod("cancelOrder", String.class), 1.0);
+      assertThat(guard.getSamplingRate(OrderService.class.getMethod("placeOrder", String.class))).isEqualTo(0.0);
+
+      // not guarded
+      for (int i = 0; i < 10; i++) {
+         service.placeOrder(null);
+      }
+      assertThat(guard.getSkippedMethodCallCount()).isEqualTo(10);
+
+      // always guarded
+      assertThatThrownBy(() -> service.cancelOrder(null)).isInstanceOf(ConstraintsViolatedException.class);
+      assertThat(guard.getSampledMethodCallCount()).isEqualTo(1);
+
+      guard.setSamplingRate(OrderService.class, 0.5);
+      int violations = 0;
+      for (int i = 0; i < 1000; i++) {
+         try {
+            service.placeOrder(null);
+         } catch (final ConstraintsViolatedException ex) {
+            violations++;
+         }
+      }
+      assertThat(violations).isBetween(300, 700);
+      assertThat(guard.getSampledMethodCallCount() + guard.getSkippedMethodCallCount()).isEqualTo(1011);
+
+      assertThatThrownBy(() -> guard.setSamplingRate(OrderService.class, 1.5)).isInstanceOf(IllegalArgumentException.class);
+   }
+}
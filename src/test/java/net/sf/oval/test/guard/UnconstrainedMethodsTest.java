@@ -0,0 +1,110 @@
+/*********************************************************************
+ * Copyright 2005-2020 by Sebastian Thomschke and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *********************************************************************/
+package net.sf.oval.test.guard;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Method;
+
+import org.junit.Assume;
+import org.junit.Test;
+
+import net.sf.oval.constraint.NotNull;
+import net.sf.oval.guard.Guard;
+import net.sf.oval.guard.Guarded;
+import net.sf.oval.internal.util.Invocable;
+
+/**
+ * @author Sebastian Thomschke
+ */
+@SuppressWarnings("restriction")
+public class UnconstrainedMethodsTest {
+
+   @Guarded
+   protected static class Entity {
+      private String name;
+
+      public String getName() {
+         return name;
+      }
+
+      public void setName(@NotNull final String name) {
+         this.name = name;
+      }
+   }
+
+   /**
+    * not woven by the guard aspect, calls are only guarded via {@link TestGuard}
+    */
+   protected static class Service {
+      public String getName() {
+         return "foo";
+      }
+   }
+
+   protected static class TestGuard extends Guard {
+      private final Object[] noArgs = {};
+
+      protected long invoke(final Object guardedObject, final Method method, final Invocable<Object, Throwable> invocable, final int count)
+         throws Throwable {
+         long result = 0;
+         for (int i = 0; i < count; i++) {
+            if (guardMethod(guardedObject, method, noArgs, invocable) != null) {
+               result++;
+            }
+         }
+         return result;
+      }
+   }
+
+   private static final int CALLS = 100_000;
+
+   @Test
+   public void testUnconstrainedMethodDoesNotAllocate() throws Throwable {
+      Assume.assumeTrue(ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean);
+      final com.sun.management.ThreadMXBean threadMXBean = (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+      Assume.assumeTrue(threadMXBean.isThreadAllocatedMemorySupported() && threadMXBean.isThreadAllocatedMemoryEnabled());
+
+      final TestGuard guard = new TestGuard();
+      final Service service = new Service();
+      final Method getter = Service.class.getMethod("getName");
+      final Invocable<Object, Throwable> invocable = service::getName;
+
+      // warm up
+      guard.invoke(service, getter, invocable, CALLS);
+
+      final long threadId = Thread.currentThread().getId();
+      final long allocatedBefore = threadMXBean.getThreadAllocatedBytes(threadId);
+      final long result = guard.invoke(service, getter, invocable, CALLS);
+      final long allocated = threadMXBean.getThreadAllocatedBytes(threadId) - allocatedBefore;
+
+      assertThat(result).isEqualTo(CALLS);
+      // a single validation cycle allocates more than 100 bytes, allow some noise from the measurement itself
+      assertThat(allocated).isLessThan(CALLS / 10);
+   }
+
+   @Test
+   public void testUnconstrainedMethodInProbeMode() {
+      final Guard guard = new Guard();
+      TestGuardAspect.aspectOf().setGuard(guard);
+
+      final Entity entity = new Entity();
+      entity.setName("foo");
+      assertThat(entity.getName()).isEqualTo("foo");
+
+      // methods without constraints must not be executed in probe mode either
+      guard.enableProbeMode(entity);
+      assertThat(entity.getName()).isNull();
+      guard.disableProbeMode(entity);
+
+      assertThat(entity.getName()).isEqualTo("foo");
+   }
+}
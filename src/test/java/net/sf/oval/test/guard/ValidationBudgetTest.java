@@ -0,0 +1,67 @@
+/*********************************************************************
+ * Copyright 2005-2020 by Sebastian Thomschke and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *********************************************************************/
+package net.sf.oval.test.guard;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.reflect.Method;
+
+import org.junit.Test;
+
+import net.sf.oval.ValidationBudget;
+import net.sf.oval.constraint.NotNull;
+import net.sf.oval.exception.ValidationBudgetExceededException;
+import net.sf.oval.guard.Guard;
+import net.sf.oval.guard.Guarded;
+
+/**
+ * @author Sebastian Thomschke
+ */
+public class ValidationBudgetTest {
+
+   @Guarded
+   protected static class NameService {
+      @NotNull
+      public String concat(@NotNull final String firstName, @NotNull final String lastName) {
+         return firstName + " " + lastName;
+      }
+   }
+
+   @Test
+   public void testPreAndPostConditionsShareBudget() {
+      final Guard guard = new Guard();
+      TestGuardAspect.aspectOf().setGuard(guard);
+
+      final NameService service = new NameService();
+
+      // two parameter checks and one return value check
+      guard.setValidationBudget(ValidationBudget.ofChecks(3));
+      assertThat(service.concat("John", "Doe")).isEqualTo("John Doe");
+
+      guard.setValidationBudget(ValidationBudget.ofChecks(2));
+      assertThatThrownBy(() -> service.concat("John", "Doe")).isInstanceOf(ValidationBudgetExceededException.class);
+   }
+
+   @Test
+   public void testIsValidMethodParameters() throws Exception {
+      final Guard guard = new Guard();
+      final Method concat = NameService.class.getMethod("concat", String.class, String.class);
+
+      guard.setValidationBudget(ValidationBudget.ofChecks(1));
+      // an invalid argument is detected within the budget
+      assertThat(guard.isValidMethodParameters(new NameService(), concat, new Object[] {null, "Doe"})).isFalse();
+      // the validity of valid arguments cannot be determined within the budget
+      assertThatThrownBy(() -> guard.isValidMethodParameters(new NameService(), concat, new Object[] {"John", "Doe"})).isInstanceOf(
+         ValidationBudgetExceededException.class);
+
+      guard.setValidationBudget(ValidationBudget.ofChecks(2));
+      assertThat(guard.isValidMethodParameters(new NameService(), concat, new Object[] {"John", "Doe"})).isTrue();
+   }
+}
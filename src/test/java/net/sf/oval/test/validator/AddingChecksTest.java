@@ -13,10 +13,12 @@ import static org.assertj.core.api.Assertions.*;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.List;
 
 import org.junit.Test;
 
+import net.sf.oval.ConstraintTarget;
 import net.sf.oval.ConstraintViolation;
 import net.sf.oval.Validator;
 import net.sf.oval.constraint.NotNullCheck;
@@ -39,6 +41,115 @@ public class AddingChecksTest {
       }
    }
 
+   protected static class TestEntitySubclass extends TestEntity {
+      protected TestEntitySubclass(final String name) {
+         super(name);
+      }
+   }
+
+   protected static class TestEntityWithReferences {
+      protected List<String> names;
+      protected TestEntity child;
+   }
+
+   protected static class TestValidator extends Validator {
+      void clearChecks(final Field field) {
+         getClassChecks(field.getDeclaringClass()).clearFieldChecks(field);
+      }
+
+      int getVersion(final Class<?> clazz) {
+         return getClassChecks(clazz).getVersion();
+      }
+   }
+
+   /**
+    * modifying a check removed from a class must not outdate the validation plan of the class
+    */
+   @Test
+   public void testModifyRemovedCheck() throws Exception {
+      final TestValidator validator = new TestValidator();
+      final Field names = TestEntityWithReferences.class.getDeclaredField("names");
+      final Field child = TestEntityWithReferences.class.getDeclaredField("child");
+
+      final NotNullCheck check = new NotNullCheck();
+      validator.addChecks(names, check);
+      validator.addChecks(child, check);
+
+      int version = validator.getVersion(TestEntityWithReferences.class);
+      check.setAppliesTo(ConstraintTarget.VALUES);
+      assertThat(validator.getVersion(TestEntityWithReferences.class)).isGreaterThan(version);
+
+      // still held for the child field
+      validator.removeChecks(names, check);
+      version = validator.getVersion(TestEntityWithReferences.class);
+      check.setAppliesTo(ConstraintTarget.CONTAINER);
+      assertThat(validator.getVersion(TestEntityWithReferences.class)).isGreaterThan(version);
+
+      validator.removeChecks(child, check);
+      version = validator.getVersion(TestEntityWithReferences.class);
+      check.setAppliesTo(ConstraintTarget.VALUES);
+      assertThat(validator.getVersion(TestEntityWithReferences.class)).isEqualTo(version);
+
+      validator.addChecks(names, check);
+      validator.clearChecks(names);
+      version = validator.getVersion(TestEntityWithReferences.class);
+      check.setTarget("length");
+      assertThat(validator.getVersion(TestEntityWithReferences.class)).isEqualTo(version);
+   }
+
+   /**
+    * modify appliesTo and target of checks after the class has already been validated
+    */
+   @Test
+   public void testModifyAppliesToAndTargetOfCheck() throws Exception {
+      final Validator validator = new Validator();
+
+      final TestEntityWithReferences entity = new TestEntityWithReferences();
+      entity.names = Arrays.asList("foo", null);
+      entity.child = new TestEntity(null);
+
+      final NotNullCheck namesCheck = new NotNullCheck();
+      validator.addChecks(TestEntityWithReferences.class.getDeclaredField("names"), namesCheck);
+      final NotNullCheck childCheck = new NotNullCheck();
+      validator.addChecks(TestEntityWithReferences.class.getDeclaredField("child"), childCheck);
+      assertThat(validator.validate(entity)).isEmpty();
+
+      namesCheck.setAppliesTo(ConstraintTarget.VALUES);
+      assertThat(validator.validate(entity)).hasSize(1);
+
+      childCheck.setTarget("name");
+      assertThat(validator.validate(entity)).hasSize(2);
+
+      namesCheck.setAppliesTo(ConstraintTarget.CONTAINER);
+      childCheck.setTarget(null);
+      assertThat(validator.validate(entity)).isEmpty();
+   }
+
+   /**
+    * programmatically add and remove a NotNull constraint to the name field
+    * declared in the super class of an already validated class
+    */
+   @Test
+   public void testAddAndRemoveConstraintToSuperClassField() throws Exception {
+      final Validator validator = new Validator();
+
+      final TestEntitySubclass entity = new TestEntitySubclass(null);
+      assertThat(validator.validate(entity)).isEmpty();
+
+      final Field field = TestEntity.class.getDeclaredField("name");
+      final NotNullCheck notNullCheck = new NotNullCheck();
+      notNullCheck.setMessage("NOT_NULL");
+
+      validator.addChecks(field, notNullCheck);
+
+      final List<ConstraintViolation> violations = validator.validate(entity);
+      assertThat(violations).hasSize(1);
+      assertThat(violations.get(0).getMessage()).isEqualTo("NOT_NULL");
+
+      validator.removeChecks(field, notNullCheck);
+      assertThat(validator.validate(entity)).isEmpty();
+   }
+
    /**
     * programmatically add a NotNull constraint to the name field
     */
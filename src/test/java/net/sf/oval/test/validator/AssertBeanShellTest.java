@@ -11,13 +11,16 @@ package net.sf.oval.test.validator;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Test;
 
 import net.sf.oval.ConstraintViolation;
 import net.sf.oval.Validator;
 import net.sf.oval.constraint.Assert;
+import net.sf.oval.expression.ExpressionLanguageBeanShellImpl;
 
 /**
  * @author Sebastian Thomschke
@@ -63,4 +66,20 @@ public class AssertBeanShellTest {
       violations = validator.validate(p);
       assertThat(violations).isEmpty();
    }
+
+   @Test
+   public void testInterpreterReuse() {
+      final ExpressionLanguageBeanShellImpl bsh = new ExpressionLanguageBeanShellImpl(1);
+      final Map<String, Object> values = new HashMap<>();
+
+      values.put("_value", "foo");
+      assertThat(bsh.evaluate("_value.length()", values)).isEqualTo(3);
+      assertThat(bsh.evaluate("tmp = _value + _value; tmp.length()", values)).isEqualTo(6);
+      assertThat(bsh.evaluate("if (_value == null) return false; return true;", values)).isEqualTo(true);
+
+      // variables of previous evaluations are not visible
+      values.put("_value", null);
+      assertThat(bsh.evaluate("_value == null", values)).isEqualTo(true);
+      assertThat(bsh.evaluate("tmp == void", values)).isEqualTo(true);
+   }
 }
@@ -11,13 +11,18 @@ package net.sf.oval.test.validator;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.lang.ref.WeakReference;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
 
 import org.junit.Test;
 
 import net.sf.oval.ConstraintViolation;
 import net.sf.oval.Validator;
 import net.sf.oval.constraint.Assert;
+import net.sf.oval.expression.ExpressionLanguageGroovyImpl;
 
 /**
  * @author Sebastian Thomschke
@@ -119,4 +124,34 @@ public class AssertGroovyTest {
       assertThat(violations).hasSize(1);
       assertThat(violations.get(0).getErrorCode()).isEqualTo("C0");
    }
+
+   @Test
+   public void testEvictedScriptClassIsNotKept() throws Exception {
+      final ExpressionLanguageGroovyImpl groovy = new ExpressionLanguageGroovyImpl();
+      groovy.getExpressionCache().setMaxSize(1);
+      final Map<String, Object> values = Collections.singletonMap("_value", "foo");
+
+      WeakReference<Object> scriptClass = new WeakReference<>(groovy.evaluate("this.getClass()", values));
+      assertThat(groovy.evaluate("_value.length() > 0", values)).isEqualTo(true); // evicts the first expression
+      assertThat(groovy.getExpressionCache().getEvictionCount()).isEqualTo(1);
+
+      for (int i = 0; i < 50 && scriptClass.get() != null; i++) {
+         System.gc();
+         Thread.sleep(20);
+      }
+      assertThat(scriptClass.get()).isNull();
+   }
+
+   @Test
+   public void testScriptClassSharedByThreads() throws Exception {
+      final ExpressionLanguageGroovyImpl groovy = new ExpressionLanguageGroovyImpl();
+      final String expr = "tmp = _value; this.getClass()";
+      final Map<String, Object> values = Collections.singletonMap("_value", "foo");
+
+      final Object scriptClass = groovy.evaluate(expr, values);
+      assertThat(CompletableFuture.supplyAsync(() -> groovy.evaluate(expr, values)).get()).isSameAs(scriptClass);
+
+      // each evaluation uses a new binding
+      assertThat(groovy.evaluate("binding.hasVariable('tmp')", values)).isEqualTo(false);
+   }
 }
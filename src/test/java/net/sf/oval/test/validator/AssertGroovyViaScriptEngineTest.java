@@ -11,13 +11,26 @@ package net.sf.oval.test.validator;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import javax.script.CompiledScript;
+import javax.script.ScriptEngine;
+import javax.script.ScriptEngineFactory;
+import javax.script.ScriptException;
+
+import org.codehaus.groovy.jsr223.GroovyScriptEngineFactory;
+import org.codehaus.groovy.jsr223.GroovyScriptEngineImpl;
 import org.junit.Test;
 
 import net.sf.oval.ConstraintViolation;
 import net.sf.oval.Validator;
 import net.sf.oval.constraint.Assert;
+import net.sf.oval.exception.ExpressionEvaluationException;
+import net.sf.oval.expression.ExpressionLanguageScriptEngineImpl;
 
 /**
  * JSR223 integration test
@@ -42,6 +55,36 @@ public class AssertGroovyViaScriptEngineTest {
       public String zipCode;
    }
 
+   /**
+    * Groovy engine counting the created engines and compiled scripts
+    */
+   protected static class CountingGroovyEngine extends GroovyScriptEngineImpl {
+      static final AtomicInteger ENGINES = new AtomicInteger();
+      static final AtomicInteger COMPILATIONS = new AtomicInteger();
+
+      static final GroovyScriptEngineFactory FACTORY = new GroovyScriptEngineFactory() {
+         @Override
+         public ScriptEngine getScriptEngine() {
+            return new CountingGroovyEngine();
+         }
+      };
+
+      CountingGroovyEngine() {
+         ENGINES.incrementAndGet();
+      }
+
+      @Override
+      public CompiledScript compile(final String script) throws ScriptException {
+         COMPILATIONS.incrementAndGet();
+         return super.compile(script);
+      }
+
+      @Override
+      public ScriptEngineFactory getFactory() {
+         return FACTORY;
+      }
+   }
+
    private static class TestRunner implements Runnable {
       private final boolean[] failed;
       private final Validator validator;
@@ -121,4 +164,51 @@ public class AssertGroovyViaScriptEngineTest {
       assertThat(violations).hasSize(1);
       assertThat(violations.get(0).getErrorCode()).isEqualTo("C0");
    }
+
+   @Test
+   public void testEngineReuse() {
+      final ExpressionLanguageScriptEngineImpl groovy = ExpressionLanguageScriptEngineImpl.get("Groovy");
+      // the Groovy engine declares itself as MULTITHREADED
+      assertThat(groovy.isEngineShared()).isFalse();
+
+      final Map<String, Object> values = new HashMap<>();
+      values.put("_value", "foo");
+      assertThat(groovy.evaluate("_value.length()", values)).isEqualTo(3);
+      assertThat(groovy.evaluate("tmp = _value + _value; tmp.length()", values)).isEqualTo(6);
+
+      // variables of previous evaluations are not visible
+      values.clear();
+      assertThatThrownBy(() -> groovy.evaluate("_value", values)).isInstanceOf(ExpressionEvaluationException.class);
+      assertThatThrownBy(() -> groovy.evaluate("tmp", values)).isInstanceOf(ExpressionEvaluationException.class);
+   }
+
+   @Test
+   public void testEnginePoolWithMoreThreadsThanEngines() throws InterruptedException {
+      CountingGroovyEngine.ENGINES.set(0);
+      CountingGroovyEngine.COMPILATIONS.set(0);
+      final ExpressionLanguageScriptEngineImpl groovy = new ExpressionLanguageScriptEngineImpl(new CountingGroovyEngine(), 2) {};
+
+      final AtomicInteger failures = new AtomicInteger();
+      final List<Thread> threads = new ArrayList<>();
+      for (int t = 0; t < 8; t++) {
+         threads.add(new Thread(() -> {
+            final Map<String, Object> values = new HashMap<>();
+            for (int i = 0; i < 50; i++) {
+               values.put("_value", "foo" + i);
+               if (!Integer.valueOf(("foo" + i).length()).equals(groovy.evaluate("sleep(1); _value.length()", values))) {
+                  failures.incrementAndGet();
+               }
+            }
+         }));
+      }
+      threads.forEach(Thread::start);
+      for (final Thread thread : threads) {
+         thread.join();
+      }
+
+      assertThat(failures.get()).isZero();
+      // the threads waited for one of the two pooled engines which compiled the expression only once each
+      assertThat(CountingGroovyEngine.ENGINES.get()).isLessThanOrEqualTo(2);
+      assertThat(CountingGroovyEngine.COMPILATIONS.get()).isLessThanOrEqualTo(2);
+   }
 }
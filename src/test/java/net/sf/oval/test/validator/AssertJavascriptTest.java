@@ -11,13 +11,16 @@ package net.sf.oval.test.validator;
 
 import static org.assertj.core.api.Assertions.*;
 
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import org.junit.Test;
 
 import net.sf.oval.ConstraintViolation;
 import net.sf.oval.Validator;
 import net.sf.oval.constraint.Assert;
+import net.sf.oval.expression.ExpressionLanguageJavaScriptImpl;
 
 /**
  * @author Sebastian Thomschke
@@ -119,4 +122,32 @@ public class AssertJavascriptTest {
       assertThat(violations).hasSize(1);
       assertThat(violations.get(0).getErrorCode()).isEqualTo("C0");
    }
+
+   @Test
+   public void testThreadAffineMode() {
+      for (final int optimizationLevel : new int[] {-1, 0, 9}) {
+         final ExpressionLanguageJavaScriptImpl js = new ExpressionLanguageJavaScriptImpl(optimizationLevel, true);
+         assertThat(js.isThreadAffine()).isTrue();
+         final Map<String, Object> values = new HashMap<>();
+
+         final Person p = new Person();
+         p.firstName = "Mike";
+         values.put("_this", p);
+         values.put("_value", "foo");
+         assertThat(js.evaluate("_this.firstName.length() + _value.length == 7", values)).isEqualTo(true);
+         assertThat(js.evaluate("var tmp = _this.firstName; tmp == 'Mike'", values)).isEqualTo(true);
+
+         // a modified object is not served from a stale wrapper
+         p.firstName = "Michael";
+         assertThat(js.evaluate("_this.firstName.length() == 7", values)).isEqualTo(true);
+         values.put("_this", new Person());
+         assertThat(js.evaluate("_this.firstName == null", values)).isEqualTo(true);
+
+         // variables of previous evaluations are not visible
+         values.remove("_this");
+         assertThat(js.evaluate("typeof tmp == 'undefined' && typeof _this == 'undefined'", values)).isEqualTo(true);
+      }
+
+      assertThatThrownBy(() -> new ExpressionLanguageJavaScriptImpl(10, true)).isInstanceOf(IllegalArgumentException.class);
+   }
 }
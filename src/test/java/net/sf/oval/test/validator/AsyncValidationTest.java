@@ -0,0 +1,92 @@
+/*********************************************************************
+ * Copyright 2005-2020 by Sebastian Thomschke and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *********************************************************************/
+package net.sf.oval.test.validator;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import net.sf.oval.ConstraintViolation;
+import net.sf.oval.Validator;
+import net.sf.oval.constraint.NotNull;
+import net.sf.oval.exception.ConstraintsViolatedException;
+
+/**
+ * @author Sebastian Thomschke
+ */
+public class AsyncValidationTest {
+
+   protected static class Entity {
+      @NotNull
+      public String name;
+
+      @NotNull(profiles = "strict")
+      public String description;
+   }
+
+   protected static class TestValidator extends Validator {
+      int getCurrentValidationCyclesCount() {
+         return currentValidationCycles.get().size();
+      }
+   }
+
+   @Test
+   public void testValidateAsync() throws Exception {
+      final TestValidator validator = new TestValidator();
+      final ExecutorService executor = Executors.newSingleThreadExecutor();
+      try {
+         final Entity entity = new Entity();
+
+         List<ConstraintViolation> violations = validator.validateAsync(entity, executor).get(10, TimeUnit.SECONDS);
+         assertThat(violations).hasSize(2);
+
+         violations = validator.validateAsync(entity, executor, "strict").get(10, TimeUnit.SECONDS);
+         assertThat(violations).hasSize(1);
+
+         entity.name = "foo";
+         entity.description = "bar";
+         assertThat(validator.validateAsync(entity, executor).get(10, TimeUnit.SECONDS)).isEmpty();
+
+         // no validation cycles are left behind in the executor thread
+         assertThat(executor.submit(validator::getCurrentValidationCyclesCount).get()).isZero();
+      } finally {
+         executor.shutdown();
+      }
+   }
+
+   @Test
+   public void testAssertValidAsync() throws Exception {
+      final Validator validator = new Validator();
+      final ExecutorService executor = Executors.newSingleThreadExecutor();
+      try {
+         final Entity entity = new Entity();
+         entity.description = "bar";
+
+         try {
+            validator.assertValidAsync(entity, executor).get(10, TimeUnit.SECONDS);
+            failBecauseExceptionWasNotThrown(ExecutionException.class);
+         } catch (final ExecutionException ex) {
+            assertThat(ex.getCause()).isInstanceOf(ConstraintsViolatedException.class);
+            assertThat(((ConstraintsViolatedException) ex.getCause()).getConstraintViolations()).hasSize(1);
+         }
+
+         entity.name = "foo";
+         validator.assertValidAsync(entity, executor).get(10, TimeUnit.SECONDS);
+      } finally {
+         executor.shutdown();
+      }
+   }
+}
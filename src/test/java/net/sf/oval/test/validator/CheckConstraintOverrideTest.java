@@ -0,0 +1,68 @@
+/*********************************************************************
+ * Copyright 2005-2020 by Sebastian Thomschke and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *********************************************************************/
+package net.sf.oval.test.validator;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import net.sf.oval.Check;
+import net.sf.oval.ConstraintTarget;
+import net.sf.oval.Validator;
+import net.sf.oval.constraint.NotNull;
+import net.sf.oval.constraint.Size;
+import net.sf.oval.context.OValContext;
+
+/**
+ * Tests that checks of the pre-compiled validation plans are validated through an overridden
+ * <code>Validator#checkConstraint(Check, ...)</code> method.
+ *
+ * @author Sebastian Thomschke
+ */
+public class CheckConstraintOverrideTest {
+
+   protected static class Person {
+      @NotNull
+      public String name;
+
+      @Size(min = 1)
+      @NotNull(appliesTo = ConstraintTarget.VALUES)
+      public List<String> nickNames;
+   }
+
+   protected static class RecordingValidator extends Validator {
+      protected final List<Check> checks = new ArrayList<>();
+
+      @Override
+      protected void checkConstraint(final Check check, final Object validatedObject, final Object valueToValidate, final OValContext context,
+         final ValidationCycle cycle, final boolean isContainerValue) {
+         synchronized (checks) {
+            checks.add(check);
+         }
+         super.checkConstraint(check, validatedObject, valueToValidate, context, cycle, isContainerValue);
+      }
+   }
+
+   @Test
+   public void testCheckConstraintOverride() {
+      final RecordingValidator validator = new RecordingValidator();
+
+      final Person p = new Person();
+      p.nickNames = Arrays.asList("Bob", null);
+
+      assertThat(validator.validate(p)).hasSize(2);
+      // name, nickNames (@Size and @NotNull) and the two nick name elements
+      assertThat(validator.checks).hasSize(5);
+   }
+}
@@ -13,18 +13,40 @@ import static org.assertj.core.api.Assertions.*;
 
 import java.lang.annotation.Annotation;
 import java.util.Enumeration;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
 import java.util.ResourceBundle;
 
 import org.junit.Test;
 
 import net.sf.oval.Check;
+import net.sf.oval.ConstraintViolation;
+import net.sf.oval.Validator;
+import net.sf.oval.constraint.NotNull;
+import net.sf.oval.context.OValContext;
 import net.sf.oval.internal.util.ReflectionUtils;
+import net.sf.oval.localization.locale.ThreadLocalLocaleProvider;
+import net.sf.oval.localization.message.ResourceBundleMessageResolver;
 
 /**
  * @author Sebastian Thomschke
  */
 public class ConstraintViolationMessagesTest {
 
+   protected static class Person {
+      @NotNull
+      public String name;
+   }
+
+   protected static class PrefixingValidator extends Validator {
+      @Override
+      protected String renderMessage(final List<OValContext> contextPath, final Object invalidValue, final String messageKey,
+         final Map<String, ?> messageValues) {
+         return "PREFIX " + super.renderMessage(contextPath, invalidValue, messageKey, messageValues);
+      }
+   }
+
    @Test
    @SuppressWarnings("unchecked")
    public void testMessages() throws ClassNotFoundException, InstantiationException, IllegalAccessException {
@@ -51,4 +73,44 @@ public class ConstraintViolationMessagesTest {
          }
       }
    }
+
+   @Test
+   public void testRenderMessageOverride() {
+      final Validator validator = new PrefixingValidator();
+      final ThreadLocalLocaleProvider localeProvider = (ThreadLocalLocaleProvider) Validator.getLocaleProvider();
+
+      final List<ConstraintViolation> violations;
+      try {
+         localeProvider.setLocale(Locale.GERMAN);
+         violations = validator.validate(new Person());
+      } finally {
+         localeProvider.setLocale(null);
+      }
+      assertThat(violations).hasSize(1);
+
+      // the lazily rendered message is rendered by the overridden method using the locale active during validation
+      localeProvider.setLocale(Locale.ENGLISH);
+      try {
+         assertThat(violations.get(0).getMessage()).startsWith("PREFIX ").endsWith("darf nicht Null sein");
+      } finally {
+         localeProvider.setLocale(null);
+      }
+   }
+
+   @Test
+   public void testResourceBundleMessageResolverOverride() {
+      Validator.setMessageResolver(new ResourceBundleMessageResolver() {
+         @Override
+         protected String getMessage(final String key, final Locale locale) {
+            return "net.sf.oval.constraint.NotNull.violated".equals(key) ? "custom message for " + locale : super.getMessage(key, locale);
+         }
+      });
+      try {
+         final List<ConstraintViolation> violations = new Validator().validate(new Person());
+         assertThat(violations).hasSize(1);
+         assertThat(violations.get(0).getMessage()).isEqualTo("custom message for " + Validator.getLocaleProvider().getLocale());
+      } finally {
+         Validator.setMessageResolver(ResourceBundleMessageResolver.INSTANCE);
+      }
+   }
 }
@@ -0,0 +1,121 @@
+/*********************************************************************
+ * Copyright 2005-2020 by Sebastian Thomschke and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *********************************************************************/
+package net.sf.oval.test.validator;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.junit.Test;
+
+import net.sf.oval.ConstraintTarget;
+import net.sf.oval.ConstraintViolation;
+import net.sf.oval.FailFastMode;
+import net.sf.oval.Validator;
+import net.sf.oval.configuration.annotation.IsInvariant;
+import net.sf.oval.constraint.AssertValid;
+import net.sf.oval.constraint.NotNull;
+import net.sf.oval.constraint.Size;
+
+/**
+ * @author Sebastian Thomschke
+ */
+public class FailFastTest {
+
+   protected static class Address {
+      @NotNull
+      public String street;
+
+      @NotNull(severity = 10)
+      public String city;
+   }
+
+   protected static class Person {
+      @NotNull
+      public String firstName;
+
+      @NotNull
+      public String lastName;
+
+      @AssertValid
+      public Address address = new Address();
+
+      @NotNull(appliesTo = ConstraintTarget.VALUES)
+      @Size(min = 10)
+      public List<String> nickNames = Arrays.asList(null, null, null);
+
+      private int getterInvocations;
+
+      @IsInvariant
+      @NotNull
+      public String getTitle() {
+         getterInvocations++;
+         return null;
+      }
+   }
+
+   @Test
+   public void testDisabled() {
+      final Validator validator = new Validator();
+      assertThat(validator.getFailFastMode()).isSameAs(FailFastMode.DISABLED);
+
+      final Person p = new Person();
+      assertThat(validator.validate(p)).hasSize(9);
+      assertThat(p.getterInvocations).isEqualTo(1);
+   }
+
+   @Test
+   public void testFirstViolation() {
+      final Validator validator = new Validator();
+      validator.setFailFastMode(FailFastMode.FIRST_VIOLATION);
+
+      final Person p = new Person();
+      final List<ConstraintViolation> violations = validator.validate(p);
+      assertThat(violations).hasSize(1);
+      assertThat(violations.get(0).getCheckDeclaringContext().toString()).endsWith("firstName");
+
+      // the remaining fields and getters are not visited anymore
+      assertThat(p.getterInvocations).isZero();
+   }
+
+   @Test
+   public void testMaxViolations() {
+      final Validator validator = new Validator();
+
+      final Person p = new Person();
+      assertThat(validator.validate(p, FailFastMode.afterViolations(3))).hasSize(3);
+      assertThat(validator.validate(p, FailFastMode.afterViolations(6))).hasSize(6);
+      assertThat(p.getterInvocations).isZero();
+      assertThat(validator.validate(p, FailFastMode.afterViolations(100))).hasSize(9);
+      assertThat(p.getterInvocations).isEqualTo(1);
+
+      try {
+         FailFastMode.afterViolations(0);
+         failBecauseExceptionWasNotThrown(IllegalArgumentException.class);
+      } catch (final IllegalArgumentException ex) {
+         // expected
+      }
+   }
+
+   @Test
+   public void testSeverity() {
+      final Validator validator = new Validator();
+
+      final Person p = new Person();
+
+      // city of the address referenced via @AssertValid is the 4th violation
+      final List<ConstraintViolation> violations = validator.validate(p, FailFastMode.onSeverity(5));
+      assertThat(violations).hasSize(4);
+      assertThat(violations.get(3).getSeverity()).isEqualTo(10);
+
+      assertThat(validator.validate(p, FailFastMode.onSeverity(11))).hasSize(9);
+   }
+}
@@ -22,8 +22,16 @@ import net.sf.oval.ConstraintTarget;
 import net.sf.oval.ConstraintViolation;
 import net.sf.oval.Validator;
 import net.sf.oval.constraint.AssertValid;
+import net.sf.oval.constraint.CheckWith;
+import net.sf.oval.constraint.CheckWithCheck.SimpleCheck;
+import net.sf.oval.constraint.LengthCheck;
+import net.sf.oval.constraint.NotBlank;
 import net.sf.oval.constraint.NotEmpty;
 import net.sf.oval.constraint.NotNull;
+import net.sf.oval.context.IterableElementContext;
+import net.sf.oval.context.MapKeyContext;
+import net.sf.oval.context.OValContext;
+import net.sf.oval.internal.ContextPath;
 
 /**
  * @author Sebastian Thomschke
@@ -48,6 +56,85 @@ public class InvalidValuePathTest {
       String name;
    }
 
+   public static class ElementContextAware implements SimpleCheck {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      public boolean isSatisfied(final Object validatedObject, final Object value, final OValContext context, final Validator validator) {
+         // checks not marked as context independent still receive the context of the element
+         return context instanceof IterableElementContext && ((IterableElementContext) context).getElementIndex() != 2;
+      }
+   }
+
+   /**
+    * sub class of a context independent check that evaluates the context
+    */
+   public static class ElementContextAwareLengthCheck extends LengthCheck {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      public boolean isSatisfied(final Object validatedObject, final Object value, final OValContext context, final Validator validator) {
+         return context instanceof IterableElementContext && super.isSatisfied(validatedObject, value, context, validator);
+      }
+   }
+
+   public static class Tags {
+      @NotBlank(appliesTo = ConstraintTarget.VALUES, message = "NOT_BLANK_TAG")
+      @CheckWith(value = ElementContextAware.class, appliesTo = ConstraintTarget.VALUES, message = "CHECK_WITH_TAG")
+      List<String> tags = new ArrayList<>();
+
+      @NotNull(appliesTo = {ConstraintTarget.KEYS, ConstraintTarget.VALUES}, message = "NOT_NULL_COUNT")
+      Map<String, Integer> counts = new HashMap<>();
+   }
+
+   @Test
+   public void testElementContexts() {
+      final Validator v = new Validator();
+
+      final Tags e = new Tags();
+      e.tags.add("a");
+      e.tags.add(" ");
+      e.tags.add("c");
+      e.counts.put("a", null);
+      e.counts.put(null, 1);
+
+      final List<ConstraintViolation> violations = v.validate(e);
+      assertThat(violations).hasSize(4);
+
+      assertThat(violations.get(0).getMessage()).isEqualTo("NOT_BLANK_TAG");
+      assertThat(violations.get(0).getContextPathAsString()).isEqualTo(Tags.class.getName() + ".tags[1]");
+      final IterableElementContext elementContext = (IterableElementContext) violations.get(0).getContextPath().get(1);
+      assertThat(elementContext.getElementIndex()).isEqualTo(1);
+      assertThat(elementContext.getCompileTimeType()).isEqualTo(String.class);
+
+      assertThat(violations.get(1).getMessage()).isEqualTo("CHECK_WITH_TAG");
+      assertThat(violations.get(1).getContextPathAsString()).isEqualTo(Tags.class.getName() + ".tags[2]");
+
+      assertThat(violations.subList(2, 4).stream().map(cv -> cv.getContextPath().get(1).getClass().getSimpleName())).containsOnly(
+         "MapKeyContext", "MapValueContext");
+      for (final ConstraintViolation cv : violations.subList(2, 4)) {
+         assertThat(cv.getMessage()).isEqualTo("NOT_NULL_COUNT");
+         assertThat(cv.getContextPath().get(1).getCompileTimeType()).isEqualTo(cv.getContextPath().get(1) instanceof MapKeyContext ? String.class
+            : Integer.class);
+      }
+   }
+
+   @Test
+   public void testSubClassOfContextIndependentCheck() throws Exception {
+      final Validator v = new Validator();
+      final ElementContextAwareLengthCheck check = new ElementContextAwareLengthCheck();
+      check.setMax(3);
+      check.setAppliesTo(ConstraintTarget.VALUES);
+      v.addChecks(Tags.class.getDeclaredField("tags"), check);
+
+      final Tags e = new Tags();
+      e.tags.add("a");
+      e.tags.add("bcdef");
+      final List<ConstraintViolation> violations = v.validate(e);
+      assertThat(violations).hasSize(1);
+      assertThat(violations.get(0).getContextPathAsString()).isEqualTo(Tags.class.getName() + ".tags[1]");
+   }
+
    @Test
    public void testValuePath() {
       final Validator v = new Validator();
@@ -108,4 +195,35 @@ public class InvalidValuePathTest {
          assertThat(violations.get(0).getContextPathAsString()).isEqualTo(Parent.class.getName() + ".refsByKey[\"foo\"][0][0][0].name");
       }
    }
+
+   @Test
+   public void testSharedValuePath() {
+      final Validator v = new Validator();
+
+      final Parent e = new Parent();
+      e.name = "foo";
+      final List<Child[][]> refs = new ArrayList<>();
+      e.refsByKey.put("foo", refs);
+      refs.add(new Child[][] {{null, null}});
+
+      final List<ConstraintViolation> violations = v.validate(e);
+      assertThat(violations).hasSize(2);
+
+      final List<OValContext> path1 = violations.get(0).getContextPath();
+      final List<OValContext> path2 = violations.get(1).getContextPath();
+      assertThat(path1).hasSize(5);
+      assertThat(path1.subList(0, 4)).isEqualTo(path2.subList(0, 4));
+      assertThat(path1.get(4)).isNotEqualTo(path2.get(4));
+
+      // the violations share the path of the parent container without copying it
+      assertThat(path1).isInstanceOf(ContextPath.class);
+      assertThat(((ContextPath) path1).getParent()).isSameAs(((ContextPath) path2).getParent());
+
+      try {
+         path1.clear();
+         failBecauseExceptionWasNotThrown(UnsupportedOperationException.class);
+      } catch (final UnsupportedOperationException ex) {
+         // expected
+      }
+   }
 }
@@ -0,0 +1,93 @@
+/*********************************************************************
+ * Copyright 2005-2020 by Sebastian Thomschke and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *********************************************************************/
+package net.sf.oval.test.validator;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import net.sf.oval.ConstraintViolation;
+import net.sf.oval.Validator;
+import net.sf.oval.constraint.AssertValid;
+import net.sf.oval.constraint.Length;
+import net.sf.oval.constraint.NotNull;
+import net.sf.oval.localization.message.MessageResolver;
+import net.sf.oval.localization.message.ResourceBundleMessageResolver;
+
+/**
+ * @author Sebastian Thomschke
+ */
+public class IsValidTest {
+
+   protected static class Address {
+      @NotNull
+      public String street;
+   }
+
+   protected static class Person {
+      @NotNull
+      @Length(max = 5)
+      public String name;
+
+      @NotNull(profiles = "strict")
+      public String nickName;
+
+      @AssertValid
+      public Address address;
+   }
+
+   @Test
+   public void testIsValid() {
+      final Validator validator = new Validator();
+      validator.disableProfile("strict");
+
+      final AtomicInteger resolvedMessages = new AtomicInteger();
+      final MessageResolver resolver = key -> {
+         resolvedMessages.incrementAndGet();
+         return ResourceBundleMessageResolver.INSTANCE.getMessage(key);
+      };
+      Validator.setMessageResolver(resolver);
+      try {
+         final Person p = new Person();
+         assertThat(validator.isValid(p)).isFalse();
+
+         p.name = "123456";
+         assertThat(validator.isValid(p)).isFalse();
+
+         p.name = "12345";
+         assertThat(validator.isValid(p)).isTrue();
+         assertThat(validator.isValid(p, "strict")).isFalse();
+         p.nickName = "abc";
+         assertThat(validator.isValid(p, "strict")).isTrue();
+
+         p.address = new Address();
+         assertThat(validator.isValid(p)).isFalse();
+         p.address.street = "abc";
+         assertThat(validator.isValid(p)).isTrue();
+
+         // no messages must have been rendered
+         assertThat(resolvedMessages.get()).isZero();
+
+         p.name = null;
+         final List<ConstraintViolation> violations = validator.validate(p);
+         assertThat(violations).hasSize(1);
+
+         // messages are rendered lazily
+         assertThat(resolvedMessages.get()).isZero();
+         assertThat(violations.get(0).getMessage()).isNotEmpty();
+         assertThat(resolvedMessages.get()).isPositive();
+      } finally {
+         Validator.setMessageResolver(ResourceBundleMessageResolver.INSTANCE);
+      }
+   }
+}
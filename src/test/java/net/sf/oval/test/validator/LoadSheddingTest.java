@@ -0,0 +1,100 @@
+/*********************************************************************
+ * Copyright 2005-2020 by Sebastian Thomschke and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *********************************************************************/
+package net.sf.oval.test.validator;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.junit.Test;
+
+import net.sf.oval.ConstraintViolation;
+import net.sf.oval.LoadShedding;
+import net.sf.oval.Validator;
+import net.sf.oval.constraint.AssertValid;
+import net.sf.oval.constraint.Email;
+import net.sf.oval.constraint.MatchPattern;
+import net.sf.oval.constraint.NotNull;
+
+/**
+ * @author Sebastian Thomschke
+ */
+public class LoadSheddingTest {
+
+   protected static class Address {
+      @NotNull(severity = 10)
+      public String city;
+
+      @MatchPattern(pattern = "[0-9]{5}")
+      public String zipCode = "abc";
+   }
+
+   protected static class Person {
+      @NotNull(severity = 10)
+      public String name;
+
+      @Email
+      public String email = "not an email";
+
+      @AssertValid
+      public Address address = new Address();
+   }
+
+   @Test
+   public void testLatencyBasedLoadShedding() {
+      final Validator validator = new Validator();
+      final LoadShedding loadShedding = LoadShedding.onAverageLatency(1, TimeUnit.NANOSECONDS, 5);
+      validator.setLoadShedding(loadShedding);
+
+      // the first validation has no latency history
+      assertThat(validator.validate(new Person())).hasSize(4);
+      assertThat(loadShedding.getAverageLatencyNanos()).isPositive();
+      assertThat(loadShedding.isShedding()).isTrue();
+      assertThat(validator.validate(new Person())).hasSize(2);
+   }
+
+   @Test
+   public void testConcurrencyBasedLoadShedding() {
+      final Validator validator = new Validator();
+      final LoadShedding loadShedding = LoadShedding.onConcurrentValidations(1, 5);
+      validator.setLoadShedding(loadShedding);
+
+      assertThat(validator.validate(new Person())).hasSize(4);
+      assertThat(loadShedding.getConcurrentValidations()).isZero();
+      assertThat(loadShedding.isShedding()).isFalse();
+   }
+
+   @Test
+   public void testSignalBasedLoadShedding() {
+      final Validator validator = new Validator();
+      final AtomicBoolean underPressure = new AtomicBoolean();
+      validator.setLoadShedding(LoadShedding.onSignal(underPressure::get, 5));
+
+      assertThat(validator.validate(new Person())).hasSize(4);
+
+      underPressure.set(true);
+      final List<ConstraintViolation> violations = validator.validate(new Person());
+      assertThat(violations).hasSize(2);
+      assertThat(violations.get(0).getContextPathAsString()).isEqualTo(Person.class.getName() + ".name");
+      // referenced objects are still validated
+      assertThat(violations.get(1).getContextPathAsString()).isEqualTo(Person.class.getName() + ".address.city");
+      assertThat(validator.isValid(new Person())).isFalse();
+
+      final Person person = new Person();
+      person.name = "John";
+      person.address.city = "Berlin";
+      assertThat(validator.isValid(person)).isTrue();
+
+      validator.setLoadShedding(null);
+      assertThat(validator.isValid(person)).isFalse();
+   }
+}
@@ -46,6 +46,64 @@ public class ObjectGraphTest {
       String name;
    }
 
+   protected static class Node {
+      @AssertValid
+      Node next;
+
+      @NotNull
+      String name = "node";
+   }
+
+   private static Node createChain(final int length) {
+      final Node head = new Node();
+      Node node = head;
+      for (int i = 1; i < length; i++) {
+         node.next = new Node();
+         node = node.next;
+      }
+      return head;
+   }
+
+   @Test
+   public void testDeepObjectGraph() {
+      final Node head = createChain(100_000);
+      Node last = head;
+      while (last.next != null) {
+         last = last.next;
+      }
+      last.name = null;
+
+      final Validator validator = new Validator();
+      final List<ConstraintViolation> violations = validator.validate(head);
+      assertThat(violations).hasSize(1);
+      assertThat(violations.get(0).getValidatedObject()).isSameAs(head);
+      assertThat(violations.get(0).getInvalidValue()).isNull();
+      // 99,999 times "next" followed by "name"
+      assertThat(violations.get(0).getContextPath()).hasSize(100_000);
+
+      // circular chain
+      last.next = head;
+      assertThat(validator.validate(head)).hasSize(1);
+   }
+
+   @Test
+   public void testMaxAssertValidDepth() {
+      final Node head = createChain(4);
+      head.next.next.name = null; // depth 2
+      head.next.next.next.name = null; // depth 3
+
+      final Validator validator = new Validator();
+      assertThat(validator.validate(head)).hasSize(2);
+
+      validator.setMaxAssertValidDepth(2);
+      final List<ConstraintViolation> violations = validator.validate(head);
+      assertThat(violations).hasSize(1);
+      assertThat(violations.get(0).getContextPathAsString()).isEqualTo(Node.class.getName() + ".next.next.name");
+
+      validator.setMaxAssertValidDepth(1);
+      assertThat(validator.validate(head)).isEmpty();
+   }
+
    @Test
    public void testObjectGraph() {
       final ClassA classA = new ClassA();
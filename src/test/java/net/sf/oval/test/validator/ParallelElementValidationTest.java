@@ -0,0 +1,163 @@
+/*********************************************************************
+ * Copyright 2005-2020 by Sebastian Thomschke and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *********************************************************************/
+package net.sf.oval.test.validator;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+
+import org.junit.Test;
+
+import net.sf.oval.ConstraintTarget;
+import net.sf.oval.ConstraintViolation;
+import net.sf.oval.FailFastMode;
+import net.sf.oval.Validator;
+import net.sf.oval.constraint.AssertValid;
+import net.sf.oval.constraint.Min;
+import net.sf.oval.constraint.NotNull;
+
+/**
+ * @author Sebastian Thomschke
+ */
+public class ParallelElementValidationTest {
+
+   protected static class LineItem {
+      @NotNull
+      public String name;
+
+      @Min(1)
+      public int quantity;
+
+      LineItem(final int index) {
+         // every 7th item has no name, every 11th item an invalid quantity
+         name = index % 7 == 0 ? null : "item" + index;
+         quantity = index % 11 == 0 ? 0 : 1;
+      }
+   }
+
+   protected static class Order {
+      @AssertValid
+      public List<LineItem> items = new ArrayList<>();
+
+      @NotNull(appliesTo = {ConstraintTarget.KEYS, ConstraintTarget.VALUES})
+      public Map<String, String> attributes = new LinkedHashMap<>();
+
+      @NotNull(appliesTo = ConstraintTarget.VALUES)
+      public String[] tags;
+   }
+
+   protected static class Address {
+      @NotNull
+      public String city;
+   }
+
+   protected static class Parcel {
+      @AssertValid
+      public Address destination;
+
+      Parcel(final Address destination) {
+         this.destination = destination;
+      }
+   }
+
+   protected static class Shipment {
+      @AssertValid
+      public List<Parcel> parcels = new ArrayList<>();
+
+      @AssertValid
+      public Address destination = new Address();
+   }
+
+   private static Order createOrder(final int size) {
+      final Order order = new Order();
+      order.tags = new String[size];
+      for (int i = 0; i < size; i++) {
+         order.items.add(new LineItem(i));
+         order.attributes.put("key" + i, i % 13 == 0 ? null : "value" + i);
+         order.tags[i] = i % 17 == 0 ? null : "tag" + i;
+      }
+      return order;
+   }
+
+   private static List<String> toStrings(final List<ConstraintViolation> violations) {
+      return violations.stream().map(cv -> cv.getContextPathAsString() + ":" + cv.getCheckName()).collect(Collectors.toList());
+   }
+
+   @Test
+   public void testObjectReferencedFromSeveralChunks() {
+      final Shipment shipment = new Shipment();
+      for (int i = 0; i < 100; i++) {
+         shipment.parcels.add(new Parcel(shipment.destination));
+      }
+
+      final Validator validator = new Validator();
+      final ForkJoinPool pool = new ForkJoinPool(4);
+      try {
+         validator.setParallelValidationPool(pool);
+         validator.setParallelValidationChunkSize(5);
+         validator.setParallelElementValidationThreshold(10);
+
+         // the shared address is reported once, neither per chunk nor again by the shipment, always via the first parcel
+         for (int i = 0; i < 20; i++) {
+            final List<ConstraintViolation> violations = validator.validate(shipment);
+            assertThat(violations).hasSize(1);
+            assertThat(violations.get(0).getCheckName()).isEqualTo("net.sf.oval.constraint.NotNullCheck");
+            assertThat(violations.get(0).getContextPathAsString()).isEqualTo(Shipment.class.getName() + ".parcels[0].destination.city");
+         }
+
+         assertThat(validator.validate(shipment)).hasSize(1);
+         assertThat(validator.validate(shipment)).hasSameSizeAs(new Validator().validate(shipment));
+      } finally {
+         pool.shutdown();
+      }
+   }
+
+   @Test
+   public void testParallelElementValidation() {
+      final Order order = createOrder(500);
+
+      final Validator sequentialValidator = new Validator();
+      final List<String> expected = toStrings(sequentialValidator.validate(order));
+      assertThat(expected).hasSize(72 + 46 + 39 + 30);
+
+      final Validator validator = new Validator();
+      final ForkJoinPool pool = new ForkJoinPool(4);
+      try {
+         validator.setParallelValidationPool(pool);
+         validator.setParallelValidationChunkSize(7);
+         validator.setParallelElementValidationThreshold(10);
+         assertThat(validator.getParallelElementValidationThreshold()).isEqualTo(10);
+
+         // violations are reported in the same order as by the sequential validation
+         assertThat(toStrings(validator.validate(order))).isEqualTo(expected);
+
+         assertThat(toStrings(validator.validate(order, FailFastMode.afterViolations(5)))).isEqualTo(toStrings(sequentialValidator.validate(
+            order, FailFastMode.afterViolations(5))));
+
+         assertThat(validator.isValid(order)).isFalse();
+         assertThat(validator.isValid(createOrder(1))).isFalse();
+         assertThat(validator.validate(createOrder(1))).hasSize(4);
+      } finally {
+         pool.shutdown();
+      }
+
+      try {
+         validator.setParallelElementValidationThreshold(-1);
+         failBecauseExceptionWasNotThrown(IllegalArgumentException.class);
+      } catch (final IllegalArgumentException ex) {
+         // expected
+      }
+   }
+}
@@ -15,12 +15,21 @@ import java.util.List;
 
 import org.junit.Test;
 
+import net.sf.oval.ConstraintTarget;
 import net.sf.oval.ConstraintViolation;
 import net.sf.oval.Validator;
+import net.sf.oval.constraint.Digits;
 import net.sf.oval.constraint.Max;
+import net.sf.oval.constraint.MaxCheck;
 import net.sf.oval.constraint.MaxSize;
+import net.sf.oval.constraint.Min;
+import net.sf.oval.constraint.MinCheck;
 import net.sf.oval.constraint.MinSize;
+import net.sf.oval.constraint.NotNegative;
 import net.sf.oval.constraint.NotNull;
+import net.sf.oval.constraint.Range;
+import net.sf.oval.context.IterableElementContext;
+import net.sf.oval.context.OValContext;
 
 /**
  * @author Sebastian Thomschke
@@ -35,6 +44,118 @@ public class PrimitiveArrayTest {
 
    }
 
+   public static class Samples {
+      @Range(min = 0, max = 100, message = "RANGE")
+      public long[] counts = {0, 50, 100};
+
+      @Min(value = 0.5, message = "MIN")
+      @Digits(maxFraction = 2, message = "DIGITS")
+      public double[] ratios = {0.5, 0.75};
+
+      @NotNegative(message = "NOT_NEGATIVE")
+      public short[] deltas = {0, 1};
+   }
+
+   public static class Values {
+      public int[] primitives = {11, 12};
+      public Integer[] boxed = {11, 12};
+   }
+
+   /**
+    * only active for even numbers
+    */
+   public static class EvenNumbersMaxCheck extends MaxCheck {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      public boolean isActive(final Object validatedObject, final Object valueToValidate, final Validator validator) {
+         return !(valueToValidate instanceof Number) || ((Number) valueToValidate).longValue() % 2 == 0;
+      }
+   }
+
+   /**
+    * additionally rejects the number 7
+    */
+   public static class NotSevenMinCheck extends MinCheck {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      public boolean isSatisfied(final Object validatedObject, final Object valueToValidate, final OValContext context,
+         final Validator validator) {
+         return !Integer.valueOf(7).equals(valueToValidate) && super.isSatisfied(validatedObject, valueToValidate, context, validator);
+      }
+   }
+
+   @Test
+   public void testCheckOverridingIsSatisfied() throws Exception {
+      final Validator validator = new Validator();
+      for (final String fieldName : new String[] {"primitives", "boxed"}) {
+         final NotSevenMinCheck check = new NotSevenMinCheck();
+         check.setMin(0);
+         check.setAppliesTo(ConstraintTarget.VALUES);
+         validator.addChecks(Values.class.getField(fieldName), check);
+      }
+
+      final Values values = new Values();
+      values.primitives = new int[] {7, 8};
+      values.boxed = new Integer[] {7, 8};
+      final List<ConstraintViolation> violations = validator.validate(values);
+      assertThat(violations).hasSize(2);
+      assertThat(violations.get(0).getInvalidValue()).isEqualTo(7);
+      assertThat(violations.get(1).getInvalidValue()).isEqualTo(7);
+   }
+
+   @Test
+   public void testCheckOverridingIsActive() throws Exception {
+      final Validator validator = new Validator();
+      for (final String fieldName : new String[] {"primitives", "boxed"}) {
+         final EvenNumbersMaxCheck check = new EvenNumbersMaxCheck();
+         check.setMax(10);
+         check.setAppliesTo(ConstraintTarget.VALUES);
+         validator.addChecks(Values.class.getField(fieldName), check);
+      }
+
+      final List<ConstraintViolation> violations = validator.validate(new Values());
+      assertThat(violations).hasSize(2);
+      assertThat(violations.get(0).getInvalidValue()).isEqualTo(12);
+      assertThat(violations.get(1).getInvalidValue()).isEqualTo(12);
+   }
+
+   @Test
+   public void testPrimitiveArrayElements() {
+      final Validator validator = new Validator();
+      final Samples samples = new Samples();
+
+      assertThat(validator.validate(samples)).isEmpty();
+      assertThat(validator.isValid(samples)).isTrue();
+
+      samples.counts = new long[] {0, 101, 50, -1};
+      samples.ratios = new double[] {0.4, 0.755};
+      samples.deltas = new short[] {-1};
+
+      final List<ConstraintViolation> violations = validator.validate(samples);
+      assertThat(violations).hasSize(5);
+
+      assertThat(violations.get(0).getMessage()).isEqualTo("RANGE");
+      assertThat(violations.get(0).getInvalidValue()).isEqualTo(101L);
+      assertThat(violations.get(0).getContextPath()).hasSize(2);
+      assertThat(((IterableElementContext) violations.get(0).getContextPath().get(1)).getElementIndex()).isEqualTo(1);
+      assertThat(violations.get(1).getMessage()).isEqualTo("RANGE");
+      assertThat(violations.get(1).getInvalidValue()).isEqualTo(-1L);
+      assertThat(((IterableElementContext) violations.get(1).getContextPath().get(1)).getElementIndex()).isEqualTo(3);
+
+      assertThat(violations.get(2).getMessage()).isEqualTo("MIN");
+      assertThat(violations.get(2).getInvalidValue()).isEqualTo(0.4);
+      assertThat(violations.get(3).getMessage()).isEqualTo("DIGITS");
+      assertThat(violations.get(3).getInvalidValue()).isEqualTo(0.755);
+      assertThat(((IterableElementContext) violations.get(3).getContextPath().get(1)).getElementIndex()).isEqualTo(1);
+
+      assertThat(violations.get(4).getMessage()).isEqualTo("NOT_NEGATIVE");
+      assertThat(violations.get(4).getInvalidValue()).isEqualTo((short) -1);
+
+      assertThat(validator.isValid(samples)).isFalse();
+   }
+
    @Test
    public void testPrimitiveArray() {
       final Validator validator = new Validator();
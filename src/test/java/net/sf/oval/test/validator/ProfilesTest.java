@@ -18,12 +18,22 @@ import org.junit.Test;
 import net.sf.oval.ConstraintViolation;
 import net.sf.oval.Validator;
 import net.sf.oval.constraint.NotNull;
+import net.sf.oval.constraint.NotNullCheck;
+import net.sf.oval.internal.ValidationPlan;
+import net.sf.oval.internal.util.ReflectionUtils;
 
 /**
  * @author Sebastian Thomschke
  */
 public class ProfilesTest {
 
+   protected static class TestValidator extends Validator {
+      @Override
+      protected ValidationPlan getValidationPlan(final Class<?> clazz) {
+         return super.getValidationPlan(clazz);
+      }
+   }
+
    protected static class Person {
       @NotNull(/* profiles = { "default" }, */message = "NOTNULL")
       public String city;
@@ -190,4 +200,66 @@ public class ProfilesTest {
          assertThat(violations).isEmpty();
       }
    }
+
+   @Test
+   public void testManyProfiles() {
+      final Validator validator = new Validator();
+
+      // register more profiles than can be represented by dedicated bits of the profile mask
+      for (int i = 0; i < 100; i++) {
+         validator.disableProfile("many" + i);
+      }
+
+      final Person p = new Person();
+      assertThat(validator.validate(p)).hasSize(4);
+      assertThat(validator.validate(p, "many99", "profile1")).hasSize(1);
+
+      final NotNullCheck check = new NotNullCheck();
+      check.setProfiles("many98");
+      validator.addChecks(ReflectionUtils.getField(Person.class, "city"), check);
+      try {
+         assertThat(validator.validate(p)).hasSize(4);
+         assertThat(validator.validate(p, "many98")).hasSize(1);
+         validator.enableProfile("many98");
+         assertThat(validator.validate(p)).hasSize(5);
+      } finally {
+         validator.removeChecks(ReflectionUtils.getField(Person.class, "city"), check);
+      }
+   }
+
+   @Test
+   public void testProfilesOfCheckChanged() {
+      final Validator validator = new Validator();
+      validator.disableAllProfiles();
+      validator.enableProfile("profileA");
+
+      final NotNullCheck check = new NotNullCheck();
+      check.setProfiles("profileB");
+      validator.addChecks(ReflectionUtils.getField(Person.class, "city"), check);
+
+      final Person p = new Person();
+      assertThat(validator.validate(p)).isEmpty();
+
+      // changing the profiles of an already registered check must be reflected by subsequent validations
+      check.setProfiles("profileA");
+      assertThat(validator.validate(p)).hasSize(1);
+
+      check.setProfiles("profileB");
+      assertThat(validator.validate(p)).isEmpty();
+   }
+
+   @Test
+   public void testProfilesOfUnrelatedCheckChanged() {
+      final TestValidator validator = new TestValidator();
+
+      final Person p = new Person();
+      assertThat(validator.validate(p)).hasSize(4);
+      final ValidationPlan plan = validator.getValidationPlan(Person.class);
+
+      // configuring checks not held by the class must not outdate its validation plan
+      final NotNullCheck check = new NotNullCheck();
+      check.setProfiles("profileA");
+      assertThat(validator.validate(p)).hasSize(4);
+      assertThat(validator.getValidationPlan(Person.class)).isSameAs(plan);
+   }
 }
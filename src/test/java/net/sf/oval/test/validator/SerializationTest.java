@@ -18,12 +18,14 @@ import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
 import java.util.List;
+import java.util.Locale;
 
 import org.junit.Test;
 
 import net.sf.oval.ConstraintViolation;
 import net.sf.oval.Validator;
 import net.sf.oval.constraint.Length;
+import net.sf.oval.localization.locale.ThreadLocalLocaleProvider;
 
 /**
  * @author Sebastian Thomschke
@@ -56,6 +58,31 @@ public class SerializationTest {
       // deserialize the violations
       final ByteArrayInputStream bis = new ByteArrayInputStream(bytes);
       final ObjectInputStream ois = new ObjectInputStream(bis);
-      assertThat(ois.readObject() instanceof List).isTrue();
+      final Object deserialized = ois.readObject();
+      assertThat(deserialized instanceof List).isTrue();
+
+      // the lazily rendered message must have been serialized
+      final ConstraintViolation violation = (ConstraintViolation) ((List<?>) deserialized).get(0);
+      assertThat(violation.getMessage()).isEqualTo(violations.get(0).getMessage());
+   }
+
+   @Test
+   public void testLazyMessageLocale() {
+      final Validator validator = new Validator();
+
+      final Person p = new Person();
+      p.firstName = "123456";
+
+      final ThreadLocalLocaleProvider localeProvider = (ThreadLocalLocaleProvider) Validator.getLocaleProvider();
+      localeProvider.setLocale(Locale.GERMAN);
+      final List<ConstraintViolation> violations;
+      try {
+         violations = validator.validate(p);
+      } finally {
+         localeProvider.setLocale(null);
+      }
+
+      // the message is rendered using the locale that was active during validation
+      assertThat(violations.get(0).getMessage()).startsWith(Person.class.getName() + ".firstName hat keine L").endsWith("von 0 bis 5 Zeichen");
    }
 }
@@ -0,0 +1,114 @@
+/*********************************************************************
+ * Copyright 2005-2020 by Sebastian Thomschke and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *********************************************************************/
+package net.sf.oval.test.validator;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SortedMap;
+import java.util.concurrent.ForkJoinPool;
+
+import org.junit.Test;
+
+import net.sf.oval.ConstraintViolation;
+import net.sf.oval.Validator;
+import net.sf.oval.constraint.AssertValid;
+import net.sf.oval.constraint.NotNull;
+
+/**
+ * @author Sebastian Thomschke
+ */
+public class ValidateAllTest {
+
+   protected static class Address {
+      @NotNull
+      public String street;
+   }
+
+   protected static class Person {
+      @NotNull
+      public String name;
+
+      @AssertValid
+      public Address address = new Address();
+
+      Person(final String name, final String street) {
+         this.name = name;
+         address.street = street;
+      }
+   }
+
+   private static List<Person> createPersons(final int count) {
+      final List<Person> persons = new ArrayList<>(count);
+      for (int i = 0; i < count; i++) {
+         // every third person has no name, every fifth person has no street
+         persons.add(new Person(i % 3 == 0 ? null : "name" + i, i % 5 == 0 ? null : "street" + i));
+      }
+      return persons;
+   }
+
+   private static void assertViolations(final SortedMap<Integer, List<ConstraintViolation>> violationsByIndex, final List<Person> persons) {
+      for (int i = 0; i < persons.size(); i++) {
+         final int expected = (i % 3 == 0 ? 1 : 0) + (i % 5 == 0 ? 1 : 0);
+         if (expected == 0) {
+            assertThat(violationsByIndex).doesNotContainKey(i);
+         } else {
+            assertThat(violationsByIndex.get(i)).hasSize(expected);
+            assertThat(violationsByIndex.get(i).get(0).getValidatedObject()).isSameAs(persons.get(i));
+         }
+      }
+   }
+
+   @Test
+   public void testValidateAll() {
+      final Validator validator = new Validator();
+      final List<Person> persons = createPersons(50);
+
+      final SortedMap<Integer, List<ConstraintViolation>> violationsByIndex = validator.validateAll(persons);
+      assertThat(violationsByIndex.firstKey()).isEqualTo(0);
+      assertViolations(violationsByIndex, persons);
+
+      assertViolations(validator.validateAll(persons.toArray()), persons);
+      assertViolations(validator.validateAll((Iterable<Person>) persons::iterator), persons);
+
+      assertThat(validator.validateAll(new Object[0])).isEmpty();
+      assertThat(validator.validateAll(createPersons(1).subList(0, 0))).isEmpty();
+   }
+
+   @Test
+   public void testValidateAllParallel() {
+      final Validator validator = new Validator();
+      final ForkJoinPool pool = new ForkJoinPool(4);
+      try {
+         validator.setParallelValidationPool(pool);
+         validator.setParallelValidationChunkSize(7);
+         assertThat(validator.getParallelValidationPool()).isSameAs(pool);
+
+         final List<Person> persons = createPersons(1000);
+         final SortedMap<Integer, List<ConstraintViolation>> violationsByIndex = validator.validateAll(persons);
+         // indices divisible by 3 or 5: 334 + 200 - 67
+         assertThat(violationsByIndex).hasSize(467);
+         assertViolations(violationsByIndex, persons);
+      } finally {
+         pool.shutdown();
+      }
+
+      validator.setParallelValidationPool(null);
+      assertThat(validator.getParallelValidationPool()).isSameAs(ForkJoinPool.commonPool());
+
+      try {
+         validator.setParallelValidationChunkSize(0);
+         failBecauseExceptionWasNotThrown(IllegalArgumentException.class);
+      } catch (final IllegalArgumentException ex) {
+         // expected
+      }
+   }
+}
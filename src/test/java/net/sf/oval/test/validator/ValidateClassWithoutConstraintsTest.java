@@ -17,6 +17,9 @@ import org.junit.Test;
 
 import net.sf.oval.ConstraintViolation;
 import net.sf.oval.Validator;
+import net.sf.oval.constraint.AssertValid;
+import net.sf.oval.constraint.NotNull;
+import net.sf.oval.constraint.NotNullCheck;
 import net.sf.oval.configuration.xml.XMLConfigurer;
 
 /**
@@ -35,6 +38,32 @@ public class ValidateClassWithoutConstraintsTest {
       }
    }
 
+   protected static class Money {
+      protected String currency;
+   }
+
+   protected static class Order {
+      @NotNull
+      @AssertValid
+      protected Money amount = new Money();
+   }
+
+   @Test
+   public void testAssertValidOnClassWithoutConstraints() throws Exception {
+      final Validator v = new Validator();
+      final Order order = new Order();
+
+      assertThat(v.validate(order)).isEmpty();
+      assertThat(v.validate(order.amount)).isEmpty();
+
+      // adding a check to the previously unconstrained class must be respected
+      v.addChecks(Money.class.getDeclaredField("currency"), new NotNullCheck());
+      final List<ConstraintViolation> violations = v.validate(order);
+      assertThat(violations).hasSize(1);
+      assertThat(violations.get(0).getValidatedObject()).isSameAs(order);
+      assertThat(violations.get(0).getContextPath()).hasSize(2);
+   }
+
    @Test
    public void testClassWithoutConstraints() {
       final TestEntity e = new TestEntity(null);
@@ -0,0 +1,132 @@
+/*********************************************************************
+ * Copyright 2005-2020 by Sebastian Thomschke and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *********************************************************************/
+package net.sf.oval.test.validator;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.Test;
+
+import net.sf.oval.ConstraintTarget;
+import net.sf.oval.ConstraintViolation;
+import net.sf.oval.ValidationBudget;
+import net.sf.oval.Validator;
+import net.sf.oval.constraint.CheckWith;
+import net.sf.oval.constraint.CheckWithCheck.SimpleCheck;
+import net.sf.oval.constraint.NotNull;
+import net.sf.oval.context.OValContext;
+import net.sf.oval.exception.ValidationBudgetExceededException;
+
+/**
+ * @author Sebastian Thomschke
+ */
+public class ValidationBudgetTest {
+
+   public static class SlowCheck implements SimpleCheck {
+      private static final long serialVersionUID = 1L;
+
+      @Override
+      public boolean isSatisfied(final Object validatedObject, final Object value, final OValContext context, final Validator validator) {
+         try {
+            Thread.sleep(50);
+         } catch (final InterruptedException ex) {
+            Thread.currentThread().interrupt();
+         }
+         return true;
+      }
+   }
+
+   protected static class Person {
+      @NotNull
+      public String firstName;
+
+      @NotNull
+      public String lastName;
+
+      @NotNull(appliesTo = ConstraintTarget.VALUES)
+      public List<String> nickNames = Arrays.asList(null, null, null);
+   }
+
+   protected static class SlowEntity {
+      @CheckWith(SlowCheck.class)
+      public String a = "a";
+
+      @CheckWith(SlowCheck.class)
+      public String b = "b";
+
+      @CheckWith(SlowCheck.class)
+      public String c = "c";
+   }
+
+   @Test
+   public void testCheckBudget() {
+      final Validator validator = new Validator();
+      assertThat(validator.validate(new Person())).hasSize(5);
+
+      // each field check and each element evaluation counts against the budget
+      assertThat(validator.validate(new Person(), ValidationBudget.ofChecks(6))).hasSize(5);
+
+      try {
+         validator.validate(new Person(), ValidationBudget.ofChecks(3));
+         failBecauseExceptionWasNotThrown(ValidationBudgetExceededException.class);
+      } catch (final ValidationBudgetExceededException ex) {
+         final ConstraintViolation[] violations = ex.getConstraintViolations();
+         assertThat(violations).hasSize(2);
+         assertThat(violations[0].getContextPathAsString()).endsWith("firstName");
+         assertThat(violations[1].getContextPathAsString()).endsWith("lastName");
+      }
+
+      validator.setValidationBudget(ValidationBudget.ofChecks(2));
+      assertThatThrownBy(() -> validator.validate(new Person())).isInstanceOf(ValidationBudgetExceededException.class);
+      // an invalid object is detected within the budget
+      assertThat(validator.isValid(new Person())).isFalse();
+
+      final Person validPerson = new Person();
+      validPerson.firstName = "John";
+      validPerson.lastName = "Doe";
+      validPerson.nickNames = Arrays.asList("a", "b", "c");
+      assertThatThrownBy(() -> validator.isValid(validPerson)).isInstanceOf(ValidationBudgetExceededException.class);
+
+      validator.setValidationBudget(ValidationBudget.UNLIMITED);
+      assertThat(validator.validate(new Person())).hasSize(5);
+   }
+
+   @Test
+   public void testTimeBudget() {
+      final Validator validator = new Validator();
+      assertThat(validator.validate(new SlowEntity())).isEmpty();
+
+      validator.setValidationBudget(ValidationBudget.ofTime(10, TimeUnit.MILLISECONDS));
+      final long start = System.nanoTime();
+      try {
+         validator.validate(new SlowEntity());
+         failBecauseExceptionWasNotThrown(ValidationBudgetExceededException.class);
+      } catch (final ValidationBudgetExceededException ex) {
+         assertThat(ex.getConstraintViolations()).isEmpty();
+      }
+      // the validation is aborted after the first slow check
+      assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start)).isLessThan(150);
+   }
+
+   @Test
+   public void testBudgetArguments() {
+      assertThatThrownBy(() -> ValidationBudget.ofChecks(0)).isInstanceOf(IllegalArgumentException.class);
+      assertThatThrownBy(() -> ValidationBudget.ofTime(0, TimeUnit.SECONDS)).isInstanceOf(IllegalArgumentException.class);
+
+      final ValidationBudget budget = ValidationBudget.ofChecks(10).withTimeout(1, TimeUnit.SECONDS);
+      assertThat(budget.getMaxChecks()).isEqualTo(10);
+      assertThat(budget.getTimeoutNanos()).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+      assertThat(budget.isUnlimited()).isFalse();
+      assertThat(ValidationBudget.UNLIMITED.isUnlimited()).isTrue();
+   }
+}
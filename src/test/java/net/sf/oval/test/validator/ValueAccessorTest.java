@@ -0,0 +1,145 @@
+/*********************************************************************
+ * Copyright 2005-2020 by Sebastian Thomschke and others.
+ *
+ * This program and the accompanying materials are made
+ * available under the terms of the Eclipse Public License 2.0
+ * which is available at https://www.eclipse.org/legal/epl-2.0/
+ *
+ * SPDX-License-Identifier: EPL-2.0
+ *********************************************************************/
+package net.sf.oval.test.validator;
+
+import static org.assertj.core.api.Assertions.*;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.Test;
+
+import net.sf.oval.Validator;
+import net.sf.oval.accessor.ValueAccessor;
+import net.sf.oval.accessor.ValueAccessorFactory;
+import net.sf.oval.accessor.ValueAccessorFactoryMethodHandleImpl;
+import net.sf.oval.accessor.ValueAccessorFactoryReflectionImpl;
+import net.sf.oval.configuration.annotation.IsInvariant;
+import net.sf.oval.constraint.AssertValid;
+import net.sf.oval.constraint.NotNull;
+import net.sf.oval.exception.InvokingMethodFailedException;
+import net.sf.oval.exception.ValidationFailedException;
+import net.sf.oval.internal.ContextCache;
+
+/**
+ * @author Sebastian Thomschke
+ */
+public class ValueAccessorTest {
+
+   protected static class TestEntity {
+      @NotNull
+      private String privateField;
+
+      @NotNull
+      private int primitiveField = 1;
+
+      @NotNull(target = "name")
+      private TestEntity child;
+
+      private String name;
+
+      @IsInvariant
+      @NotNull
+      private String getName() {
+         return name;
+      }
+   }
+
+   protected static class FailingGetterEntity {
+      @IsInvariant
+      @NotNull
+      public String getValue() {
+         throw new IllegalStateException();
+      }
+   }
+
+   protected static class Parent {
+      @AssertValid
+      private TestEntity entity = new TestEntity();
+   }
+
+   private static final class CountingValueAccessorFactory implements ValueAccessorFactory {
+      final AtomicInteger created = new AtomicInteger();
+
+      @Override
+      public ValueAccessor createValueAccessor(final Field field) {
+         created.incrementAndGet();
+         return ValueAccessorFactoryReflectionImpl.INSTANCE.createValueAccessor(field);
+      }
+
+      @Override
+      public ValueAccessor createValueAccessor(final Method method) {
+         created.incrementAndGet();
+         return ValueAccessorFactoryReflectionImpl.INSTANCE.createValueAccessor(method);
+      }
+   }
+
+   private static void _assertValidation(final Validator validator) {
+      final TestEntity entity = new TestEntity();
+      assertThat(validator.validate(entity)).hasSize(2);
+
+      entity.privateField = "a";
+      entity.name = "b";
+      assertThat(validator.validate(entity)).isEmpty();
+
+      entity.child = new TestEntity();
+      assertThat(validator.validate(entity)).hasSize(1);
+
+      entity.child.name = "c";
+      assertThat(validator.validate(entity)).isEmpty();
+
+      final Parent parent = new Parent();
+      assertThat(validator.validate(parent)).isNotEmpty();
+      parent.entity = entity;
+      assertThat(validator.validate(parent)).isEmpty();
+   }
+
+   @Test
+   public void testMethodHandleAccessors() throws Exception {
+      assertThat(Validator.getValueAccessorFactory()).isSameAs(ValueAccessorFactoryMethodHandleImpl.INSTANCE);
+      _assertValidation(new Validator());
+
+      final TestEntity entity = new TestEntity();
+      entity.primitiveField = 5;
+      final ValueAccessor accessor = ContextCache.getFieldContext(TestEntity.class.getDeclaredField("primitiveField")).getValueAccessor();
+      assertThat(accessor.getValue(entity)).isEqualTo(5);
+      assertThat(ContextCache.getFieldContext(TestEntity.class.getDeclaredField("primitiveField")).getValueAccessor()).isSameAs(accessor);
+   }
+
+   @Test
+   public void testFailingGetter() {
+      final Validator validator = new Validator();
+      try {
+         validator.validate(new FailingGetterEntity());
+         failBecauseExceptionWasNotThrown(ValidationFailedException.class);
+      } catch (final ValidationFailedException ex) {
+         assertThat(ex.getCause()).isInstanceOf(InvokingMethodFailedException.class);
+         assertThat(ex.getCause().getCause()).isInstanceOf(IllegalStateException.class);
+      }
+   }
+
+   @Test
+   public void testCustomValueAccessorFactory() {
+      final CountingValueAccessorFactory factory = new CountingValueAccessorFactory();
+      Validator.setValueAccessorFactory(factory);
+      try {
+         _assertValidation(new Validator());
+         final int created = factory.created.get();
+         assertThat(created).isPositive();
+
+         // accessors are cached
+         _assertValidation(new Validator());
+         assertThat(factory.created.get()).isEqualTo(created);
+      } finally {
+         Validator.setValueAccessorFactory(ValueAccessorFactoryMethodHandleImpl.INSTANCE);
+      }
+   }
+}